@@ -15,9 +15,7 @@ package org.openhab.binding.knx.internal.client;
 import static org.openhab.binding.knx.internal.dpt.DPTUtil.NORMALIZED_DPT;
 
 import java.time.Duration;
-import java.util.Set;
 import java.util.concurrent.CancellationException;
-import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
@@ -107,7 +105,7 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
     private @Nullable ScheduledFuture<?> busJob;
     private @Nullable ScheduledFuture<?> connectJob;
 
-    private final Set<GroupAddressListener> groupAddressListeners = new CopyOnWriteArraySet<>();
+    private final GroupAddressDispatcher groupAddressDispatcher;
     private final LinkedBlockingQueue<ReadDatapoint> readDatapoints = new LinkedBlockingQueue<>();
 
     @FunctionalInterface
@@ -151,6 +149,7 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
         this.readingPause = readingPause;
         this.readRetriesLimit = readRetriesLimit;
         this.knxScheduler = knxScheduler;
+        this.groupAddressDispatcher = new GroupAddressDispatcher(knxScheduler);
         this.statusUpdateCallback = statusUpdateCallback;
         this.commandExtensionData = commandExtensionData;
         this.openhabSecurity = openhabSecurity;
@@ -341,13 +340,8 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
         IndividualAddress source = event.getSourceAddr();
         byte[] asdu = event.getASDU();
         logger.trace("Received a {} telegram from '{}' to '{}' with value '{}'", task, source, destination, asdu);
-        boolean isHandled = false;
-        for (GroupAddressListener listener : groupAddressListeners) {
-            if (listener.listensTo(destination)) {
-                isHandled = true;
-                knxScheduler.schedule(() -> action.apply(listener, source, destination, asdu), 0, TimeUnit.SECONDS);
-            }
-        }
+        boolean isHandled = groupAddressDispatcher.dispatch(destination,
+                listener -> action.apply(listener, source, destination, asdu));
         // Store information about unhandled GAs, can be shown on console using knx:list-unknown-ga.
         // The idea is to store GA, message type, and size as key. The value counts the number of packets.
         if (!isHandled) {
@@ -520,12 +514,12 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
 
     @Override
     public final void registerGroupAddressListener(GroupAddressListener listener) {
-        groupAddressListeners.add(listener);
+        groupAddressDispatcher.register(listener);
     }
 
     @Override
     public final void unregisterGroupAddressListener(GroupAddressListener listener) {
-        groupAddressListeners.remove(listener);
+        groupAddressDispatcher.unregister(listener);
     }
 
     @Override
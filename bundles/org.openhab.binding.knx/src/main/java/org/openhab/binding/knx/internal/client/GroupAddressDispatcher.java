@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.knx.internal.client;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.binding.knx.internal.handler.GroupAddressListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import tuwien.auto.calimero.GroupAddress;
+
+/**
+ * Passes received telegrams to the {@link GroupAddressListener}s of their destination.
+ *
+ * Listeners are indexed by the group addresses they reported when they were registered, so a telegram is only
+ * offered to the listeners of its destination. Notifications of each listener are queued and run one after another
+ * by a single task, which keeps them in the order the telegrams were received and avoids scheduling a task per
+ * telegram on a busy bus.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+class GroupAddressDispatcher {
+    private final Logger logger = LoggerFactory.getLogger(GroupAddressDispatcher.class);
+
+    private final Executor executor;
+    private final Map<GroupAddress, Set<ListenerQueue>> index = new ConcurrentHashMap<>();
+    // guarded by itself
+    private final Map<GroupAddressListener, ListenerQueue> queues = new HashMap<>();
+
+    /**
+     * @param executor executor running the notifications of the listeners
+     */
+    GroupAddressDispatcher(Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Register a listener for its current group addresses. Registering a listener again updates its group addresses.
+     *
+     * @param listener the listener
+     */
+    void register(GroupAddressListener listener) {
+        synchronized (queues) {
+            ListenerQueue queue = queues.computeIfAbsent(listener, ListenerQueue::new);
+            removeFromIndex(queue);
+            queue.groupAddresses = Set.copyOf(listener.getGroupAddresses());
+            queue.groupAddresses
+                    .forEach(address -> index.computeIfAbsent(address, a -> new CopyOnWriteArraySet<>()).add(queue));
+        }
+    }
+
+    /**
+     * Remove a listener. Notifications that are queued already are still passed to it.
+     *
+     * @param listener the listener
+     */
+    void unregister(GroupAddressListener listener) {
+        synchronized (queues) {
+            ListenerQueue queue = queues.remove(listener);
+            if (queue != null) {
+                removeFromIndex(queue);
+            }
+        }
+    }
+
+    private void removeFromIndex(ListenerQueue queue) {
+        queue.groupAddresses.forEach(address -> index.computeIfPresent(address, (a, listeners) -> {
+            listeners.remove(queue);
+            return listeners.isEmpty() ? null : listeners;
+        }));
+        queue.groupAddresses = Set.of();
+    }
+
+    /**
+     * Queue a notification for all listeners of a group address
+     *
+     * @param destination the destination of the telegram
+     * @param notification the notification of a listener
+     * @return whether there is a listener for the group address
+     */
+    boolean dispatch(GroupAddress destination, Consumer<GroupAddressListener> notification) {
+        Set<ListenerQueue> listeners = index.get(destination);
+        if (listeners == null) {
+            return false;
+        }
+        boolean isHandled = false;
+        for (ListenerQueue queue : listeners) {
+            // the listener might have dropped the group address without registering again
+            if (queue.listener.listensTo(destination)) {
+                isHandled = true;
+                queue.add(notification);
+            }
+        }
+        return isHandled;
+    }
+
+    private class ListenerQueue {
+        private final GroupAddressListener listener;
+        private final Queue<Consumer<GroupAddressListener>> pending = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        // guarded by queues
+        private Set<GroupAddress> groupAddresses = Set.of();
+
+        ListenerQueue(GroupAddressListener listener) {
+            this.listener = listener;
+        }
+
+        void add(Consumer<GroupAddressListener> notification) {
+            pending.add(notification);
+            if (scheduled.compareAndSet(false, true)) {
+                executor.execute(this::run);
+            }
+        }
+
+        private void run() {
+            do {
+                Consumer<GroupAddressListener> notification;
+                while ((notification = pending.poll()) != null) {
+                    try {
+                        notification.accept(listener);
+                    } catch (RuntimeException e) {
+                        logger.warn("Listener {} failed to process a telegram", listener, e);
+                    }
+                }
+                scheduled.set(false);
+                // a notification might have been added after the queue was found empty, but before the flag was reset
+            } while (!pending.isEmpty() && scheduled.compareAndSet(false, true));
+        }
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.knx.internal.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.knx.internal.handler.GroupAddressListener;
+
+import tuwien.auto.calimero.GroupAddress;
+import tuwien.auto.calimero.IndividualAddress;
+
+/**
+ * Tests for {@link GroupAddressDispatcher}
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+class GroupAddressDispatcherTest {
+
+    private static class TestListener implements GroupAddressListener {
+        private final Set<GroupAddress> groupAddresses = new HashSet<>();
+        private final List<GroupAddress> received = new ArrayList<>();
+
+        TestListener(GroupAddress... groupAddresses) {
+            this.groupAddresses.addAll(List.of(groupAddresses));
+        }
+
+        @Override
+        public boolean listensTo(GroupAddress destination) {
+            return groupAddresses.contains(destination);
+        }
+
+        @Override
+        public Set<GroupAddress> getGroupAddresses() {
+            return groupAddresses;
+        }
+
+        @Override
+        public void onGroupWrite(AbstractKNXClient client, IndividualAddress source, GroupAddress destination,
+                byte[] asdu) {
+        }
+
+        @Override
+        public void onGroupRead(AbstractKNXClient client, IndividualAddress source, GroupAddress destination,
+                byte[] asdu) {
+        }
+
+        @Override
+        public void onGroupReadResponse(AbstractKNXClient client, IndividualAddress source, GroupAddress destination,
+                byte[] asdu) {
+        }
+    }
+
+    private static GroupAddress address(int index) {
+        return new GroupAddress(index >> 11, (index >> 8) & 0x7, index & 0xff);
+    }
+
+    private static boolean dispatch(GroupAddressDispatcher dispatcher, GroupAddress destination) {
+        return dispatcher.dispatch(destination, listener -> ((TestListener) listener).received.add(destination));
+    }
+
+    @Test
+    void onlyListenersOfTheDestinationAreNotified() {
+        GroupAddressDispatcher dispatcher = new GroupAddressDispatcher(Runnable::run);
+        TestListener first = new TestListener(address(1), address(2));
+        TestListener second = new TestListener(address(2));
+        dispatcher.register(first);
+        dispatcher.register(second);
+
+        assertTrue(dispatch(dispatcher, address(1)));
+        assertTrue(dispatch(dispatcher, address(2)));
+        assertFalse(dispatch(dispatcher, address(3)));
+
+        assertEquals(List.of(address(1), address(2)), first.received);
+        assertEquals(List.of(address(2)), second.received);
+    }
+
+    @Test
+    void registeringAgainUpdatesTheGroupAddresses() {
+        GroupAddressDispatcher dispatcher = new GroupAddressDispatcher(Runnable::run);
+        TestListener listener = new TestListener(address(1));
+        dispatcher.register(listener);
+
+        listener.groupAddresses.clear();
+        listener.groupAddresses.add(address(2));
+        // not registered again yet, the listener is asked before it is notified
+        assertFalse(dispatch(dispatcher, address(1)));
+        assertFalse(dispatch(dispatcher, address(2)));
+
+        dispatcher.register(listener);
+        assertTrue(dispatch(dispatcher, address(2)));
+        assertEquals(List.of(address(2)), listener.received);
+
+        dispatcher.unregister(listener);
+        assertFalse(dispatch(dispatcher, address(2)));
+    }
+
+    @Test
+    void notificationsOfAListenerAreBatched() {
+        List<Runnable> tasks = new ArrayList<>();
+        GroupAddressDispatcher dispatcher = new GroupAddressDispatcher(tasks::add);
+        TestListener listener = new TestListener(address(1), address(2));
+        dispatcher.register(listener);
+
+        dispatch(dispatcher, address(1));
+        dispatch(dispatcher, address(2));
+        dispatch(dispatcher, address(1));
+        assertEquals(1, tasks.size());
+        assertTrue(listener.received.isEmpty());
+
+        tasks.remove(0).run();
+        assertEquals(List.of(address(1), address(2), address(1)), listener.received);
+
+        dispatch(dispatcher, address(2));
+        assertEquals(1, tasks.size());
+    }
+
+    /**
+     * Replays a trace of telegrams on a line with many devices and compares the notifications with those of asking
+     * every listener.
+     */
+    @Test
+    void replayedTraceIsDispatchedLikeAskingEveryListener() {
+        Random random = new Random(42);
+        GroupAddressDispatcher dispatcher = new GroupAddressDispatcher(Runnable::run);
+        List<TestListener> listeners = new ArrayList<>();
+        for (int i = 0; i < 400; i++) {
+            TestListener listener = new TestListener();
+            int groupAddressCount = 1 + random.nextInt(8);
+            for (int j = 0; j < groupAddressCount; j++) {
+                listener.groupAddresses.add(address(random.nextInt(2000)));
+            }
+            listeners.add(listener);
+            dispatcher.register(listener);
+        }
+
+        List<GroupAddress> trace = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            // a few busy addresses, and some that are not configured at all
+            trace.add(address(random.nextInt(10) < 3 ? random.nextInt(20) : random.nextInt(2500)));
+        }
+
+        int unhandled = 0;
+        for (GroupAddress destination : trace) {
+            boolean expectedHandled = listeners.stream().anyMatch(listener -> listener.listensTo(destination));
+            boolean handled = dispatch(dispatcher, destination);
+            assertEquals(expectedHandled, handled);
+            if (!handled) {
+                unhandled++;
+            }
+        }
+        assertTrue(unhandled > 0);
+
+        for (TestListener listener : listeners) {
+            List<GroupAddress> expected = trace.stream().filter(listener::listensTo).toList();
+            assertEquals(expected, listener.received);
+        }
+    }
+}
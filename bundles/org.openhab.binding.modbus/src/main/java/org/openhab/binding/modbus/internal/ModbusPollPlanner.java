@@ -0,0 +1,305 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.modbus.internal;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.core.io.transport.modbus.AsyncModbusFailure;
+import org.openhab.core.io.transport.modbus.AsyncModbusReadResult;
+import org.openhab.core.io.transport.modbus.BitArray;
+import org.openhab.core.io.transport.modbus.ModbusCommunicationInterface;
+import org.openhab.core.io.transport.modbus.ModbusConstants;
+import org.openhab.core.io.transport.modbus.ModbusFailureCallback;
+import org.openhab.core.io.transport.modbus.ModbusReadCallback;
+import org.openhab.core.io.transport.modbus.ModbusReadFunctionCode;
+import org.openhab.core.io.transport.modbus.ModbusReadRequestBlueprint;
+import org.openhab.core.io.transport.modbus.ModbusRegisterArray;
+import org.openhab.core.io.transport.modbus.PollTask;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Merges the regular polls of the pollers of one endpoint into as few requests as possible.
+ *
+ * Polls of the same slave, function code and refresh interval are sorted by their start address. Neighbouring polls
+ * are read with a single request as long as the gap between them is at most the configured number of registers or
+ * bits, and the request stays within the protocol limits. The response is sliced, and each poller receives the data
+ * of its own request, as if it had been polled on its own.
+ *
+ * The plan of a group of polls is updated whenever a poll is registered or unregistered. Merged requests that do not
+ * change keep polling.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class ModbusPollPlanner {
+
+    /**
+     * Regular poll of a single poller, registered with the planner
+     */
+    public static final class PlannedPoll {
+        private final ModbusReadRequestBlueprint request;
+        private final ModbusReadCallback resultCallback;
+        private final ModbusFailureCallback<ModbusReadRequestBlueprint> failureCallback;
+
+        private PlannedPoll(ModbusReadRequestBlueprint request, ModbusReadCallback resultCallback,
+                ModbusFailureCallback<ModbusReadRequestBlueprint> failureCallback) {
+            this.request = request;
+            this.resultCallback = resultCallback;
+            this.failureCallback = failureCallback;
+        }
+
+        public ModbusReadRequestBlueprint getRequest() {
+            return request;
+        }
+
+        private int getStart() {
+            return request.getReference();
+        }
+
+        private int getEnd() {
+            return request.getReference() + request.getDataLength();
+        }
+    }
+
+    private record GroupKey(int slaveId, ModbusReadFunctionCode functionCode, long pollPeriodMillis) {
+    }
+
+    private final Logger logger = LoggerFactory.getLogger(ModbusPollPlanner.class);
+
+    private final ModbusCommunicationInterface comms;
+    private final int maxGap;
+    private final AtomicLong savedRequests = new AtomicLong();
+
+    // guarded by this
+    private final Map<GroupKey, List<PlannedPoll>> polls = new HashMap<>();
+    // guarded by this, merged polls by their members
+    private final Map<GroupKey, Map<List<PlannedPoll>, PollTask>> tasks = new HashMap<>();
+    private boolean closed;
+
+    /**
+     * @param comms communication interface of the endpoint
+     * @param maxGap maximum number of registers or bits between two polls that are still read with one request
+     */
+    public ModbusPollPlanner(ModbusCommunicationInterface comms, int maxGap) {
+        this.comms = comms;
+        this.maxGap = Math.max(0, maxGap);
+    }
+
+    /**
+     * Register a regular poll. The callbacks receive results and failures of the given request, also if it is read
+     * together with other requests.
+     *
+     * @param request request to poll
+     * @param pollPeriodMillis poll interval, in milliseconds
+     * @param resultCallback callback for results
+     * @param failureCallback callback for failures
+     * @return handle to unregister the poll
+     */
+    public synchronized PlannedPoll registerRegularPoll(ModbusReadRequestBlueprint request, long pollPeriodMillis,
+            ModbusReadCallback resultCallback, ModbusFailureCallback<ModbusReadRequestBlueprint> failureCallback) {
+        PlannedPoll poll = new PlannedPoll(request, resultCallback, failureCallback);
+        if (closed) {
+            logger.debug("Poll planner is closed, not polling {}", request);
+            return poll;
+        }
+        GroupKey key = new GroupKey(request.getUnitID(), request.getFunctionCode(), pollPeriodMillis);
+        polls.computeIfAbsent(key, k -> new ArrayList<>()).add(poll);
+        replan(key);
+        return poll;
+    }
+
+    /**
+     * Unregister a regular poll
+     *
+     * @param poll poll returned by {@link #registerRegularPoll}
+     * @return whether the poll was registered
+     */
+    public synchronized boolean unregisterRegularPoll(PlannedPoll poll) {
+        for (Map.Entry<GroupKey, List<PlannedPoll>> entry : polls.entrySet()) {
+            if (entry.getValue().remove(poll)) {
+                replan(entry.getKey());
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Unregister all polls. Polls registered later are ignored.
+     */
+    public synchronized void close() {
+        closed = true;
+        tasks.values().forEach(groupTasks -> groupTasks.values().forEach(comms::unregisterRegularPoll));
+        tasks.clear();
+        polls.clear();
+    }
+
+    /**
+     * @return the number of requests that were not sent since the planner was created, because their data was read
+     *         with the request of another poller
+     */
+    public long getSavedRequestCount() {
+        return savedRequests.get();
+    }
+
+    private void replan(GroupKey key) {
+        List<PlannedPoll> groupPolls = polls.getOrDefault(key, List.of());
+        List<List<PlannedPoll>> plan = plan(groupPolls, maxGap, getMaxLength(key.functionCode()));
+        Map<List<PlannedPoll>, PollTask> oldTasks = tasks.getOrDefault(key, Map.of());
+        Map<List<PlannedPoll>, PollTask> newTasks = new HashMap<>();
+        for (List<PlannedPoll> members : plan) {
+            PollTask task = oldTasks.get(members);
+            if (task == null) {
+                task = register(members, key.pollPeriodMillis());
+            }
+            newTasks.put(members, task);
+        }
+        oldTasks.forEach((members, task) -> {
+            if (!newTasks.containsKey(members)) {
+                comms.unregisterRegularPoll(task);
+            }
+        });
+        if (newTasks.isEmpty()) {
+            polls.remove(key);
+            tasks.remove(key);
+        } else {
+            tasks.put(key, newTasks);
+        }
+        logger.debug("Polling {} requests of slave {} with function code {} every {} ms with {} requests",
+                groupPolls.size(), key.slaveId(), key.functionCode(), key.pollPeriodMillis(), plan.size());
+    }
+
+    private PollTask register(List<PlannedPoll> members, long pollPeriodMillis) {
+        if (members.size() == 1) {
+            PlannedPoll poll = members.get(0);
+            return comms.registerRegularPoll(poll.request, pollPeriodMillis, 0, poll.resultCallback,
+                    poll.failureCallback);
+        }
+        MergedPoll merged = new MergedPoll(members);
+        logger.debug("Reading {} requests with {}", members.size(), merged.request);
+        return comms.registerRegularPoll(merged.request, pollPeriodMillis, 0, merged, merged);
+    }
+
+    /**
+     * Split polls into groups that are read with one request each
+     *
+     * @param polls polls of one slave and function code
+     * @param maxGap maximum gap between two polls of a group
+     * @param maxLength maximum number of registers or bits of a request
+     * @return groups of polls, sorted by their start address
+     */
+    static List<List<PlannedPoll>> plan(List<PlannedPoll> polls, int maxGap, int maxLength) {
+        List<PlannedPoll> sorted = new ArrayList<>(polls);
+        sorted.sort(Comparator.comparingInt(PlannedPoll::getStart).thenComparingInt(PlannedPoll::getEnd));
+        List<List<PlannedPoll>> plan = new ArrayList<>();
+        List<PlannedPoll> current = new ArrayList<>();
+        int start = 0;
+        int end = 0;
+        for (PlannedPoll poll : sorted) {
+            if (!current.isEmpty() && poll.getStart() - end <= maxGap
+                    && Math.max(end, poll.getEnd()) - start <= maxLength) {
+                end = Math.max(end, poll.getEnd());
+            } else {
+                if (!current.isEmpty()) {
+                    plan.add(List.copyOf(current));
+                    current.clear();
+                }
+                start = poll.getStart();
+                end = poll.getEnd();
+            }
+            current.add(poll);
+        }
+        if (!current.isEmpty()) {
+            plan.add(List.copyOf(current));
+        }
+        return plan;
+    }
+
+    private static int getMaxLength(ModbusReadFunctionCode functionCode) {
+        switch (functionCode) {
+            case READ_COILS:
+            case READ_INPUT_DISCRETES:
+                return ModbusConstants.MAX_BITS_READ_COUNT;
+            default:
+                return ModbusConstants.MAX_REGISTERS_READ_COUNT;
+        }
+    }
+
+    /**
+     * Single request covering the requests of several polls, which passes each poll its part of the response
+     */
+    private class MergedPoll implements ModbusReadCallback, ModbusFailureCallback<ModbusReadRequestBlueprint> {
+        private final List<PlannedPoll> members;
+        private final ModbusReadRequestBlueprint request;
+
+        MergedPoll(List<PlannedPoll> members) {
+            this.members = members;
+            ModbusReadRequestBlueprint first = members.get(0).request;
+            int start = first.getReference();
+            int end = members.stream().mapToInt(PlannedPoll::getEnd).max().orElse(start);
+            int maxTries = members.stream().mapToInt(poll -> poll.request.getMaxTries()).max().orElse(1);
+            this.request = new ModbusReadRequestBlueprint(first.getUnitID(), first.getFunctionCode(), start,
+                    end - start, maxTries);
+        }
+
+        @Override
+        public void handle(AsyncModbusReadResult result) {
+            savedRequests.addAndGet(members.size() - 1);
+            for (PlannedPoll poll : members) {
+                int offset = poll.getStart() - request.getReference();
+                int length = poll.request.getDataLength();
+                try {
+                    result.getRegisters().ifPresent(registers -> poll.resultCallback
+                            .handle(new AsyncModbusReadResult(poll.request, slice(registers, offset, length))));
+                    result.getBits().ifPresent(bits -> poll.resultCallback
+                            .handle(new AsyncModbusReadResult(poll.request, slice(bits, offset, length))));
+                } catch (RuntimeException e) {
+                    logger.warn("Error passing the result of {} to the poll of {}", request, poll.request, e);
+                }
+            }
+        }
+
+        @Override
+        public void handle(AsyncModbusFailure<ModbusReadRequestBlueprint> failure) {
+            for (PlannedPoll poll : members) {
+                try {
+                    poll.failureCallback.handle(new AsyncModbusFailure<>(poll.request, failure.getCause()));
+                } catch (RuntimeException e) {
+                    logger.warn("Error passing the failure of {} to the poll of {}", request, poll.request, e);
+                }
+            }
+        }
+
+        private ModbusRegisterArray slice(ModbusRegisterArray registers, int offset, int length) {
+            byte[] bytes = registers.getBytes();
+            int from = Math.min(offset * 2, bytes.length);
+            return new ModbusRegisterArray(Arrays.copyOfRange(bytes, from, Math.min(from + length * 2, bytes.length)));
+        }
+
+        private BitArray slice(BitArray bits, int offset, int length) {
+            BitArray slice = new BitArray(Math.max(0, Math.min(length, bits.size() - offset)));
+            for (int i = 0; i < slice.size(); i++) {
+                slice.setBit(i, bits.getBit(offset + i));
+            }
+            return slice;
+        }
+    }
+}
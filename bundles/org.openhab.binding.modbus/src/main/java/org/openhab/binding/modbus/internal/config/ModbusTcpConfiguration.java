@@ -34,6 +34,8 @@ public class ModbusTcpConfiguration {
     private int connectTimeoutMillis = 10_000;
     private boolean enableDiscovery;
     private boolean rtuEncoded;
+    private boolean mergePolls;
+    private int mergePollsMaxGap = 10;
 
     public boolean getRtuEncoded() {
         return rtuEncoded;
@@ -118,4 +120,20 @@ public class ModbusTcpConfiguration {
     public void setDiscoveryEnabled(boolean enableDiscovery) {
         this.enableDiscovery = enableDiscovery;
     }
+
+    public boolean isMergePolls() {
+        return mergePolls;
+    }
+
+    public void setMergePolls(boolean mergePolls) {
+        this.mergePolls = mergePolls;
+    }
+
+    public int getMergePollsMaxGap() {
+        return mergePollsMaxGap;
+    }
+
+    public void setMergePollsMaxGap(int mergePollsMaxGap) {
+        this.mergePollsMaxGap = mergePollsMaxGap;
+    }
 }
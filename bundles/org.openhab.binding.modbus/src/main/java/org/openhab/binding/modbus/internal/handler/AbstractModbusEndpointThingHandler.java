@@ -17,6 +17,7 @@ import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.modbus.handler.EndpointNotInitializedException;
 import org.openhab.binding.modbus.handler.ModbusEndpointThingHandler;
 import org.openhab.binding.modbus.internal.ModbusConfigurationException;
+import org.openhab.binding.modbus.internal.ModbusPollPlanner;
 import org.openhab.core.io.transport.modbus.ModbusCommunicationInterface;
 import org.openhab.core.io.transport.modbus.ModbusManager;
 import org.openhab.core.io.transport.modbus.endpoint.EndpointPoolConfiguration;
@@ -46,8 +47,11 @@ public abstract class AbstractModbusEndpointThingHandler<E extends ModbusSlaveEn
     protected volatile @Nullable E endpoint;
     protected ModbusManager modbusManager;
     protected volatile @NonNullByDefault({}) EndpointPoolConfiguration poolConfiguration;
+    protected volatile boolean mergePolls;
+    protected volatile int mergePollsMaxGap;
     private final Logger logger = LoggerFactory.getLogger(AbstractModbusEndpointThingHandler.class);
     private @NonNullByDefault({}) ModbusCommunicationInterface comms;
+    private volatile @Nullable ModbusPollPlanner pollPlanner;
 
     public AbstractModbusEndpointThingHandler(Bridge bridge, ModbusManager modbusManager) {
         super(bridge);
@@ -76,6 +80,7 @@ public abstract class AbstractModbusEndpointThingHandler<E extends ModbusSlaveEn
                 }
                 try {
                     comms = modbusManager.newModbusCommunicationInterface(endpoint, poolConfiguration);
+                    pollPlanner = mergePolls ? new ModbusPollPlanner(comms, mergePollsMaxGap) : null;
                     updateStatus(ThingStatus.ONLINE);
                 } catch (IllegalArgumentException e) {
                     updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.CONFIGURATION_ERROR,
@@ -94,6 +99,12 @@ public abstract class AbstractModbusEndpointThingHandler<E extends ModbusSlaveEn
     @Override
     public void dispose() {
         try {
+            ModbusPollPlanner localPollPlanner = pollPlanner;
+            if (localPollPlanner != null) {
+                logger.debug("Poll planner of {} saved {} requests", thing.getUID(),
+                        localPollPlanner.getSavedRequestCount());
+                localPollPlanner.close();
+            }
             ModbusCommunicationInterface localComms = comms;
             if (localComms != null) {
                 localComms.close();
@@ -101,6 +112,7 @@ public abstract class AbstractModbusEndpointThingHandler<E extends ModbusSlaveEn
         } catch (Exception e) {
             logger.warn("Error closing modbus communication interface", e);
         } finally {
+            pollPlanner = null;
             comms = null;
         }
     }
@@ -110,6 +122,11 @@ public abstract class AbstractModbusEndpointThingHandler<E extends ModbusSlaveEn
         return comms;
     }
 
+    @Override
+    public @Nullable ModbusPollPlanner getPollPlanner() {
+        return pollPlanner;
+    }
+
     @Nullable
     public E getEndpoint() {
         return endpoint;
@@ -119,7 +136,8 @@ public abstract class AbstractModbusEndpointThingHandler<E extends ModbusSlaveEn
     public abstract int getSlaveId() throws EndpointNotInitializedException;
 
     /**
-     * Must be overriden by subclasses to initialize config, endpoint, and poolConfiguration
+     * Must be overriden by subclasses to initialize config, endpoint, and poolConfiguration. Subclasses may also set
+     * mergePolls and mergePollsMaxGap.
      */
     protected abstract void configure() throws ModbusConfigurationException;
 
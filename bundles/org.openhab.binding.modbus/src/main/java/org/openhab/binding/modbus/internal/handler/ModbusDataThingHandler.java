@@ -17,6 +17,7 @@ import static org.openhab.binding.modbus.internal.ModbusBindingConstantsInternal
 import java.math.BigDecimal;
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -132,6 +133,14 @@ public class ModbusDataThingHandler extends BaseThingHandler {
     private volatile Optional<Integer> writeStart = Optional.empty();
     private volatile Optional<Integer> writeSubIndex = Optional.empty();
     private volatile int pollStart;
+    // extraction plan, relative to pollStart: index passed to extractStateFromRegisters, and polled words (or bits)
+    // the value depends on
+    private volatile int readExtractIndex;
+    private volatile int readDataOffset;
+    private volatile int readDataLength;
+    private volatile boolean readTransformationFree;
+    private volatile byte @Nullable [] lastReadData;
+    private volatile long lastReadProcessedMillis;
     private volatile int slaveId;
     private volatile @Nullable ModbusReadFunctionCode functionCode;
     private volatile @Nullable ModbusReadRequestBlueprint readRequest;
@@ -173,6 +182,8 @@ public class ModbusDataThingHandler extends BaseThingHandler {
             // We *schedule* the REFRESH to avoid dead-lock situation where poller is trying update this
             // data thing with cached data (resulting in deadlock in two synchronized methods: this (handleCommand) and
             // onRegisters.
+            // Channels are updated with the refreshed data, even if it did not change
+            lastReadData = null;
             scheduler.schedule(() -> poller.refresh(), 0, TimeUnit.SECONDS);
             return;
         } else if (hasConfigurationError()) {
@@ -466,6 +477,12 @@ public class ModbusDataThingHandler extends BaseThingHandler {
         writeStart = Optional.empty();
         writeSubIndex = Optional.empty();
         pollStart = 0;
+        readExtractIndex = 0;
+        readDataOffset = 0;
+        readDataLength = 0;
+        readTransformationFree = false;
+        lastReadData = null;
+        lastReadProcessedMillis = 0;
         slaveId = 0;
         comms = null;
         functionCode = null;
@@ -570,7 +587,9 @@ public class ModbusDataThingHandler extends BaseThingHandler {
                 throw new ModbusConfigurationException(errmsg);
             }
         }
-        readTransformation = new ModbusTransformation(config.getReadTransform());
+        ModbusTransformation localReadTransformation = new ModbusTransformation(config.getReadTransform());
+        readTransformation = localReadTransformation;
+        readTransformationFree = localReadTransformation.isIdentityTransform();
         validateReadIndex();
     }
 
@@ -746,6 +765,19 @@ public class ModbusDataThingHandler extends BaseThingHandler {
                     readIndex.get());
             throw new ModbusConfigurationException(errmsg);
         }
+
+        // Precompute the extraction, see onRegisters
+        readDataOffset = readIndex.get() - pollStart;
+        if (bitQuery) {
+            readExtractIndex = readDataOffset;
+            readDataLength = 1;
+        } else if (valueTypeBitCount >= 16) {
+            readExtractIndex = readDataOffset;
+            readDataLength = valueTypeBitCount / 16;
+        } else {
+            readExtractIndex = readDataOffset * (16 / valueTypeBitCount) + readSubIndex.orElse(0);
+            readDataLength = 1;
+        }
     }
 
     private void validateWriteIndex() throws ModbusConfigurationException {
@@ -814,6 +846,12 @@ public class ModbusDataThingHandler extends BaseThingHandler {
         if (readValueType == null) {
             return;
         }
+        byte[] bytes = registers.getBytes();
+        int readDataEnd = (readDataOffset + readDataLength) * 2;
+        if (readDataOffset >= 0 && readDataEnd <= bytes.length
+                && isReadDataUnchanged(Arrays.copyOfRange(bytes, readDataOffset * 2, readDataEnd))) {
+            return;
+        }
         State numericState;
 
         // extractIndex:
@@ -825,16 +863,8 @@ public class ModbusDataThingHandler extends BaseThingHandler {
         // with <16 bit types, this is the index of the N'th 1-bit/8-bit item. Each register has 16/2 items,
         // respectively.
         // with >=16 bit types, this is index of first register
-        int extractIndex;
-        if (readValueType.getBits() >= 16) {
-            // Invariant, checked in initialize
-            assert readSubIndex.orElse(0) == 0;
-            extractIndex = readIndex.get() - pollStart;
-        } else {
-            int subIndex = readSubIndex.orElse(0);
-            int itemsPerRegister = 16 / readValueType.getBits();
-            extractIndex = (readIndex.get() - pollStart) * itemsPerRegister + subIndex;
-        }
+        // The index is computed in initialize, see validateReadIndex
+        int extractIndex = readExtractIndex;
         numericState = ModbusBitUtilities.extractStateFromRegisters(registers, extractIndex, readValueType)
                 .map(state -> (State) state).orElse(UnDefType.UNDEF);
         boolean boolValue = !numericState.equals(DecimalType.ZERO);
@@ -851,7 +881,10 @@ public class ModbusDataThingHandler extends BaseThingHandler {
         } else if (!isReadEnabled) {
             return;
         }
-        boolean boolValue = bits.getBit(readIndex.get() - pollStart);
+        boolean boolValue = bits.getBit(readExtractIndex);
+        if (isReadDataUnchanged(new byte[] { (byte) (boolValue ? 1 : 0) })) {
+            return;
+        }
         DecimalType numericState = boolValue ? new DecimalType(BigDecimal.ONE) : DecimalType.ZERO;
         Map<ChannelUID, State> values = processUpdatedValue(numericState, boolValue);
         logger.debug(
@@ -859,12 +892,44 @@ public class ModbusDataThingHandler extends BaseThingHandler {
                 thing.getUID(), values, readValueType, readIndex, numericState, boolValue, bits, request);
     }
 
+    /**
+     * Check whether the polled data this thing reads is the same as with the previous poll, so that decoding it and
+     * updating the channels can be skipped.
+     *
+     * Data is never skipped when channels are updated on every poll (updateUnchangedValuesEveryMillis of zero), when
+     * updateUnchangedValuesEveryMillis has expired since the data was last processed, or when a transformation is
+     * used, as the transformation might not depend on the data alone. The lastReadSuccess channel is updated anyway.
+     *
+     * @param data polled words or bits this thing depends on
+     * @return whether processing the data can be skipped
+     */
+    private boolean isReadDataUnchanged(byte[] data) {
+        long now = System.currentTimeMillis();
+        if (readTransformationFree && updateUnchangedValuesEveryMillis > 0L
+                && now - lastReadProcessedMillis <= updateUnchangedValuesEveryMillis
+                && Arrays.equals(data, lastReadData)) {
+            updateStatusIfChanged(ThingStatus.ONLINE);
+            ChannelUID lastReadSuccessUID = getChannelUID(ModbusBindingConstantsInternal.CHANNEL_LAST_READ_SUCCESS);
+            if (isLinked(lastReadSuccessUID)) {
+                DateTimeType state = new DateTimeType();
+                updateExpiredChannel(now, lastReadSuccessUID, state);
+                channelLastState.put(lastReadSuccessUID, state);
+            }
+            return true;
+        }
+        lastReadData = data;
+        lastReadProcessedMillis = now;
+        return false;
+    }
+
     private synchronized void onError(ModbusReadRequestBlueprint request, Exception error) {
         if (hasConfigurationError()) {
             return;
         } else if (!isReadEnabled) {
             return;
         }
+        // Data received after the error updates all channels
+        lastReadData = null;
         if (error instanceof ModbusConnectionException) {
             logger.trace("Thing {} '{}' had {} error on read: {}", getThing().getUID(), getThing().getLabel(),
                     error.getClass().getSimpleName(), error.toString());
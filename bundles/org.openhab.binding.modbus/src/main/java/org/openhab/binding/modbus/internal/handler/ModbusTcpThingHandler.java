@@ -61,6 +61,9 @@ public class ModbusTcpThingHandler
         poolConfiguration.setInterConnectDelayMillis(config.getTimeBetweenReconnectMillis());
         poolConfiguration.setInterTransactionDelayMillis(config.getTimeBetweenTransactionsMillis());
         poolConfiguration.setReconnectAfterMillis(config.getReconnectAfterMillis());
+
+        this.mergePolls = config.isMergePolls();
+        this.mergePollsMaxGap = config.getMergePollsMaxGap();
     }
 
     @SuppressWarnings("null") // since Optional.map is always called with NonNull argument
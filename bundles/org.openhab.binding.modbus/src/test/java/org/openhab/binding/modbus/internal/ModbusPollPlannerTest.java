@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.modbus.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.modbus.internal.ModbusPollPlanner.PlannedPoll;
+import org.openhab.core.io.transport.modbus.AsyncModbusFailure;
+import org.openhab.core.io.transport.modbus.AsyncModbusReadResult;
+import org.openhab.core.io.transport.modbus.ModbusCommunicationInterface;
+import org.openhab.core.io.transport.modbus.ModbusFailureCallback;
+import org.openhab.core.io.transport.modbus.ModbusReadCallback;
+import org.openhab.core.io.transport.modbus.ModbusReadFunctionCode;
+import org.openhab.core.io.transport.modbus.ModbusReadRequestBlueprint;
+import org.openhab.core.io.transport.modbus.ModbusRegisterArray;
+import org.openhab.core.io.transport.modbus.PollTask;
+
+/**
+ * Tests for {@link ModbusPollPlanner}
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class ModbusPollPlannerTest {
+
+    private record Registration(ModbusReadRequestBlueprint request, ModbusReadCallback resultCallback,
+            ModbusFailureCallback<ModbusReadRequestBlueprint> failureCallback, PollTask task) {
+    }
+
+    private final List<Registration> registrations = new ArrayList<>();
+    private @NonNullByDefault({}) ModbusCommunicationInterface comms;
+
+    @BeforeEach
+    public void setUp() {
+        comms = mock(ModbusCommunicationInterface.class);
+        when(comms.registerRegularPoll(any(), anyLong(), anyLong(), any(), any())).thenAnswer(invocation -> {
+            PollTask task = mock(PollTask.class);
+            registrations.add(new Registration(invocation.getArgument(0), invocation.getArgument(3),
+                    invocation.getArgument(4), task));
+            return task;
+        });
+        when(comms.unregisterRegularPoll(any())).thenAnswer(invocation -> registrations
+                .removeIf(registration -> registration.task() == invocation.getArgument(0)));
+    }
+
+    private static ModbusReadRequestBlueprint request(ModbusReadFunctionCode functionCode, int start, int length) {
+        return new ModbusReadRequestBlueprint(1, functionCode, start, length, 3);
+    }
+
+    private static ModbusReadRequestBlueprint holding(int start, int length) {
+        return request(ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, start, length);
+    }
+
+    private void assertRegistered(int... startsAndLengths) {
+        assertEquals(startsAndLengths.length / 2, registrations.size());
+        List<Registration> sorted = new ArrayList<>(registrations);
+        sorted.sort((a, b) -> Integer.compare(a.request().getReference(), b.request().getReference()));
+        for (int i = 0; i < sorted.size(); i++) {
+            assertEquals(startsAndLengths[2 * i], sorted.get(i).request().getReference());
+            assertEquals(startsAndLengths[2 * i + 1], sorted.get(i).request().getDataLength());
+        }
+    }
+
+    @Test
+    public void testNeighbouringPollsAreMerged() {
+        ModbusPollPlanner planner = new ModbusPollPlanner(comms, 2);
+        List<AsyncModbusReadResult> first = new ArrayList<>();
+        List<AsyncModbusReadResult> second = new ArrayList<>();
+        ModbusReadRequestBlueprint firstRequest = holding(0, 4);
+        ModbusReadRequestBlueprint secondRequest = holding(6, 2);
+
+        planner.registerRegularPoll(firstRequest, 1000, first::add, failure -> fail());
+        planner.registerRegularPoll(secondRequest, 1000, second::add, failure -> fail());
+
+        assertRegistered(0, 8);
+        Registration merged = registrations.get(0);
+        merged.resultCallback().handle(
+                new AsyncModbusReadResult(merged.request(), new ModbusRegisterArray(0, 1, 2, 3, 4, 5, 6, 7)));
+
+        assertEquals(1, first.size());
+        assertSame(firstRequest, first.get(0).getRequest());
+        assertArrayEquals(new ModbusRegisterArray(0, 1, 2, 3).getBytes(),
+                first.get(0).getRegisters().orElseThrow().getBytes());
+        assertEquals(1, second.size());
+        assertSame(secondRequest, second.get(0).getRequest());
+        assertArrayEquals(new ModbusRegisterArray(6, 7).getBytes(),
+                second.get(0).getRegisters().orElseThrow().getBytes());
+        assertEquals(1, planner.getSavedRequestCount());
+    }
+
+    @Test
+    public void testFailureIsPassedToAllPolls() {
+        ModbusPollPlanner planner = new ModbusPollPlanner(comms, 0);
+        List<AsyncModbusFailure<ModbusReadRequestBlueprint>> failures = new ArrayList<>();
+        ModbusReadRequestBlueprint firstRequest = holding(0, 4);
+        ModbusReadRequestBlueprint secondRequest = holding(2, 4);
+
+        planner.registerRegularPoll(firstRequest, 1000, result -> fail(), failures::add);
+        planner.registerRegularPoll(secondRequest, 1000, result -> fail(), failures::add);
+
+        assertRegistered(0, 6);
+        Registration merged = registrations.get(0);
+        Exception cause = new Exception("Something failed!");
+        merged.failureCallback().handle(new AsyncModbusFailure<>(merged.request(), cause));
+
+        assertEquals(2, failures.size());
+        assertSame(firstRequest, failures.get(0).getRequest());
+        assertSame(secondRequest, failures.get(1).getRequest());
+        assertSame(cause, failures.get(0).getCause());
+    }
+
+    @Test
+    public void testPollsAreMergedWithinLimits() {
+        ModbusPollPlanner planner = new ModbusPollPlanner(comms, 2);
+
+        planner.registerRegularPoll(holding(0, 4), 1000, result -> {
+        }, failure -> {
+        });
+        // gap too large
+        planner.registerRegularPoll(holding(10, 4), 1000, result -> {
+        }, failure -> {
+        });
+        // merged request would exceed 125 registers
+        planner.registerRegularPoll(holding(15, 122), 1000, result -> {
+        }, failure -> {
+        });
+        // different refresh interval
+        planner.registerRegularPoll(holding(4, 2), 500, result -> {
+        }, failure -> {
+        });
+        // different function code
+        planner.registerRegularPoll(request(ModbusReadFunctionCode.READ_INPUT_REGISTERS, 4, 2), 1000, result -> {
+        }, failure -> {
+        });
+
+        assertRegistered(0, 4, 4, 2, 4, 2, 10, 4, 15, 122);
+        assertEquals(0, planner.getSavedRequestCount());
+    }
+
+    @Test
+    public void testUnregisterReplansGroup() {
+        ModbusPollPlanner planner = new ModbusPollPlanner(comms, 2);
+        planner.registerRegularPoll(holding(0, 4), 1000, result -> {
+        }, failure -> {
+        });
+        PlannedPoll second = planner.registerRegularPoll(holding(5, 4), 1000, result -> {
+        }, failure -> {
+        });
+        assertRegistered(0, 9);
+
+        assertTrue(planner.unregisterRegularPoll(second));
+        assertRegistered(0, 4);
+        assertFalse(planner.unregisterRegularPoll(second));
+
+        planner.close();
+        assertRegistered();
+    }
+}
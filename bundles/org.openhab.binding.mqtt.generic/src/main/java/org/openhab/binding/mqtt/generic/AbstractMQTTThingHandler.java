@@ -25,6 +25,7 @@ import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.mqtt.generic.tools.StateTopicDispatcher;
 import org.openhab.binding.mqtt.generic.utils.FutureCollector;
 import org.openhab.binding.mqtt.generic.values.OnOffValue;
 import org.openhab.binding.mqtt.generic.values.Value;
@@ -81,6 +82,8 @@ public abstract class AbstractMQTTThingHandler extends BaseThingHandler
     private final int subscribeTimeout;
 
     protected @Nullable MqttBrokerConnection connection;
+    // One subscription per state topic, shared by all channel states of the topic
+    protected final StateTopicDispatcher stateTopicDispatcher = new StateTopicDispatcher();
 
     private AtomicBoolean messageReceived = new AtomicBoolean(false);
     private Map<String, @Nullable ChannelState> availabilityStates = new ConcurrentHashMap<>();
@@ -328,6 +331,7 @@ public abstract class AbstractMQTTThingHandler extends BaseThingHandler
                         public void postChannelCommand(ChannelUID channelUID, Command value) {
                         }
                     }, transformation, null);
+            state.setStateTopicDispatcher(stateTopicDispatcher);
             MqttBrokerConnection connection = getConnection();
             if (connection != null) {
                 state.start(connection, scheduler, 0);
@@ -12,7 +12,6 @@
  */
 package org.openhab.binding.mqtt.generic;
 
-import java.nio.charset.StandardCharsets;
 import java.util.IllegalFormatException;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
@@ -22,6 +21,9 @@ import java.util.concurrent.TimeUnit;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.mqtt.generic.tools.ReceivedMessage;
+import org.openhab.binding.mqtt.generic.tools.SimpleJsonPath;
+import org.openhab.binding.mqtt.generic.tools.StateTopicDispatcher;
 import org.openhab.binding.mqtt.generic.values.TextValue;
 import org.openhab.binding.mqtt.generic.values.Value;
 import org.openhab.core.io.transport.mqtt.MqttBrokerConnection;
@@ -39,6 +41,8 @@ import org.openhab.core.types.TypeParser;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.gson.JsonElement;
+
 /**
  * This object consists of a {@link Value}, which is updated on the respective MQTT topic change.
  * Updates to the value are propagated via the {@link ChannelStateUpdateListener}.
@@ -61,6 +65,8 @@ public class ChannelState implements MqttMessageSubscriber {
     private @Nullable MqttBrokerConnection connection;
     protected final ChannelTransformation incomingTransformation;
     protected final ChannelTransformation outgoingTransformation;
+    private @Nullable SimpleJsonPath incomingJsonPath;
+    private @Nullable StateTopicDispatcher stateTopicDispatcher;
     private @Nullable ChannelStateUpdateListener channelStateUpdateListener;
     protected boolean hasSubscribed = false;
     private @Nullable ScheduledFuture<?> scheduledFuture;
@@ -81,6 +87,7 @@ public class ChannelState implements MqttMessageSubscriber {
         this(config, channelUID, cachedValue, channelStateUpdateListener,
                 new ChannelTransformation(config.transformationPattern),
                 new ChannelTransformation(config.transformationPatternOut));
+        this.incomingJsonPath = SimpleJsonPath.fromTransformation(config.transformationPattern);
     }
 
     /**
@@ -145,6 +152,16 @@ public class ChannelState implements MqttMessageSubscriber {
      */
     @Override
     public void processMessage(String topic, byte[] payload) {
+        processMessage(topic, new ReceivedMessage(payload));
+    }
+
+    /**
+     * Incoming message from the {@link StateTopicDispatcher}, shared with the other channels of the state topic
+     *
+     * @param topic The topic. Is the same as the field stateTopic.
+     * @param message The message. Its payload must be UTF8 encoded text or binary data.
+     */
+    public void processMessage(String topic, ReceivedMessage message) {
         final ChannelStateUpdateListener channelStateUpdateListener = this.channelStateUpdateListener;
         if (channelStateUpdateListener == null) {
             logger.warn("MQTT message received for topic {}, but MessageSubscriber object hasn't been started!", topic);
@@ -152,16 +169,16 @@ public class ChannelState implements MqttMessageSubscriber {
         }
 
         if (cachedValue.isBinary()) {
-            cachedValue.update(payload);
+            cachedValue.update(message.getPayload());
             channelStateUpdateListener.updateChannelState(channelUID, cachedValue.getChannelState());
             receivedOrTimeout();
             return;
         }
 
         // String value: Apply transformations
-        String strValue = new String(payload, StandardCharsets.UTF_8);
+        String strValue = message.getText();
         if (incomingTransformation.isPresent()) {
-            Optional<String> transformedValue = incomingTransformation.apply(strValue);
+            Optional<String> transformedValue = transformIncoming(message);
             if (transformedValue.isEmpty()) {
                 logger.debug("Transformation '{}' returned null on '{}', discarding message", strValue,
                         incomingTransformation);
@@ -225,6 +242,19 @@ public class ChannelState implements MqttMessageSubscriber {
         receivedOrTimeout();
     }
 
+    private Optional<String> transformIncoming(ReceivedMessage message) {
+        final SimpleJsonPath incomingJsonPath = this.incomingJsonPath;
+        if (incomingJsonPath != null) {
+            // read simple paths from the JSON document that is parsed once for all channels of the topic
+            JsonElement json = message.getJson();
+            String value = json != null ? incomingJsonPath.read(json) : null;
+            if (value != null) {
+                return Optional.of(value);
+            }
+        }
+        return incomingTransformation.apply(message.getText());
+    }
+
     /**
      * Returns the state topic. Might be an empty string if this is a stateless channel (TRIGGER kind channel).
      */
@@ -262,7 +292,11 @@ public class ChannelState implements MqttMessageSubscriber {
     public CompletableFuture<@Nullable Void> stop() {
         final MqttBrokerConnection connection = this.connection;
         if (connection != null && !config.stateTopic.isBlank()) {
-            return connection.unsubscribe(config.stateTopic, this).thenRun(this::internalStop);
+            final StateTopicDispatcher stateTopicDispatcher = this.stateTopicDispatcher;
+            CompletableFuture<Boolean> unsubscribed = stateTopicDispatcher != null
+                    ? stateTopicDispatcher.unsubscribe(connection, config.stateTopic, this)
+                    : connection.unsubscribe(config.stateTopic, this);
+            return unsubscribed.thenRun(this::internalStop);
         } else {
             internalStop();
             return CompletableFuture.completedFuture(null);
@@ -322,7 +356,11 @@ public class ChannelState implements MqttMessageSubscriber {
 
             this.future = new CompletableFuture<>();
         }
-        connection.subscribe(config.stateTopic, this).thenRun(() -> {
+        final StateTopicDispatcher stateTopicDispatcher = this.stateTopicDispatcher;
+        CompletableFuture<Boolean> subscribed = stateTopicDispatcher != null
+                ? stateTopicDispatcher.subscribe(connection, config.stateTopic, this)
+                : connection.subscribe(config.stateTopic, this);
+        subscribed.thenRun(() -> {
             hasSubscribed = true;
             logger.debug("Subscribed channel {} to topic: {}", this.channelUID, config.stateTopic);
             if (timeout > 0 && !future.isDone()) {
@@ -434,6 +472,17 @@ public class ChannelState implements MqttMessageSubscriber {
         this.channelStateUpdateListener = channelStateUpdateListener;
     }
 
+    /**
+     * Subscribes the state topic through the given dispatcher instead of directly at the connection, so that
+     * the channels of a state topic share the decoded and parsed messages. Must be set before
+     * {@link #start(MqttBrokerConnection, ScheduledExecutorService, int)}.
+     *
+     * @param stateTopicDispatcher The dispatcher of the thing handler, or null to subscribe directly
+     */
+    public void setStateTopicDispatcher(@Nullable StateTopicDispatcher stateTopicDispatcher) {
+        this.stateTopicDispatcher = stateTopicDispatcher;
+    }
+
     public @Nullable MqttBrokerConnection getConnection() {
         return connection;
     }
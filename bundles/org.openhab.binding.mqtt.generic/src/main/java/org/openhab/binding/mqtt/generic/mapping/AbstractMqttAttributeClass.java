@@ -24,6 +24,7 @@ import java.util.stream.Collectors;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.mqtt.generic.tools.TopicTreeSubscription;
 import org.openhab.core.io.transport.mqtt.MqttBrokerConnection;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -94,16 +95,28 @@ import org.slf4j.LoggerFactory;
  * "mqtt/topic/bean/$multipleStrings", "mqtt/topic/bean/$anInt" and so on. It is assumed that all MQTT messages are
  * UTF-8 strings.
  *
+ * If a {@link TopicTreeSubscription} to a parent topic is set with {@link #setTopicTree(TopicTreeSubscription)}, the
+ * fields are registered there instead, and no subscription per field is sent to the broker.
+ *
  * @author David Graeff - Initial contribution
  */
 @NonNullByDefault
 public abstract class AbstractMqttAttributeClass implements SubscribeFieldToMQTTtopic.FieldChanged {
+    // The attribute fields of each class, determined once instead of on every subscription
+    private static final ClassValue<List<Field>> ATTRIBUTE_FIELDS = new ClassValue<>() {
+        @Override
+        protected List<Field> computeValue(@Nullable Class<?> type) {
+            return getAllFields(type).stream().filter(AbstractMqttAttributeClass::filterField).toList();
+        }
+    };
+
     private final Logger logger = LoggerFactory.getLogger(AbstractMqttAttributeClass.class);
     protected transient List<SubscribeFieldToMQTTtopic> subscriptions = new ArrayList<>();
     public transient WeakReference<@Nullable MqttBrokerConnection> connection = new WeakReference<>(null);
     protected transient WeakReference<@Nullable ScheduledExecutorService> scheduler = new WeakReference<>(null);
     private final String prefix;
     private transient String basetopic = "";
+    private transient @Nullable TopicTreeSubscription topicTree;
     protected transient AttributeChanged attributeChangedListener = (b, c, d, e, f) -> {
     };
     private transient boolean complete = false;
@@ -143,7 +156,7 @@ public abstract class AbstractMqttAttributeClass implements SubscribeFieldToMQTT
             return CompletableFuture.completedFuture(null);
         }
 
-        final CompletableFuture<?>[] futures = subscriptions.stream().map(m -> connection.unsubscribe(m.topic, m))
+        final CompletableFuture<?>[] futures = subscriptions.stream().map(m -> m.unsubscribe(connection))
                 .toArray(CompletableFuture[]::new);
         subscriptions.clear();
         return CompletableFuture.allOf(futures);
@@ -186,8 +199,8 @@ public abstract class AbstractMqttAttributeClass implements SubscribeFieldToMQTT
             };
         }
 
-        subscriptions = getAllFields(getFieldsOf().getClass()).stream().filter(AbstractMqttAttributeClass::filterField)
-                .map(this::mapFieldToSubscriber).collect(Collectors.toList());
+        subscriptions = ATTRIBUTE_FIELDS.get(getFieldsOf().getClass()).stream().map(this::mapFieldToSubscriber)
+                .collect(Collectors.toList());
 
         final CompletableFuture<?>[] futures = subscriptions.stream()
                 .map(m -> m.subscribeAndReceive(connection, timeout)).toArray(CompletableFuture[]::new);
@@ -200,7 +213,7 @@ public abstract class AbstractMqttAttributeClass implements SubscribeFieldToMQTT
      * @param clazz The class
      * @return A list of Field objects
      */
-    protected static List<Field> getAllFields(Class<?> clazz) {
+    protected static List<Field> getAllFields(@Nullable Class<?> clazz) {
         List<Field> fields = new ArrayList<>();
 
         Class<?> currentClass = clazz;
@@ -257,7 +270,25 @@ public abstract class AbstractMqttAttributeClass implements SubscribeFieldToMQTT
      */
     public SubscribeFieldToMQTTtopic createSubscriber(ScheduledExecutorService scheduler, Field field, String topic,
             boolean mandatory) {
-        return new SubscribeFieldToMQTTtopic(scheduler, field, this, topic, mandatory);
+        return new SubscribeFieldToMQTTtopic(scheduler, field, this, topic, mandatory, topicTree);
+    }
+
+    /**
+     * Set a subscription to a topic tree that contains the topics of this attribute class. Subsequent calls of
+     * {@link #subscribeAndReceive(MqttBrokerConnection, ScheduledExecutorService, String, AttributeChanged, int)}
+     * register the fields at this subscription instead of subscribing to each field topic at the broker.
+     *
+     * @param topicTree A topic tree subscription, or null to subscribe to each field topic
+     */
+    public void setTopicTree(@Nullable TopicTreeSubscription topicTree) {
+        this.topicTree = topicTree;
+    }
+
+    /**
+     * Return the topic tree subscription set by {@link #setTopicTree(TopicTreeSubscription)}, if any.
+     */
+    public @Nullable TopicTreeSubscription getTopicTree() {
+        return topicTree;
     }
 
     /**
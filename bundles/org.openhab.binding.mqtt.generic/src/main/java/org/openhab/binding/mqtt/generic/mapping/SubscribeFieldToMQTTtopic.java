@@ -22,6 +22,7 @@ import java.util.concurrent.TimeUnit;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.mqtt.generic.tools.TopicTreeSubscription;
 import org.openhab.core.io.transport.mqtt.MqttBrokerConnection;
 import org.openhab.core.io.transport.mqtt.MqttException;
 import org.openhab.core.io.transport.mqtt.MqttMessageSubscriber;
@@ -44,6 +45,8 @@ public class SubscribeFieldToMQTTtopic implements MqttMessageSubscriber {
     public final FieldChanged changeConsumer;
     public final String topic;
     private final ScheduledExecutorService scheduler;
+    private final @Nullable TopicTreeSubscription topicTree;
+    private final @Nullable MQTTvalueTransform transform;
     private @Nullable ScheduledFuture<?> scheduledFuture;
     private final boolean mandatory;
     private boolean receivedValue = false;
@@ -67,11 +70,30 @@ public class SubscribeFieldToMQTTtopic implements MqttMessageSubscriber {
      */
     public SubscribeFieldToMQTTtopic(ScheduledExecutorService scheduler, Field field, FieldChanged fieldChangeListener,
             String topic, boolean mandatory) {
+        this(scheduler, field, fieldChangeListener, topic, mandatory, null);
+    }
+
+    /**
+     * Create a {@link SubscribeFieldToMQTTtopic} that receives its value from a topic tree subscription instead of
+     * subscribing to the topic at the broker.
+     *
+     * @param scheduler A scheduler to realize subscription timeouts.
+     * @param field The destination field.
+     * @param fieldChangeListener A listener for field changes. This is only called if the received value
+     *            could successfully be converted to the field type.
+     * @param topic The MQTT topic.
+     * @param mandatory True of this field is a mandatory one. A timeout will cause a future to complete exceptionally.
+     * @param topicTree A subscription to a topic tree containing the topic, or null to subscribe at the broker.
+     */
+    public SubscribeFieldToMQTTtopic(ScheduledExecutorService scheduler, Field field, FieldChanged fieldChangeListener,
+            String topic, boolean mandatory, @Nullable TopicTreeSubscription topicTree) {
         this.scheduler = scheduler;
         this.field = field;
         this.changeConsumer = fieldChangeListener;
         this.topic = topic;
         this.mandatory = mandatory;
+        this.topicTree = topicTree;
+        this.transform = field.getAnnotation(MQTTvalueTransform.class);
     }
 
     static Object numberConvert(Object value, Class<?> type) throws IllegalArgumentException, NumberFormatException {
@@ -142,7 +164,7 @@ public class SubscribeFieldToMQTTtopic implements MqttMessageSubscriber {
 
         // Check if there is a manipulation annotation attached to the field
         try {
-            final MQTTvalueTransform transform = field.getAnnotation(MQTTvalueTransform.class);
+            final MQTTvalueTransform transform = this.transform;
             Object value;
             if (transform != null) {
                 // Add a prefix/suffix to the value
@@ -178,8 +200,9 @@ public class SubscribeFieldToMQTTtopic implements MqttMessageSubscriber {
     }
 
     /**
-     * Subscribe to the MQTT topic. A {@link SubscribeFieldToMQTTtopic} cannot be stopped.
-     * You need to manually unsubscribe from the {@link #topic} before disposing.
+     * Subscribe to the MQTT topic, or register at the topic tree subscription if one was given.
+     * A {@link SubscribeFieldToMQTTtopic} cannot be stopped. You need to call
+     * {@link #unsubscribe(MqttBrokerConnection)} before disposing.
      *
      * @param connection An MQTT connection.
      * @param timeout Timeout in milliseconds. The returned future completes after this time even if no message has
@@ -188,7 +211,8 @@ public class SubscribeFieldToMQTTtopic implements MqttMessageSubscriber {
      * @throws MqttException If an MQTT IO exception happens this exception is thrown.
      */
     public CompletableFuture<@Nullable Void> subscribeAndReceive(MqttBrokerConnection connection, int timeout) {
-        connection.subscribe(topic, this).exceptionally(e -> {
+        final TopicTreeSubscription topicTree = this.topicTree;
+        (topicTree != null ? topicTree.subscribe(topic, this) : connection.subscribe(topic, this)).exceptionally(e -> {
             logger.debug("Failed to subscribe to topic {}", topic, e);
             final ScheduledFuture<?> scheduledFuture = this.scheduledFuture;
             if (scheduledFuture != null) { // Cancel timeout
@@ -205,6 +229,17 @@ public class SubscribeFieldToMQTTtopic implements MqttMessageSubscriber {
         return future;
     }
 
+    /**
+     * Unsubscribe from the MQTT topic, or from the topic tree subscription if one was given.
+     *
+     * @param connection An MQTT connection.
+     * @return Returns a future that completes as soon as the unsubscription has been performed.
+     */
+    public CompletableFuture<Boolean> unsubscribe(MqttBrokerConnection connection) {
+        final TopicTreeSubscription topicTree = this.topicTree;
+        return topicTree != null ? topicTree.unsubscribe(topic, this) : connection.unsubscribe(topic, this);
+    }
+
     /**
      * Return true if the corresponding field has received a value at least once.
      */
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.mqtt.generic.tools;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParseException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+/**
+ * A message received on a state topic. It is shared by all channels of the topic, so the payload is decoded and parsed
+ * as JSON at most once per message, when the first channel asks for it.
+ *
+ * The channels process a message one after another, so it is not thread safe.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class ReceivedMessage {
+    private static final TypeAdapter<JsonElement> JSON_ELEMENT_ADAPTER = new Gson().getAdapter(JsonElement.class);
+
+    private final byte[] payload;
+    private @Nullable String text;
+    private boolean jsonParsed;
+    private @Nullable JsonElement json;
+
+    public ReceivedMessage(byte[] payload) {
+        this.payload = payload;
+    }
+
+    public byte[] getPayload() {
+        return payload;
+    }
+
+    /**
+     * @return the payload decoded as UTF-8 text
+     */
+    public String getText() {
+        String text = this.text;
+        if (text == null) {
+            text = new String(payload, StandardCharsets.UTF_8);
+            this.text = text;
+        }
+        return text;
+    }
+
+    /**
+     * @return the payload parsed as JSON object or array, or null if it is none or not valid JSON
+     */
+    public @Nullable JsonElement getJson() {
+        if (!jsonParsed) {
+            jsonParsed = true;
+            json = parseJson(getText());
+        }
+        return json;
+    }
+
+    private static @Nullable JsonElement parseJson(String text) {
+        String trimmed = text.strip();
+        if (!trimmed.startsWith("{") && !trimmed.startsWith("[")) {
+            return null;
+        }
+        // a strict reader, so only documents that any JSON parser accepts are used
+        try (JsonReader reader = new JsonReader(new StringReader(trimmed))) {
+            JsonElement json = JSON_ELEMENT_ADAPTER.read(reader);
+            return reader.peek() == JsonToken.END_DOCUMENT ? json : null;
+        } catch (IOException | JsonParseException | IllegalStateException e) {
+            return null;
+        }
+    }
+}
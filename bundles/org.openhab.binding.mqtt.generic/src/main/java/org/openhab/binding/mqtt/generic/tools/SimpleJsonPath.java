@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.mqtt.generic.tools;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+
+/**
+ * A JSONPATH transformation that only selects a single value by member names and array indices, like
+ * {@code JSONPATH:$.state.temperature} or {@code JSONPATH($['color'].x)}. It reads the value from a JSON document
+ * that was parsed once for all channels of a topic.
+ *
+ * {@link #read(JsonElement)} only returns values that the JSONPATH transformation service returns unchanged: strings,
+ * booleans and integers. Everything else, like missing members, null, decimals, objects and arrays, has to be left to
+ * the transformation service.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class SimpleJsonPath {
+    private static final Pattern TRANSFORMATION_PATTERN = Pattern
+            .compile("JSONPATH(?::(?<colon>.*)|\\s*\\((?<parenthesis>.*)\\))");
+    private static final Pattern SEGMENT_PATTERN = Pattern
+            .compile("\\.(?<name>[A-Za-z0-9_]+)|\\['(?<quoted>[^'\"\\\\,]*)'\\]|\\[(?<index>0|[1-9][0-9]{0,8})\\]");
+    // integers that are formatted the same by every JSON parser
+    private static final Pattern INTEGER_PATTERN = Pattern.compile("0|-?[1-9][0-9]{0,17}");
+
+    // member names or array indices
+    private final List<Object> segments;
+
+    private SimpleJsonPath(List<Object> segments) {
+        this.segments = segments;
+    }
+
+    /**
+     * @param transformationPattern the incoming transformation of a channel
+     * @return the path, or null if the transformation is not a single JSONPATH transformation with a simple path
+     */
+    public static @Nullable SimpleJsonPath fromTransformation(List<String> transformationPattern) {
+        if (transformationPattern.size() != 1 || transformationPattern.get(0).contains("∩")) {
+            return null;
+        }
+        Matcher matcher = TRANSFORMATION_PATTERN.matcher(transformationPattern.get(0).trim());
+        if (!matcher.matches()) {
+            return null;
+        }
+        String path = matcher.group("colon");
+        return parse((path != null ? path : matcher.group("parenthesis")).trim());
+    }
+
+    private static @Nullable SimpleJsonPath parse(String path) {
+        if (!path.startsWith("$")) {
+            return null;
+        }
+        List<Object> segments = new ArrayList<>();
+        Matcher matcher = SEGMENT_PATTERN.matcher(path);
+        int position = 1;
+        while (position < path.length()) {
+            if (!matcher.region(position, path.length()).lookingAt()) {
+                return null;
+            }
+            String index = matcher.group("index");
+            if (index != null) {
+                segments.add(Integer.valueOf(index));
+            } else {
+                String name = matcher.group("name");
+                segments.add(name != null ? name : matcher.group("quoted"));
+            }
+            position = matcher.end();
+        }
+        return segments.isEmpty() ? null : new SimpleJsonPath(List.copyOf(segments));
+    }
+
+    /**
+     * @param document the parsed JSON document
+     * @return the selected value as the transformation service returns it, or null if it has to be left to the
+     *         transformation service
+     */
+    public @Nullable String read(JsonElement document) {
+        JsonElement element = document;
+        for (Object segment : segments) {
+            if (segment instanceof Integer index) {
+                if (!(element instanceof JsonArray array) || index >= array.size()) {
+                    return null;
+                }
+                element = array.get(index);
+            } else {
+                if (!(element instanceof JsonObject object)) {
+                    return null;
+                }
+                element = object.get((String) segment);
+                if (element == null) {
+                    return null;
+                }
+            }
+        }
+        if (element instanceof JsonPrimitive primitive) {
+            if (primitive.isString() || primitive.isBoolean()) {
+                return primitive.getAsString();
+            }
+            String number = primitive.getAsString();
+            if (INTEGER_PATTERN.matcher(number).matches()) {
+                return number;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public String toString() {
+        return "SimpleJsonPath" + segments;
+    }
+}
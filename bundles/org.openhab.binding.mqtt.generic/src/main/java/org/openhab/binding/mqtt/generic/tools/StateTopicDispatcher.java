@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.mqtt.generic.tools;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.binding.mqtt.generic.ChannelState;
+import org.openhab.core.io.transport.mqtt.MqttBrokerConnection;
+import org.openhab.core.io.transport.mqtt.MqttMessageSubscriber;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Subscribes once to each state topic and passes every message to all {@link ChannelState}s of the topic.
+ *
+ * Devices often publish all their values as one JSON document on a single topic, with one channel per value. The
+ * channels of a topic share one {@link ReceivedMessage}, so the payload is decoded and parsed as JSON once per
+ * message instead of once per channel.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class StateTopicDispatcher {
+    private final Logger logger = LoggerFactory.getLogger(StateTopicDispatcher.class);
+
+    // guarded by this
+    private final Map<String, TopicSubscriber> subscribers = new HashMap<>();
+
+    private class TopicSubscriber implements MqttMessageSubscriber {
+        private final MqttBrokerConnection connection;
+        private final List<ChannelState> channelStates = new CopyOnWriteArrayList<>();
+        private CompletableFuture<Boolean> subscribed = CompletableFuture.completedFuture(true);
+
+        TopicSubscriber(MqttBrokerConnection connection) {
+            this.connection = connection;
+        }
+
+        @Override
+        public void processMessage(String topic, byte[] payload) {
+            ReceivedMessage message = new ReceivedMessage(payload);
+            for (ChannelState channelState : channelStates) {
+                try {
+                    channelState.processMessage(topic, message);
+                } catch (RuntimeException e) {
+                    // a failing channel must not keep the message from the other channels
+                    logger.warn("Channel {} failed to process the message on topic {}", channelState.channelUID(),
+                            topic, e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Adds the channel state to the receivers of the topic. The topic is subscribed at the broker for the first
+     * channel state only.
+     *
+     * @param connection A broker connection
+     * @param topic The state topic
+     * @param channelState The channel state that receives the messages of the topic
+     * @return A future that completes as soon as the broker acknowledged the subscription
+     */
+    public synchronized CompletableFuture<Boolean> subscribe(MqttBrokerConnection connection, String topic,
+            ChannelState channelState) {
+        TopicSubscriber subscriber = subscribers.get(topic);
+        if (subscriber != null && !subscriber.connection.equals(connection)) {
+            // the channel states of the old connection subscribe again on the new one
+            subscriber.connection.unsubscribe(topic, subscriber);
+            subscriber = null;
+        }
+        if (subscriber == null) {
+            TopicSubscriber newSubscriber = new TopicSubscriber(connection);
+            newSubscriber.channelStates.add(channelState);
+            subscribers.put(topic, newSubscriber);
+            newSubscriber.subscribed = connection.subscribe(topic, newSubscriber).whenComplete((result, e) -> {
+                if (e != null) {
+                    // the next channel state tries again
+                    removeSubscriber(topic, newSubscriber);
+                }
+            });
+            return newSubscriber.subscribed;
+        }
+        if (!subscriber.channelStates.contains(channelState)) {
+            subscriber.channelStates.add(channelState);
+        }
+        return subscriber.subscribed;
+    }
+
+    /**
+     * Removes the channel state from the receivers of the topic. The topic is unsubscribed at the broker when the
+     * last channel state is removed.
+     *
+     * @param connection A broker connection
+     * @param topic The state topic
+     * @param channelState The channel state that received the messages of the topic
+     * @return A future that completes as soon as the broker acknowledged the removal of the subscription
+     */
+    public synchronized CompletableFuture<Boolean> unsubscribe(MqttBrokerConnection connection, String topic,
+            ChannelState channelState) {
+        TopicSubscriber subscriber = subscribers.get(topic);
+        if (subscriber == null || !subscriber.connection.equals(connection)
+                || !subscriber.channelStates.remove(channelState) || !subscriber.channelStates.isEmpty()) {
+            return CompletableFuture.completedFuture(true);
+        }
+        subscribers.remove(topic);
+        return connection.unsubscribe(topic, subscriber);
+    }
+
+    private synchronized void removeSubscriber(String topic, TopicSubscriber subscriber) {
+        subscribers.remove(topic, subscriber);
+    }
+}
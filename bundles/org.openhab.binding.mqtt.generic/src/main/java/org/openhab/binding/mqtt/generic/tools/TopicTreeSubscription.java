@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.mqtt.generic.tools;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.io.transport.mqtt.MqttBrokerConnection;
+import org.openhab.core.io.transport.mqtt.MqttMessageSubscriber;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Subscribes once to all topics below a base topic and keeps the latest value of each of them.
+ *
+ * Subscribers of single topics below the base topic are registered here instead of at the broker. They receive the
+ * kept value right away, if there is one, and every later message of their topic. This avoids a broker round trip
+ * per topic for conventions that spread the description of a device over many retained topics.
+ *
+ * Deliveries of a topic are serialized, so a subscriber never receives the kept value after a newer message.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class TopicTreeSubscription implements MqttMessageSubscriber {
+    private final Logger logger = LoggerFactory.getLogger(TopicTreeSubscription.class);
+
+    // guarded by this
+    private final Map<String, byte[]> values = new HashMap<>();
+    private final Map<String, List<MqttMessageSubscriber>> subscribers = new HashMap<>();
+    // held while a value of the topic is stored and delivered, always acquired before this
+    private final Map<String, Object> deliveryLocks = new HashMap<>();
+    private @Nullable MqttBrokerConnection connection;
+    private String topicFilter = "";
+
+    /**
+     * Subscribes to all topics below the given base topic. A previous subscription is stopped first.
+     *
+     * @param connection A broker connection
+     * @param baseTopic The base topic, for example "homie/device"
+     * @return A future that completes as soon as the broker acknowledged the subscription
+     */
+    public CompletableFuture<Boolean> start(MqttBrokerConnection connection, String baseTopic) {
+        stop();
+        final String topicFilter = baseTopic + "/#";
+        synchronized (this) {
+            this.connection = connection;
+            this.topicFilter = topicFilter;
+        }
+        return connection.subscribe(topicFilter, this);
+    }
+
+    /**
+     * Unsubscribes from the broker and forgets all kept values and registered subscribers.
+     *
+     * @return A future that completes as soon as the broker acknowledged the unsubscription
+     */
+    public CompletableFuture<Boolean> stop() {
+        final MqttBrokerConnection connection;
+        final String topicFilter;
+        synchronized (this) {
+            connection = this.connection;
+            topicFilter = this.topicFilter;
+            this.connection = null;
+            values.clear();
+            subscribers.clear();
+            deliveryLocks.clear();
+        }
+        if (connection == null) {
+            return CompletableFuture.completedFuture(true);
+        }
+        return connection.unsubscribe(topicFilter, this);
+    }
+
+    /**
+     * Registers a subscriber for a single topic below the base topic. If a value of that topic has been received
+     * already, it is passed to the subscriber before this method returns.
+     *
+     * @param topic The topic, without wildcards
+     * @param subscriber The subscriber
+     * @return A completed future, for symmetry with
+     *         {@link MqttBrokerConnection#subscribe(String, MqttMessageSubscriber)}
+     */
+    public CompletableFuture<Boolean> subscribe(String topic, MqttMessageSubscriber subscriber) {
+        synchronized (deliveryLock(topic)) {
+            final byte @Nullable [] payload;
+            synchronized (this) {
+                subscribers.computeIfAbsent(topic, t -> new ArrayList<>()).add(subscriber);
+                payload = values.get(topic);
+            }
+            if (payload != null) {
+                subscriber.processMessage(topic, payload);
+            }
+        }
+        return CompletableFuture.completedFuture(true);
+    }
+
+    /**
+     * Removes a subscriber of a single topic.
+     *
+     * @param topic The topic
+     * @param subscriber The subscriber
+     * @return A completed future, for symmetry with
+     *         {@link MqttBrokerConnection#unsubscribe(String, MqttMessageSubscriber)}
+     */
+    public CompletableFuture<Boolean> unsubscribe(String topic, MqttMessageSubscriber subscriber) {
+        synchronized (this) {
+            final List<MqttMessageSubscriber> topicSubscribers = subscribers.get(topic);
+            if (topicSubscribers != null) {
+                topicSubscribers.remove(subscriber);
+                if (topicSubscribers.isEmpty()) {
+                    subscribers.remove(topic);
+                }
+            }
+        }
+        return CompletableFuture.completedFuture(true);
+    }
+
+    /**
+     * Returns the latest value of a topic below the base topic.
+     *
+     * @param topic The topic
+     * @return The payload or null if no value has been received yet or the retained value has been deleted
+     */
+    public synchronized byte @Nullable [] getValue(String topic) {
+        return values.get(topic);
+    }
+
+    private synchronized Object deliveryLock(String topic) {
+        return deliveryLocks.computeIfAbsent(topic, t -> new Object());
+    }
+
+    @Override
+    public void processMessage(String topic, byte[] payload) {
+        synchronized (deliveryLock(topic)) {
+            final List<MqttMessageSubscriber> topicSubscribers;
+            synchronized (this) {
+                if (connection == null) {
+                    return;
+                }
+                // An empty payload deletes a retained value
+                if (payload.length == 0) {
+                    values.remove(topic);
+                } else {
+                    values.put(topic, payload);
+                }
+                final List<MqttMessageSubscriber> registered = subscribers.get(topic);
+                topicSubscribers = registered != null ? List.copyOf(registered) : List.of();
+            }
+            logger.trace("Received {} bytes on topic {} for {} subscribers", payload.length, topic,
+                    topicSubscribers.size());
+            topicSubscribers.forEach(subscriber -> subscriber.processMessage(topic, payload));
+        }
+    }
+}
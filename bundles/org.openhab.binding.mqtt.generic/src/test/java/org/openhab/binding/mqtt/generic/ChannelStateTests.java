@@ -44,6 +44,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 import org.openhab.binding.mqtt.generic.mapping.ColorMode;
+import org.openhab.binding.mqtt.generic.tools.ReceivedMessage;
 import org.openhab.binding.mqtt.generic.values.ColorValue;
 import org.openhab.binding.mqtt.generic.values.DateTimeValue;
 import org.openhab.binding.mqtt.generic.values.ImageValue;
@@ -203,6 +204,30 @@ public class ChannelStateTests {
         verify(channelStateUpdateListenerMock).updateChannelState(eq(channelUIDMock), any());
     }
 
+    @Test
+    public void receiveSharedJsonMessageTest() throws Exception {
+        ChannelConfig temperatureConfig = ChannelConfigBuilder.create("state", "command")
+                .withTransformationPattern(List.of("JSONPATH:$.temperature")).build();
+        ChannelConfig nameConfig = ChannelConfigBuilder.create("state", "command")
+                .withTransformationPattern(List.of("JSONPATH($.device['name'])")).build();
+        TextValue temperatureValue = new TextValue();
+        TextValue nameValue = new TextValue();
+        ChannelState temperature = new ChannelState(temperatureConfig, channelUIDMock, temperatureValue,
+                channelStateUpdateListenerMock);
+        ChannelState name = new ChannelState(nameConfig, channelUIDMock, nameValue, channelStateUpdateListenerMock);
+        temperature.start(connectionMock, scheduler, 0).get(50, TimeUnit.MILLISECONDS);
+        name.start(connectionMock, scheduler, 0).get(50, TimeUnit.MILLISECONDS);
+
+        // the simple paths are read from the shared JSON document without a transformation service
+        ReceivedMessage message = new ReceivedMessage(
+                "{\"temperature\":21,\"device\":{\"name\":\"Sensor\"}}".getBytes());
+        temperature.processMessage("state", message);
+        name.processMessage("state", message);
+
+        assertThat(temperatureValue.getChannelState().toString(), is("21"));
+        assertThat(nameValue.getChannelState().toString(), is("Sensor"));
+    }
+
     @Test
     public void receiveDecimalTest() {
         NumberValue value = new NumberValue(null, null, new BigDecimal(10), null);
@@ -26,6 +26,7 @@ import org.eclipse.jdt.annotation.Nullable;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
@@ -41,6 +42,7 @@ import org.openhab.binding.mqtt.generic.values.ValueFactory;
 import org.openhab.binding.mqtt.handler.AbstractBrokerHandler;
 import org.openhab.core.config.core.Configuration;
 import org.openhab.core.io.transport.mqtt.MqttBrokerConnection;
+import org.openhab.core.io.transport.mqtt.MqttMessageSubscriber;
 import org.openhab.core.library.types.StringType;
 import org.openhab.core.thing.ChannelUID;
 import org.openhab.core.thing.Thing;
@@ -119,7 +121,8 @@ public class GenericThingHandlerTests {
         assertThat(channelConfig.getStateTopic(), is("test/state"));
         assertThat(channelConfig.getCommandTopic(), is("test/command"));
 
-        verify(connectionMock).subscribe(eq(channelConfig.getStateTopic()), eq(channelConfig));
+        // all channels share the state topic, which is subscribed once
+        verify(connectionMock).subscribe(eq(channelConfig.getStateTopic()), any());
 
         verify(callbackMock).statusUpdated(eq(thingMock), argThat(arg -> ThingStatus.ONLINE.equals(arg.getStatus())
                 && ThingStatusDetail.NONE.equals(arg.getStatusDetail())));
@@ -195,6 +198,20 @@ public class GenericThingHandlerTests {
         assertThat(textValue.getChannelState().toString(), is("UPDATE"));
     }
 
+    @Test
+    public void processMessageOnSharedStateTopic() {
+        thingHandler.initialize();
+        ArgumentCaptor<MqttMessageSubscriber> subscriber = ArgumentCaptor.forClass(MqttMessageSubscriber.class);
+        verify(connectionMock).subscribe(eq("test/state"), subscriber.capture());
+
+        subscriber.getValue().processMessage("test/state", "ON".getBytes());
+
+        // every channel on the topic receives the message
+        verify(callbackMock).stateUpdated(eq(TEXT_CHANNEL_UID), argThat(arg -> "ON".equals(arg.toString())));
+        verify(callbackMock).stateUpdated(eq(new ChannelUID(TEST_GENERIC_THING, "onoff")), any());
+        verify(callbackMock).stateUpdated(eq(new ChannelUID(TEST_GENERIC_THING, "percent")), any());
+    }
+
     @Test
     public void handleBridgeStatusChange() {
         Configuration config = new Configuration();
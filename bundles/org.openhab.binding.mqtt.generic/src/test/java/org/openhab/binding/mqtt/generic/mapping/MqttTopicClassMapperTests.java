@@ -41,6 +41,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 import org.openhab.binding.mqtt.generic.mapping.AbstractMqttAttributeClass.AttributeChanged;
+import org.openhab.binding.mqtt.generic.tools.TopicTreeSubscription;
 import org.openhab.core.io.transport.mqtt.MqttBrokerConnection;
 
 /**
@@ -227,4 +228,31 @@ public class MqttTopicClassMapperTests {
         verify(fieldChangedObserverMock, times(0)).attributeChanged(any(), any(), any(), any(), anyBoolean());
         assertThat(attributes.state.toString(), is("unknown"));
     }
+
+    @Test
+    public void receivesFromTopicTree() {
+        final TopicTreeSubscription topicTree = new TopicTreeSubscription();
+        topicTree.start(connectionMock, "homie/device123");
+        topicTree.processMessage("homie/device123/$aString", "string".getBytes());
+        topicTree.processMessage("homie/device123/$properties", "abc,def".getBytes());
+
+        final Attributes attributes = new Attributes();
+        attributes.setTopicTree(topicTree);
+        attributes.subscribeAndReceive(connectionMock, executorMock, "homie/device123", fieldChangedObserverMock, 10);
+
+        // Only the topic tree is subscribed at the broker, values received before are assigned right away
+        verify(connectionMock).subscribe(eq("homie/device123/#"), eq(topicTree));
+        verify(connectionMock, times(1)).subscribe(anyString(), any());
+        assertThat(attributes.aString, is("string"));
+        assertThat(attributes.properties, is(new String[] { "abc", "def" }));
+
+        // Later messages are passed on as well
+        topicTree.processMessage("homie/device123/$state", "ready".getBytes());
+        assertThat(attributes.state, is(Attributes.ReadyState.ready));
+
+        attributes.unsubscribe();
+        topicTree.processMessage("homie/device123/$state", "init".getBytes());
+        assertThat(attributes.state, is(Attributes.ReadyState.ready));
+        verify(connectionMock, times(0)).unsubscribe(anyString(), any());
+    }
 }
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.mqtt.generic.tools;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.Test;
+
+import com.google.gson.JsonElement;
+
+/**
+ * Tests the {@link SimpleJsonPath} and {@link ReceivedMessage} classes.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class SimpleJsonPathTests {
+    private static final String DOCUMENT = """
+            {"state":{"temperature":21,"humidity":45.5,"on":true,"name":"Kitchen","none":null,
+            "color":{"x":0.3}},"list":[10,"b",{"c":-7}],"big":12345678901234567890,"exp":1e3}
+            """;
+
+    private static @Nullable String read(String transformation) {
+        SimpleJsonPath path = SimpleJsonPath.fromTransformation(List.of(transformation));
+        assertNotNull(path, transformation);
+        JsonElement json = new ReceivedMessage(DOCUMENT.getBytes(StandardCharsets.UTF_8)).getJson();
+        assertNotNull(json);
+        return path.read(json);
+    }
+
+    @Test
+    public void readsSimplePaths() {
+        assertEquals("21", read("JSONPATH:$.state.temperature"));
+        assertEquals("true", read("JSONPATH:$.state.on"));
+        assertEquals("Kitchen", read("JSONPATH($.state.name)"));
+        assertEquals("Kitchen", read("JSONPATH:$['state']['name']"));
+        assertEquals("10", read("JSONPATH:$.list[0]"));
+        assertEquals("b", read("JSONPATH:$.list[1]"));
+        assertEquals("-7", read("JSONPATH:$.list[2].c"));
+    }
+
+    @Test
+    public void leavesOtherValuesToTransformationService() {
+        assertNull(read("JSONPATH:$.state.humidity"));
+        assertNull(read("JSONPATH:$.state.none"));
+        assertNull(read("JSONPATH:$.state.color"));
+        assertNull(read("JSONPATH:$.list"));
+        assertNull(read("JSONPATH:$.big"));
+        assertNull(read("JSONPATH:$.exp"));
+        assertNull(read("JSONPATH:$.state.missing"));
+        assertNull(read("JSONPATH:$.list[3]"));
+        assertNull(read("JSONPATH:$.state[0]"));
+        assertNull(read("JSONPATH:$.list.c"));
+    }
+
+    @Test
+    public void acceptsOnlySingleSimpleJsonPath() {
+        assertNull(SimpleJsonPath.fromTransformation(List.of()));
+        assertNull(SimpleJsonPath.fromTransformation(List.of("JSONPATH:$.a", "JSONPATH:$.b")));
+        assertNull(SimpleJsonPath.fromTransformation(List.of("JSONPATH:$.a∩REGEX:(.*)")));
+        assertNull(SimpleJsonPath.fromTransformation(List.of("REGEX:$.a")));
+        assertNull(SimpleJsonPath.fromTransformation(List.of("JSONPATH:$")));
+        assertNull(SimpleJsonPath.fromTransformation(List.of("JSONPATH:$..a")));
+        assertNull(SimpleJsonPath.fromTransformation(List.of("JSONPATH:$.a[*]")));
+        assertNull(SimpleJsonPath.fromTransformation(List.of("JSONPATH:$.a[?(@.b)]")));
+        assertNull(SimpleJsonPath.fromTransformation(List.of("JSONPATH:$.a.length()")));
+        assertNull(SimpleJsonPath.fromTransformation(List.of("JSONPATH:a.b")));
+    }
+
+    @Test
+    public void parsesOnlyJsonDocuments() {
+        assertNull(new ReceivedMessage("ON".getBytes(StandardCharsets.UTF_8)).getJson());
+        assertNull(new ReceivedMessage("21".getBytes(StandardCharsets.UTF_8)).getJson());
+        assertNull(new ReceivedMessage("{\"a\":1".getBytes(StandardCharsets.UTF_8)).getJson());
+        assertNull(new ReceivedMessage("{a:1}".getBytes(StandardCharsets.UTF_8)).getJson());
+        assertNull(new ReceivedMessage("{\"a\":1} {}".getBytes(StandardCharsets.UTF_8)).getJson());
+        assertNotNull(new ReceivedMessage(" [1, 2] ".getBytes(StandardCharsets.UTF_8)).getJson());
+    }
+
+    @Test
+    public void decodesAndParsesMessageOnce() {
+        ReceivedMessage message = new ReceivedMessage("{\"a\":\"ä\"}".getBytes(StandardCharsets.UTF_8));
+
+        assertSame(message.getText(), message.getText());
+        assertSame(message.getJson(), message.getJson());
+        assertEquals("{\"a\":\"ä\"}", message.getText());
+    }
+}
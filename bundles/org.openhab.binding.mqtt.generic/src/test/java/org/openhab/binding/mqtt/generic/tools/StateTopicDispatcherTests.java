@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.mqtt.generic.tools;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.openhab.binding.mqtt.generic.ChannelState;
+import org.openhab.core.io.transport.mqtt.MqttBrokerConnection;
+import org.openhab.core.io.transport.mqtt.MqttMessageSubscriber;
+
+/**
+ * Tests the {@link StateTopicDispatcher} class.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@NonNullByDefault
+public class StateTopicDispatcherTests {
+    private static final String TOPIC = "device/state";
+
+    private @Mock @NonNullByDefault({}) MqttBrokerConnection connectionMock;
+    private @Mock @NonNullByDefault({}) MqttBrokerConnection otherConnectionMock;
+    private @Mock @NonNullByDefault({}) ChannelState state1Mock;
+    private @Mock @NonNullByDefault({}) ChannelState state2Mock;
+
+    private final StateTopicDispatcher dispatcher = new StateTopicDispatcher();
+
+    @BeforeEach
+    public void setUp() {
+        doReturn(CompletableFuture.completedFuture(true)).when(connectionMock).subscribe(any(), any());
+        doReturn(CompletableFuture.completedFuture(true)).when(connectionMock).unsubscribe(any(), any());
+        doReturn(CompletableFuture.completedFuture(true)).when(otherConnectionMock).subscribe(any(), any());
+        doReturn(CompletableFuture.completedFuture(true)).when(otherConnectionMock).unsubscribe(any(), any());
+    }
+
+    private MqttMessageSubscriber subscriber(MqttBrokerConnection connection) {
+        ArgumentCaptor<MqttMessageSubscriber> subscriber = ArgumentCaptor.forClass(MqttMessageSubscriber.class);
+        verify(connection).subscribe(eq(TOPIC), subscriber.capture());
+        return subscriber.getValue();
+    }
+
+    @Test
+    public void subscribesOncePerTopic() throws Exception {
+        assertTrue(dispatcher.subscribe(connectionMock, TOPIC, state1Mock).get());
+        assertTrue(dispatcher.subscribe(connectionMock, TOPIC, state2Mock).get());
+        dispatcher.subscribe(connectionMock, TOPIC, state2Mock);
+
+        verify(connectionMock, times(1)).subscribe(eq(TOPIC), any());
+    }
+
+    @Test
+    public void sharesMessageWithAllChannelStates() {
+        dispatcher.subscribe(connectionMock, TOPIC, state1Mock);
+        dispatcher.subscribe(connectionMock, TOPIC, state2Mock);
+
+        subscriber(connectionMock).processMessage(TOPIC, "{\"a\":1}".getBytes(StandardCharsets.UTF_8));
+
+        ArgumentCaptor<ReceivedMessage> message1 = ArgumentCaptor.forClass(ReceivedMessage.class);
+        ArgumentCaptor<ReceivedMessage> message2 = ArgumentCaptor.forClass(ReceivedMessage.class);
+        verify(state1Mock).processMessage(eq(TOPIC), message1.capture());
+        verify(state2Mock).processMessage(eq(TOPIC), message2.capture());
+        assertSame(message1.getValue(), message2.getValue());
+        assertEquals("{\"a\":1}", message1.getValue().getText());
+    }
+
+    @Test
+    public void failingChannelStateDoesNotStopOthers() {
+        dispatcher.subscribe(connectionMock, TOPIC, state1Mock);
+        dispatcher.subscribe(connectionMock, TOPIC, state2Mock);
+        doThrow(new IllegalStateException()).when(state1Mock).processMessage(any(), any(ReceivedMessage.class));
+
+        subscriber(connectionMock).processMessage(TOPIC, "ON".getBytes(StandardCharsets.UTF_8));
+
+        verify(state2Mock).processMessage(eq(TOPIC), any(ReceivedMessage.class));
+    }
+
+    @Test
+    public void unsubscribesWithLastChannelState() throws Exception {
+        dispatcher.subscribe(connectionMock, TOPIC, state1Mock);
+        dispatcher.subscribe(connectionMock, TOPIC, state2Mock);
+        MqttMessageSubscriber subscriber = subscriber(connectionMock);
+
+        assertTrue(dispatcher.unsubscribe(connectionMock, TOPIC, state1Mock).get());
+        verify(connectionMock, never()).unsubscribe(any(), any());
+        subscriber.processMessage(TOPIC, "ON".getBytes(StandardCharsets.UTF_8));
+        verify(state1Mock, never()).processMessage(any(), any(ReceivedMessage.class));
+        verify(state2Mock).processMessage(eq(TOPIC), any(ReceivedMessage.class));
+
+        dispatcher.unsubscribe(connectionMock, TOPIC, state2Mock);
+        verify(connectionMock).unsubscribe(TOPIC, subscriber);
+
+        // unknown channel states are ignored
+        assertTrue(dispatcher.unsubscribe(connectionMock, TOPIC, state2Mock).get());
+        verify(connectionMock, times(1)).unsubscribe(any(), any());
+    }
+
+    @Test
+    public void resubscribesAfterLastChannelState() {
+        dispatcher.subscribe(connectionMock, TOPIC, state1Mock);
+        dispatcher.unsubscribe(connectionMock, TOPIC, state1Mock);
+        dispatcher.subscribe(connectionMock, TOPIC, state1Mock);
+
+        verify(connectionMock, times(2)).subscribe(eq(TOPIC), any());
+    }
+
+    @Test
+    public void resubscribesOnNewConnection() {
+        dispatcher.subscribe(connectionMock, TOPIC, state1Mock);
+        MqttMessageSubscriber subscriber = subscriber(connectionMock);
+
+        dispatcher.subscribe(otherConnectionMock, TOPIC, state1Mock);
+
+        verify(connectionMock).unsubscribe(TOPIC, subscriber);
+        verify(otherConnectionMock).subscribe(eq(TOPIC), any());
+    }
+
+    @Test
+    public void retriesFailedSubscription() {
+        doReturn(CompletableFuture.failedFuture(new IllegalStateException())).when(connectionMock).subscribe(any(),
+                any());
+        CompletableFuture<Boolean> future = dispatcher.subscribe(connectionMock, TOPIC, state1Mock);
+        assertTrue(future.isCompletedExceptionally());
+
+        doReturn(CompletableFuture.completedFuture(true)).when(connectionMock).subscribe(any(), any());
+        assertFalse(dispatcher.subscribe(connectionMock, TOPIC, state2Mock).isCompletedExceptionally());
+        verify(connectionMock, times(2)).subscribe(eq(TOPIC), any());
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.mqtt.generic.tools;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.openhab.core.io.transport.mqtt.MqttBrokerConnection;
+import org.openhab.core.io.transport.mqtt.MqttMessageSubscriber;
+
+/**
+ * Tests the {@link TopicTreeSubscription} class.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@NonNullByDefault
+public class TopicTreeSubscriptionTests {
+    private static final String TOPIC = "homie/device/$name";
+
+    private @Mock @NonNullByDefault({}) MqttBrokerConnection connectionMock;
+
+    private final TopicTreeSubscription subscription = new TopicTreeSubscription();
+
+    @BeforeEach
+    public void setUp() {
+        doReturn(CompletableFuture.completedFuture(true)).when(connectionMock).subscribe(any(), any());
+        doReturn(CompletableFuture.completedFuture(true)).when(connectionMock).unsubscribe(any(), any());
+        subscription.start(connectionMock, "homie/device");
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void keptValueIsDeliveredOnSubscribe() {
+        List<String> received = new ArrayList<>();
+        subscription.processMessage(TOPIC, bytes("first"));
+        subscription.processMessage(TOPIC, bytes("second"));
+
+        subscription.subscribe(TOPIC, (topic, payload) -> received.add(new String(payload, StandardCharsets.UTF_8)));
+        subscription.processMessage(TOPIC, bytes("third"));
+
+        assertEquals(List.of("second", "third"), received);
+        assertArrayEquals(bytes("third"), subscription.getValue(TOPIC));
+    }
+
+    /**
+     * A message that arrives while the kept value is passed to a new subscriber must be delivered after it, so the
+     * subscriber ends up with the newer value.
+     */
+    @Test
+    public void keptValueDoesNotOverwriteNewerMessage() throws Exception {
+        CountDownLatch delivering = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> received = new ArrayList<>();
+        MqttMessageSubscriber subscriber = (topic, payload) -> {
+            delivering.countDown();
+            try {
+                // hold the delivery of the kept value until the newer message arrived
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            synchronized (received) {
+                received.add(new String(payload, StandardCharsets.UTF_8));
+            }
+        };
+        subscription.processMessage(TOPIC, bytes("kept"));
+
+        Thread subscribing = new Thread(() -> subscription.subscribe(TOPIC, subscriber));
+        subscribing.start();
+        assertTrue(delivering.await(5, TimeUnit.SECONDS));
+
+        Thread receiving = new Thread(() -> subscription.processMessage(TOPIC, bytes("newer")));
+        receiving.start();
+        receiving.join(200);
+        // the newer message waits for the delivery of the kept value
+        assertTrue(receiving.isAlive());
+
+        release.countDown();
+        subscribing.join(5000);
+        receiving.join(5000);
+
+        assertEquals(List.of("kept", "newer"), received);
+        assertArrayEquals(bytes("newer"), subscription.getValue(TOPIC));
+    }
+
+    @Test
+    public void unsubscribedSubscriberIsNotCalled() {
+        List<String> received = new ArrayList<>();
+        MqttMessageSubscriber subscriber = (topic, payload) -> received
+                .add(new String(payload, StandardCharsets.UTF_8));
+
+        subscription.subscribe(TOPIC, subscriber);
+        subscription.processMessage(TOPIC, bytes("first"));
+        subscription.unsubscribe(TOPIC, subscriber);
+        subscription.processMessage(TOPIC, bytes("second"));
+
+        assertEquals(List.of("first"), received);
+    }
+}
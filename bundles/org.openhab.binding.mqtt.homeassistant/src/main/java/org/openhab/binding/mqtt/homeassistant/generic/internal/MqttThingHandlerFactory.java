@@ -29,6 +29,7 @@ import org.openhab.core.thing.binding.BaseThingHandlerFactory;
 import org.openhab.core.thing.binding.ThingHandler;
 import org.openhab.core.thing.binding.ThingHandlerFactory;
 import org.openhab.core.thing.type.ChannelTypeRegistry;
+import org.openhab.transform.jinja.internal.TemplateCachingInterpreterFactory;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
@@ -44,10 +45,12 @@ import com.hubspot.jinjava.Jinjava;
 @Component(service = ThingHandlerFactory.class)
 @NonNullByDefault
 public class MqttThingHandlerFactory extends BaseThingHandlerFactory {
+    private static final int MAX_CACHED_TEMPLATES = 1000;
+
     private final MqttChannelTypeProvider typeProvider;
     private final MqttChannelStateDescriptionProvider stateDescriptionProvider;
     private final ChannelTypeRegistry channelTypeRegistry;
-    private final Jinjava jinjava = new Jinjava();
+    private final Jinjava jinjava = new TemplateCachingInterpreterFactory(MAX_CACHED_TEMPLATES).createJinjava();
     private final UnitProvider unitProvider;
 
     private static final Set<ThingTypeUID> SUPPORTED_THING_TYPES_UIDS = Stream
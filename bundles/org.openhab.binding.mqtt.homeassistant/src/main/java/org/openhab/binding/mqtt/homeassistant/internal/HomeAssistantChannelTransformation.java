@@ -20,6 +20,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -34,6 +35,7 @@ import com.hubspot.jinjava.Jinjava;
 import com.hubspot.jinjava.interpret.FatalTemplateErrorsException;
 import com.hubspot.jinjava.interpret.InvalidInputException;
 import com.hubspot.jinjava.interpret.JinjavaInterpreter;
+import com.hubspot.jinjava.interpret.LazyExpression;
 
 /**
  * Provides a channel transformation for a Home Assistant channel with a
@@ -81,12 +83,25 @@ public class HomeAssistantChannelTransformation extends ChannelTransformation {
 
         bindings.put("value", value);
 
-        try {
-            JsonNode tree = objectMapper.readTree(value);
-            bindings.put("value_json", toObject(tree));
-        } catch (IOException e) {
-            // ok, then value_json is null...
-        }
+        // the value is only parsed when the template uses value_json
+        bindings.put("value_json", LazyExpression.of(new Supplier<@Nullable Object>() {
+            private boolean parsed;
+            private @Nullable Object valueJson;
+
+            @Override
+            public @Nullable Object get() {
+                if (!parsed) {
+                    parsed = true;
+                    try {
+                        JsonNode tree = objectMapper.readTree(value);
+                        valueJson = toObject(tree);
+                    } catch (IOException e) {
+                        // ok, then value_json is null...
+                    }
+                }
+                return valueJson;
+            }
+        }, "value_json"));
 
         return apply(template, bindings);
     }
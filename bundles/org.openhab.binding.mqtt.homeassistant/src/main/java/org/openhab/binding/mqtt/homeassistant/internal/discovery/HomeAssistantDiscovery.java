@@ -13,12 +13,16 @@
 package org.openhab.binding.mqtt.homeassistant.internal.discovery;
 
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -63,6 +67,11 @@ import com.google.gson.GsonBuilder;
  * The {@link HomeAssistantDiscovery} is responsible for discovering device nodes that follow the
  * Home Assistant MQTT discovery convention (https://www.home-assistant.io/docs/mqtt/discovery/).
  *
+ * Brokers send all retained component configurations again on every reconnect. Configurations are therefore
+ * compared by a digest of their payload first, and only changed ones are parsed. Parsing happens on a bounded number
+ * of scheduler threads, with at most one pending message per topic, and the results are published every
+ * {@link #PUBLISH_DELAY_SECONDS} seconds while configurations arrive.
+ *
  * @author David Graeff - Initial contribution
  */
 @Component(service = DiscoveryService.class, configurationPid = "discovery.mqttha", property = Constants.SERVICE_PID
@@ -77,12 +86,33 @@ public class HomeAssistantDiscovery extends AbstractMQTTDiscovery {
     protected final Map<String, DiscoveryResult> results = new HashMap<>();
     protected final Map<String, DiscoveryResult> allResults = new HashMap<>();
 
+    // The latest unprocessed message of each config topic in arrival order, null payloads for vanished topics.
+    // Guarded by itself, like the fields below.
+    private final Map<String, PendingConfig> pendingConfigs = new LinkedHashMap<>();
+    // Digests of the processed config payloads, to skip unchanged ones
+    private final Map<String, byte[]> processedDigests = new HashMap<>();
+    // Topics that are processed at the moment, so that messages of a topic are processed in order
+    private final Set<String> topicsInProgress = new HashSet<>();
+    private int activeWorkers;
+    private long receivedConfigs;
+    private long skippedConfigs;
+    private long parsedConfigs;
+    private long invalidConfigs;
+    private long lastReportParsedConfigs;
+    private long lastReportNanos = System.nanoTime();
+
+    // guarded by results
     private @Nullable ScheduledFuture<?> future;
     private final Gson gson;
 
     static final String BASE_TOPIC = "homeassistant";
     static final String BIRTH_TOPIC = "homeassistant/status";
     static final String ONLINE_STATUS = "online";
+    static final int PARSE_WORKERS = 2;
+    static final int PUBLISH_DELAY_SECONDS = 2;
+
+    private record PendingConfig(ThingUID bridgeUID, byte @Nullable [] payload, byte @Nullable [] digest) {
+    }
 
     @NonNullByDefault({})
     protected MqttChannelTypeProvider typeProvider;
@@ -143,8 +173,91 @@ public class HomeAssistantDiscovery extends AbstractMQTTDiscovery {
             return;
         }
 
-        resetPublishTimer();
+        final byte[] digest = digest(payload);
+        synchronized (pendingConfigs) {
+            receivedConfigs++;
+            PendingConfig pending = pendingConfigs.get(topic);
+            byte[] latest = pending != null ? pending.digest() : processedDigests.get(topic);
+            if (latest != null && MessageDigest.isEqual(latest, digest)) {
+                skippedConfigs++;
+                return;
+            }
+            enqueue(topic, new PendingConfig(bridgeUID, payload, digest));
+        }
+    }
+
+    private static byte[] digest(byte[] payload) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(payload);
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // Must be called with pendingConfigs locked
+    private void enqueue(String topic, PendingConfig config) {
+        // A newer message replaces an unprocessed one of the same topic
+        pendingConfigs.put(topic, config);
+        if (activeWorkers < PARSE_WORKERS) {
+            activeWorkers++;
+            scheduler.execute(this::processPendingConfigs);
+        }
+    }
+
+    private void processPendingConfigs() {
+        while (true) {
+            final String topic;
+            final PendingConfig config;
+            synchronized (pendingConfigs) {
+                Map.Entry<String, PendingConfig> next = null;
+                for (Iterator<Map.Entry<String, PendingConfig>> it = pendingConfigs.entrySet().iterator(); it
+                        .hasNext();) {
+                    Map.Entry<String, PendingConfig> entry = it.next();
+                    if (!topicsInProgress.contains(entry.getKey())) {
+                        next = entry;
+                        it.remove();
+                        break;
+                    }
+                }
+                if (next == null) {
+                    activeWorkers--;
+                    return;
+                }
+                topic = next.getKey();
+                config = next.getValue();
+                topicsInProgress.add(topic);
+                byte[] digest = config.digest();
+                if (digest != null) {
+                    processedDigests.put(topic, digest);
+                } else {
+                    processedDigests.remove(topic);
+                }
+            }
+
+            boolean valid = true;
+            try {
+                byte[] payload = config.payload();
+                if (payload != null) {
+                    valid = processConfig(config.bridgeUID(), topic, payload);
+                } else {
+                    removeComponent(config.bridgeUID(), topic);
+                }
+            } finally {
+                synchronized (pendingConfigs) {
+                    topicsInProgress.remove(topic);
+                    if (config.payload() != null) {
+                        parsedConfigs++;
+                        if (!valid) {
+                            invalidConfigs++;
+                        }
+                    }
+                }
+            }
+        }
+    }
 
+    private boolean processConfig(ThingUID bridgeUID, String topic, byte[] payload) {
         // We will of course find multiple of the same unique Thing IDs, for each different component another one.
         // Therefore the components are assembled into a list and given to the DiscoveryResult label for the user to
         // easily recognize object capabilities.
@@ -165,27 +278,39 @@ public class HomeAssistantDiscovery extends AbstractMQTTDiscovery {
                 properties.put("deviceId", thingID);
 
                 buildResult(thingID, thingUID, config.getThingName(), haID, properties, bridgeUID);
+                schedulePublish();
             }
+            return true;
         } catch (ConfigurationException e) {
             logger.warn("HomeAssistant discover error: invalid configuration of thing {} component {}: {}",
                     haID.objectID, haID.component, e.getMessage());
         } catch (Exception e) {
             logger.warn("HomeAssistant discover error: {}", e.getMessage());
         }
+        return false;
     }
 
     @Override
     protected void startScan() {
+        forgetProcessedConfigs();
         super.startScan();
         triggerDeviceDiscovery();
     }
 
     @Override
     protected void startBackgroundDiscovery() {
+        forgetProcessedConfigs();
         super.startBackgroundDiscovery();
         triggerDeviceDiscovery();
     }
 
+    // Makes sure that all configs are announced again when discovery is (re)started
+    private void forgetProcessedConfigs() {
+        synchronized (pendingConfigs) {
+            processedDigests.clear();
+        }
+    }
+
     private void triggerDeviceDiscovery() {
         if (!configuration.status) {
             return;
@@ -194,14 +319,13 @@ public class HomeAssistantDiscovery extends AbstractMQTTDiscovery {
         getDiscoveryService().publish(BIRTH_TOPIC, ONLINE_STATUS.getBytes(), 1, false);
     }
 
-    private void resetPublishTimer() {
-        // Reset the found-component timer.
-        // We will collect components for the thing label description for another 2 seconds.
-        final ScheduledFuture<?> future = this.future;
-        if (future != null) {
-            future.cancel(false);
+    // Must be called with results locked
+    private void schedulePublish() {
+        // Components found within the delay are collected for the thing label description. Components found later
+        // are added to the already published result with the next publication.
+        if (future == null) {
+            future = scheduler.schedule(this::publishResults, PUBLISH_DELAY_SECONDS, TimeUnit.SECONDS);
         }
-        this.future = scheduler.schedule(this::publishResults, 2, TimeUnit.SECONDS);
     }
 
     private void buildResult(String thingID, ThingUID thingUID, String thingName, HaID haID,
@@ -238,12 +362,41 @@ public class HomeAssistantDiscovery extends AbstractMQTTDiscovery {
         Collection<DiscoveryResult> localResults;
 
         synchronized (results) {
+            future = null;
             localResults = new ArrayList<>(results.values());
             results.clear();
         }
         for (DiscoveryResult result : localResults) {
             thingDiscovered(result);
         }
+        logStatistics(localResults.size());
+    }
+
+    private void logStatistics(int publishedResults) {
+        if (!logger.isDebugEnabled()) {
+            return;
+        }
+        synchronized (pendingConfigs) {
+            long now = System.nanoTime();
+            long parsedPerSecond = (parsedConfigs - lastReportParsedConfigs) * 1_000_000_000L
+                    / Math.max(1, now - lastReportNanos);
+            logger.debug("HomeAssistant discovery: published {} results; {} configs received, {} unchanged skipped, "
+                    + "{} parsed ({} invalid, {}/s), {} pending; {} topics tracked using {} bytes of digests",
+                    publishedResults, receivedConfigs, skippedConfigs, parsedConfigs, invalidConfigs, parsedPerSecond,
+                    pendingConfigs.size(), processedDigests.size(),
+                    processedDigests.values().stream().mapToInt(d -> d.length).sum());
+            lastReportParsedConfigs = parsedConfigs;
+            lastReportNanos = now;
+        }
+    }
+
+    /**
+     * Return the number of received configs that were skipped because they did not change.
+     */
+    long getSkippedConfigCount() {
+        synchronized (pendingConfigs) {
+            return skippedConfigs;
+        }
     }
 
     @Override
@@ -251,6 +404,13 @@ public class HomeAssistantDiscovery extends AbstractMQTTDiscovery {
         if (!topic.endsWith("/config")) {
             return;
         }
+        // Processed in order with the messages of the topic that are still pending
+        synchronized (pendingConfigs) {
+            enqueue(topic, new PendingConfig(bridgeUID, null, null));
+        }
+    }
+
+    private void removeComponent(ThingUID bridgeUID, String topic) {
         synchronized (results) {
             ThingUID thingUID = thingIDPerTopic.remove(topic);
             if (thingUID != null) {
@@ -265,7 +425,7 @@ public class HomeAssistantDiscovery extends AbstractMQTTDiscovery {
                     results.remove(thingUID.toString());
                     thingRemoved(thingUID);
                 } else {
-                    resetPublishTimer();
+                    schedulePublish();
 
                     DiscoveryResult existingThing = allResults.get(thingUID.toString());
                     if (existingThing == null) {
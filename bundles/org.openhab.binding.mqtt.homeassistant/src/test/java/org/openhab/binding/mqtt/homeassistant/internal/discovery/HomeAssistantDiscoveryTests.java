@@ -181,6 +181,33 @@ public class HomeAssistantDiscoveryTests extends AbstractHomeAssistantTests {
                 hasItems("climate/0x847127fffe11dd6a_climate_zigbee2mqtt"));
     }
 
+    @Test
+    public void testUnchangedConfigIsSkipped() throws Exception {
+        var discoveryListener = new LatchDiscoveryListener();
+        var latch = discoveryListener.createWaitForThingsDiscoveredLatch(1);
+        final String topic = "homeassistant/climate/0x847127fffe11dd6a_climate_zigbee2mqtt/config";
+        final byte[] config = getResourceAsByteArray("component/configTS0601ClimateThermostat.json");
+
+        // When the same config is received twice
+        discovery.addDiscoveryListener(discoveryListener);
+        discovery.receivedMessage(HA_UID, bridgeConnection, topic, config);
+        discovery.receivedMessage(HA_UID, bridgeConnection, topic, config.clone());
+
+        // Then one thing is found and the second config is not processed
+        assert latch.await(3, TimeUnit.SECONDS);
+        assertThat(discoveryListener.getDiscoveryResults().size(), is(1));
+        assertThat(discovery.getSkippedConfigCount(), is(1L));
+
+        // Once the config vanished, it is processed again
+        latch = discoveryListener.createWaitForThingsDiscoveredLatch(1);
+        discovery.topicVanished(HA_UID, bridgeConnection, topic);
+        discovery.receivedMessage(HA_UID, bridgeConnection, topic, config);
+
+        assert latch.await(3, TimeUnit.SECONDS);
+        assertThat(discoveryListener.getDiscoveryResults().size(), is(1));
+        assertThat(discovery.getSkippedConfigCount(), is(1L));
+    }
+
     private static class TestHomeAssistantDiscovery extends HomeAssistantDiscovery {
         public TestHomeAssistantDiscovery(MqttChannelTypeProvider typeProvider) {
             super(null);
@@ -24,6 +24,7 @@ import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.mqtt.generic.mapping.AbstractMqttAttributeClass;
 import org.openhab.binding.mqtt.generic.tools.ChildMap;
+import org.openhab.binding.mqtt.generic.tools.TopicTreeSubscription;
 import org.openhab.binding.mqtt.homie.generic.internal.MqttBindingConstants;
 import org.openhab.binding.mqtt.homie.internal.handler.HomieThingHandler;
 import org.openhab.core.io.transport.mqtt.MqttBrokerConnection;
@@ -38,7 +39,8 @@ import org.slf4j.LoggerFactory;
 /**
  * Homie 3.x Device. This is also the base class to subscribe to and parse a homie MQTT topic tree.
  * First use {@link #subscribe(MqttBrokerConnection, ScheduledExecutorService, int)}
- * to subscribe to the device/nodes/properties tree.
+ * to subscribe to the device/nodes/properties tree. A single wildcard subscription to the device topic collects the
+ * retained attribute values, and the attributes of the device, its nodes and properties are read from there.
  * If everything has been received and parsed, call
  * {@link #startChannels(MqttBrokerConnection, ScheduledExecutorService, int, HomieThingHandler)}
  * to also subscribe to the property values. Usage:
@@ -59,6 +61,8 @@ public class Device implements AbstractMqttAttributeClass.AttributeChanged {
     // The device attributes, statistics and nodes of this device
     public final DeviceAttributes attributes;
     public final ChildMap<Node> nodes;
+    // The wildcard subscription to the device topic, shared by the attributes of the device, nodes and properties
+    private final TopicTreeSubscription topicTree = new TopicTreeSubscription();
 
     // The corresponding ThingUID and callback of this device object
     public final ThingUID thingUID;
@@ -94,6 +98,7 @@ public class Device implements AbstractMqttAttributeClass.AttributeChanged {
         this.callback = callback;
         this.attributes = attributes;
         this.nodes = nodes;
+        attributes.setTopicTree(topicTree);
     }
 
     /**
@@ -101,6 +106,8 @@ public class Device implements AbstractMqttAttributeClass.AttributeChanged {
      * and subscribe to all node attributes. Parse node properties. This will not subscribe
      * to properties though. If subscribing to all necessary topics worked {@link #isInitialized()} will return true.
      *
+     * Only the device topic tree is subscribed to at the broker. Attributes are taken from the values received there.
+     *
      * Call {@link #startChannels(MqttBrokerConnection, ScheduledExecutorService, int, HomieThingHandler)} subsequently.
      *
      * @param connection A broker connection
@@ -115,7 +122,8 @@ public class Device implements AbstractMqttAttributeClass.AttributeChanged {
             throw new IllegalStateException("You must call initialize()!");
         }
 
-        return attributes.subscribeAndReceive(connection, scheduler, topic, this, timeout)
+        return topicTree.start(connection, topic)
+                .thenCompose(b -> attributes.subscribeAndReceive(connection, scheduler, topic, this, timeout))
                 // On success, create all nodes and tell the handler about the ready state
                 .thenCompose(b -> attributesReceived(connection, scheduler, timeout))
                 // No matter if values have been received or not -> the subscriptions have been performed
@@ -176,8 +184,9 @@ public class Device implements AbstractMqttAttributeClass.AttributeChanged {
      * Unsubscribe from everything.
      */
     public CompletableFuture<@Nullable Void> stop() {
-        return attributes.unsubscribe().thenCompose(
-                b -> CompletableFuture.allOf(nodes.stream().map(Node::stop).toArray(CompletableFuture[]::new)));
+        return attributes.unsubscribe().thenCompose(b -> CompletableFuture.allOf(
+                Stream.concat(nodes.stream().map(Node::stop), Stream.of(topicTree.stop()))
+                        .toArray(CompletableFuture[]::new)));
     }
 
     /**
@@ -274,7 +283,9 @@ public class Device implements AbstractMqttAttributeClass.AttributeChanged {
      * @return A child node
      */
     public Node createNode(String nodeID) {
-        return new Node(topic, nodeID, thingUID, callback, new NodeAttributes());
+        NodeAttributes attributes = new NodeAttributes();
+        attributes.setTopicTree(topicTree);
+        return new Node(topic, nodeID, thingUID, callback, attributes);
     }
 
     /**
@@ -285,6 +296,7 @@ public class Device implements AbstractMqttAttributeClass.AttributeChanged {
      * @return A child node
      */
     public Node createNode(String nodeID, NodeAttributes attributes) {
+        attributes.setTopicTree(topicTree);
         return new Node(topic, nodeID, thingUID, callback, attributes);
     }
 
@@ -143,7 +143,9 @@ public class Node implements AbstractMqttAttributeClass.AttributeChanged {
      * @return A Homie Property
      */
     public Property createProperty(String propertyID) {
-        return new Property(topic, this, propertyID, callback, new PropertyAttributes());
+        PropertyAttributes attributes = new PropertyAttributes();
+        attributes.setTopicTree(this.attributes.getTopicTree());
+        return new Property(topic, this, propertyID, callback, attributes);
     }
 
     /**
@@ -154,6 +156,7 @@ public class Node implements AbstractMqttAttributeClass.AttributeChanged {
      * @return A Homie Property
      */
     public Property createProperty(String propertyID, PropertyAttributes attributes) {
+        attributes.setTopicTree(this.attributes.getTopicTree());
         return new Property(topic, this, propertyID, callback, attributes);
     }
 
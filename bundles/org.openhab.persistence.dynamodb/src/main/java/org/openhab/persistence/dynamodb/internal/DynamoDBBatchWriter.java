@@ -0,0 +1,319 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.dynamodb.internal;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteResult;
+import software.amazon.awssdk.enhanced.dynamodb.model.WriteBatch;
+import software.amazon.awssdk.services.dynamodb.model.ResourceNotFoundException;
+
+/**
+ * Aggregates item updates into BatchWriteItem requests.
+ *
+ * Updates are collected for a short batch window. Within that window only the latest update for each item and
+ * timestamp is kept, as DynamoDB rejects batches containing the same key twice. Items that DynamoDB did not process
+ * (usually due to throttling) are retried with exponential backoff.
+ *
+ * When a table does not exist yet, the affected items are written using {@link TableCreatingPutItem}, which creates
+ * the table.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class DynamoDBBatchWriter {
+    /**
+     * Maximum number of put requests in one BatchWriteItem request, as defined by DynamoDB
+     */
+    static final int MAX_BATCH_SIZE = 25;
+
+    private static final int MAX_PENDING = 4 * MAX_BATCH_SIZE;
+    private static final int MAX_RETRIES = 8;
+    private static final long RETRY_BASE_DELAY_MILLIS = 50;
+    private static final long RETRY_MAX_DELAY_MILLIS = 10_000;
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+
+    private final Logger logger = LoggerFactory.getLogger(DynamoDBBatchWriter.class);
+
+    private final DynamoDBPersistenceService service;
+    private final DynamoDbEnhancedAsyncClient client;
+    private final ScheduledExecutorService scheduler;
+    private final long batchWindowMillis;
+
+    // pending updates by table, item name and timestamp, guarded by itself
+    private final Map<PendingKey, PendingItem> pending = new LinkedHashMap<>();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    private final Set<CompletableFuture<?>> inFlight = ConcurrentHashMap.newKeySet();
+
+    private final AtomicLong batchCount = new AtomicLong();
+    private final AtomicLong writtenCount = new AtomicLong();
+    private final AtomicLong coalescedCount = new AtomicLong();
+    private final AtomicLong unprocessedCount = new AtomicLong();
+    private final AtomicLong throttledCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+
+    private record PendingKey(String tableName, String itemName, long time) {
+    }
+
+    private record PendingItem(DynamoDbAsyncTable<? extends DynamoDBItem<?>> table, DynamoDBItem<?> dto) {
+    }
+
+    public DynamoDBBatchWriter(DynamoDBPersistenceService service, DynamoDbEnhancedAsyncClient client,
+            ScheduledExecutorService scheduler, long batchWindowMillis) {
+        this.service = service;
+        this.client = client;
+        this.scheduler = scheduler;
+        this.batchWindowMillis = batchWindowMillis;
+    }
+
+    /**
+     * Queues an item for writing. An update queued earlier for the same item and timestamp is replaced.
+     *
+     * @param table table to write to
+     * @param dto item to write
+     */
+    public <T extends DynamoDBItem<?>> void add(DynamoDbAsyncTable<T> table, T dto) {
+        boolean full;
+        synchronized (pending) {
+            PendingKey key = new PendingKey(table.tableName(), dto.getName(), dto.getTime().toInstant().toEpochMilli());
+            if (pending.put(key, new PendingItem(table, dto)) != null) {
+                coalescedCount.incrementAndGet();
+            }
+            full = pending.size() >= MAX_PENDING;
+        }
+        if (full) {
+            flush();
+        } else if (flushScheduled.compareAndSet(false, true)) {
+            try {
+                scheduler.schedule(this::flush, batchWindowMillis, TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException e) {
+                flushScheduled.set(false);
+                flush();
+            }
+        }
+    }
+
+    /**
+     * Sends all queued items.
+     */
+    public void flush() {
+        flushScheduled.set(false);
+        Map<DynamoDbAsyncTable<? extends DynamoDBItem<?>>, List<DynamoDBItem<?>>> byTable = new IdentityHashMap<>();
+        synchronized (pending) {
+            if (pending.isEmpty()) {
+                return;
+            }
+            for (PendingItem item : pending.values()) {
+                byTable.computeIfAbsent(item.table(), t -> new ArrayList<>()).add(item.dto());
+            }
+            pending.clear();
+        }
+        byTable.forEach((table, dtos) -> {
+            for (int i = 0; i < dtos.size(); i += MAX_BATCH_SIZE) {
+                write(table, dtos.subList(i, Math.min(i + MAX_BATCH_SIZE, dtos.size())));
+            }
+        });
+    }
+
+    /**
+     * Sends all queued items and waits for the outstanding requests, including retries, to complete.
+     */
+    public void shutdown() {
+        flush();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(SHUTDOWN_TIMEOUT_SECONDS);
+        while (!inFlight.isEmpty()) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                logger.warn("Timeout while waiting for {} DynamoDB write requests to complete", inFlight.size());
+                return;
+            }
+            try {
+                CompletableFuture.allOf(inFlight.toArray(CompletableFuture[]::new)).get(remaining,
+                        TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (ExecutionException | TimeoutException e) {
+                // errors are handled by the requests themselves, timeout is checked above
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T extends DynamoDBItem<?>> void write(DynamoDbAsyncTable<T> table, List<DynamoDBItem<?>> dtos) {
+        write(table, (List<T>) List.copyOf(dtos), 0);
+    }
+
+    private <T extends DynamoDBItem<?>> void write(DynamoDbAsyncTable<T> table, List<T> dtos, int attempt) {
+        WriteBatch.Builder<T> batch = WriteBatch.builder(table.tableSchema().itemType().rawClass())
+                .mappedTableResource(table);
+        dtos.forEach(batch::addPutItem);
+        BatchWriteItemEnhancedRequest request = BatchWriteItemEnhancedRequest.builder().addWriteBatch(batch.build())
+                .build();
+        batchCount.incrementAndGet();
+        CompletableFuture<BatchWriteResult> future = client.batchWriteItem(request);
+        inFlight.add(future);
+        future.whenCompleteAsync((result, exception) -> {
+            try {
+                if (exception == null) {
+                    List<T> unprocessed = result.unprocessedPutItemsForTable(table);
+                    writtenCount.addAndGet(dtos.size() - unprocessed.size());
+                    logger.trace("BatchWriteItem: wrote {} items to {}, {} unprocessed",
+                            dtos.size() - unprocessed.size(), table.tableName(), unprocessed.size());
+                    if (!unprocessed.isEmpty()) {
+                        unprocessedCount.addAndGet(unprocessed.size());
+                        retry(table, unprocessed, attempt);
+                    }
+                    return;
+                }
+                Throwable cause = exception.getCause() == null ? exception : exception.getCause();
+                if (cause instanceof ResourceNotFoundException) {
+                    // the table does not exist yet, write the items one by one while creating the table
+                    logger.trace("BatchWriteItem: table '{}' was not present, falling back to PutItem",
+                            table.tableName());
+                    for (T dto : dtos) {
+                        putItem(table, dto);
+                    }
+                } else if (cause instanceof AwsServiceException serviceException
+                        && serviceException.isThrottlingException()) {
+                    throttledCount.incrementAndGet();
+                    retry(table, dtos, attempt);
+                } else {
+                    failedCount.addAndGet(dtos.size());
+                    logger.warn("BatchWriteItem: failed (final) with {} {}. Dropping {} items.",
+                            cause.getClass().getSimpleName(), cause.getMessage(), dtos.size());
+                }
+            } finally {
+                inFlight.remove(future);
+            }
+        }, service.getExecutor());
+    }
+
+    private <T extends DynamoDBItem<?>> void putItem(DynamoDbAsyncTable<T> table, T dto) {
+        CompletableFuture<Void> future;
+        try {
+            future = new TableCreatingPutItem<>(service, dto, table).putItemAsync();
+        } catch (IllegalStateException e) {
+            failedCount.incrementAndGet();
+            logger.warn("PutItem: service not ready, dropping item {}", dto.getName());
+            return;
+        }
+        inFlight.add(future);
+        future.whenComplete((result, exception) -> {
+            if (exception == null) {
+                writtenCount.incrementAndGet();
+            } else {
+                failedCount.incrementAndGet();
+            }
+            inFlight.remove(future);
+        });
+    }
+
+    private <T extends DynamoDBItem<?>> void retry(DynamoDbAsyncTable<T> table, List<T> dtos, int attempt) {
+        if (attempt >= MAX_RETRIES) {
+            failedCount.addAndGet(dtos.size());
+            logger.warn("BatchWriteItem: {} items not written to {} after {} retries. Consider increasing the write "
+                    + "capacity.", dtos.size(), table.tableName(), attempt);
+            return;
+        }
+        // exponential backoff with full jitter
+        long maxDelay = Math.min(RETRY_MAX_DELAY_MILLIS, RETRY_BASE_DELAY_MILLIS << attempt);
+        long delay = ThreadLocalRandom.current().nextLong(maxDelay / 2, maxDelay + 1);
+        logger.debug("BatchWriteItem: retrying {} items for {} in {} ms", dtos.size(), table.tableName(), delay);
+        CompletableFuture<Void> retry = new CompletableFuture<>();
+        inFlight.add(retry);
+        try {
+            scheduler.schedule(() -> {
+                write(table, dtos, attempt + 1);
+                inFlight.remove(retry);
+                retry.complete(null);
+            }, delay, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(retry);
+            failedCount.addAndGet(dtos.size());
+            logger.warn("BatchWriteItem: could not schedule retry, dropping {} items", dtos.size());
+        }
+    }
+
+    /**
+     * @return number of items waiting for the next batch
+     */
+    public int getPendingCount() {
+        synchronized (pending) {
+            return pending.size();
+        }
+    }
+
+    /**
+     * @return number of outstanding requests, including scheduled retries
+     */
+    public int getInFlightCount() {
+        return inFlight.size();
+    }
+
+    public long getBatchCount() {
+        return batchCount.get();
+    }
+
+    public long getWrittenCount() {
+        return writtenCount.get();
+    }
+
+    /**
+     * @return number of updates replaced by a later update for the same item and timestamp
+     */
+    public long getCoalescedCount() {
+        return coalescedCount.get();
+    }
+
+    /**
+     * @return number of items returned as unprocessed by DynamoDB
+     */
+    public long getUnprocessedCount() {
+        return unprocessedCount.get();
+    }
+
+    /**
+     * @return number of requests rejected due to throttling
+     */
+    public long getThrottledCount() {
+        return throttledCount.get();
+    }
+
+    public long getFailedCount() {
+        return failedCount.get();
+    }
+}
@@ -104,6 +104,8 @@ public class DynamoDBPersistenceService implements QueryablePersistenceService {
 
     private static final String DYNAMODB_THREADPOOL_NAME = "dynamodbPersistenceService";
 
+    private static final String DYNAMODB_SCHEDULER_NAME = "dynamodbPersistenceServiceBatch";
+
     private final ItemRegistry itemRegistry;
     private final UnitProvider unitProvider;
     private @Nullable DynamoDbEnhancedAsyncClient client;
@@ -112,6 +114,7 @@ public class DynamoDBPersistenceService implements QueryablePersistenceService {
     private boolean isProperlyConfigured;
     private @Nullable DynamoDBConfig dbConfig;
     private @Nullable DynamoDBTableNameResolver tableNameResolver;
+    private @Nullable DynamoDBBatchWriter batchWriter;
     private final ExecutorService executor = ThreadPoolManager.getPool(DYNAMODB_THREADPOOL_NAME);
     private static final Duration TIMEOUT_API_CALL = Duration.ofSeconds(60);
     private static final Duration TIMEOUT_API_CALL_ATTEMPT = Duration.ofSeconds(5);
@@ -176,6 +179,14 @@ public class DynamoDBPersistenceService implements QueryablePersistenceService {
         return dbConfig;
     }
 
+    /**
+     * @return the writer aggregating updates into batches, or null if batching is disabled or the service is not
+     *         active
+     */
+    public @Nullable DynamoDBBatchWriter getBatchWriter() {
+        return batchWriter;
+    }
+
     @Activate
     public void activate(final @Nullable BundleContext bundleContext, final Map<String, Object> config) {
         disconnect();
@@ -197,6 +208,12 @@ public class DynamoDBPersistenceService implements QueryablePersistenceService {
             return;
         }
 
+        DynamoDbEnhancedAsyncClient localClient = client;
+        if (localDbConfig.getBatchWindowMillis() > 0 && localClient != null) {
+            batchWriter = new DynamoDBBatchWriter(this, localClient,
+                    ThreadPoolManager.getScheduledPool(DYNAMODB_SCHEDULER_NAME), localDbConfig.getBatchWindowMillis());
+        }
+
         isProperlyConfigured = true;
         logger.debug("dynamodb persistence service activated");
     }
@@ -316,6 +333,12 @@ public class DynamoDBPersistenceService implements QueryablePersistenceService {
     }
 
     private void disconnect() {
+        DynamoDBBatchWriter localBatchWriter = batchWriter;
+        if (localBatchWriter != null) {
+            // write pending updates while the client is still available
+            localBatchWriter.shutdown();
+            batchWriter = null;
+        }
         DynamoDbAsyncClient localLowLevelClient = lowLevelClient;
         if (client == null || localLowLevelClient == null) {
             return;
@@ -566,6 +589,23 @@ public class DynamoDBPersistenceService implements QueryablePersistenceService {
             }
             logger.trace("store() called with item {} {} '{}', which was converted to DTO {}",
                     copiedItem.getClass().getSimpleName(), effectiveName, copiedItem.getState(), dto);
+            DynamoDBBatchWriter localBatchWriter = batchWriter;
+            if (localBatchWriter != null) {
+                dto.accept(new DynamoDBItemVisitor<@Nullable Void>() {
+                    @Override
+                    public @Nullable Void visit(DynamoDBBigDecimalItem dynamoBigDecimalItem) {
+                        localBatchWriter.add(getTable(DynamoDBBigDecimalItem.class), dynamoBigDecimalItem);
+                        return null;
+                    }
+
+                    @Override
+                    public @Nullable Void visit(DynamoDBStringItem dynamoStringItem) {
+                        localBatchWriter.add(getTable(DynamoDBStringItem.class), dynamoStringItem);
+                        return null;
+                    }
+                });
+                return;
+            }
             dto.accept(new DynamoDBItemVisitor<TableCreatingPutItem<? extends DynamoDBItem<?>>>() {
 
                 @Override
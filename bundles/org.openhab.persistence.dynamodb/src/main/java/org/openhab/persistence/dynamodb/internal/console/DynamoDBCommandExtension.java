@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.dynamodb.internal.console;
+
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.io.console.Console;
+import org.openhab.core.io.console.ConsoleCommandCompleter;
+import org.openhab.core.io.console.StringsCompleter;
+import org.openhab.core.io.console.extensions.AbstractConsoleCommandExtension;
+import org.openhab.core.io.console.extensions.ConsoleCommandExtension;
+import org.openhab.core.persistence.PersistenceService;
+import org.openhab.core.persistence.PersistenceServiceRegistry;
+import org.openhab.persistence.dynamodb.internal.DynamoDBBatchWriter;
+import org.openhab.persistence.dynamodb.internal.DynamoDBPersistenceService;
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+
+/**
+ * The {@link DynamoDBCommandExtension} is responsible for handling console commands
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+@Component(service = ConsoleCommandExtension.class)
+public class DynamoDBCommandExtension extends AbstractConsoleCommandExtension implements ConsoleCommandCompleter {
+
+    private static final String CMD_WRITES = "writes";
+    private static final StringsCompleter CMD_COMPLETER = new StringsCompleter(List.of(CMD_WRITES), false);
+
+    private final PersistenceServiceRegistry persistenceServiceRegistry;
+
+    @Activate
+    public DynamoDBCommandExtension(final @Reference PersistenceServiceRegistry persistenceServiceRegistry) {
+        super("dynamodb", "Interact with the DynamoDB persistence service.");
+        this.persistenceServiceRegistry = persistenceServiceRegistry;
+    }
+
+    @Override
+    public void execute(String[] args, Console console) {
+        if (args.length != 1 || !CMD_WRITES.equalsIgnoreCase(args[0])) {
+            printUsage(console);
+            return;
+        }
+        DynamoDBPersistenceService persistenceService = getPersistenceService();
+        if (persistenceService == null) {
+            console.println("DynamoDB persistence service is not running.");
+            return;
+        }
+        DynamoDBBatchWriter batchWriter = persistenceService.getBatchWriter();
+        if (batchWriter == null) {
+            console.println("Batch writes are disabled.");
+            return;
+        }
+        showWrites(batchWriter, console);
+    }
+
+    private @Nullable DynamoDBPersistenceService getPersistenceService() {
+        for (PersistenceService persistenceService : persistenceServiceRegistry.getAll()) {
+            if (persistenceService instanceof DynamoDBPersistenceService service) {
+                return service;
+            }
+        }
+        return null;
+    }
+
+    private void showWrites(DynamoDBBatchWriter batchWriter, Console console) {
+        console.println("Queued items:       " + batchWriter.getPendingCount());
+        console.println("Requests in flight: " + batchWriter.getInFlightCount());
+        console.println("Batches sent:       " + batchWriter.getBatchCount());
+        console.println("Items written:      " + batchWriter.getWrittenCount());
+        console.println("Items coalesced:    " + batchWriter.getCoalescedCount());
+        console.println("Items unprocessed:  " + batchWriter.getUnprocessedCount());
+        console.println("Throttled requests: " + batchWriter.getThrottledCount());
+        console.println("Items failed:       " + batchWriter.getFailedCount());
+    }
+
+    @Override
+    public List<String> getUsages() {
+        return List.of(buildCommandUsage(CMD_WRITES, "show batch write statistics"));
+    }
+
+    @Override
+    public @Nullable ConsoleCommandCompleter getCompleter() {
+        return this;
+    }
+
+    @Override
+    public boolean complete(String[] args, int cursorArgumentIndex, int cursorPosition, List<String> candidates) {
+        if (cursorArgumentIndex <= 0) {
+            return CMD_COMPLETER.complete(args, cursorArgumentIndex, cursorPosition, candidates);
+        }
+        return false;
+    }
+}
@@ -255,4 +255,19 @@ public class DynamoDBConfigTest {
         assertEquals(Optional.empty(), fromConfig.getRetryPolicy().map(RetryPolicy::retryMode));
         assertEquals(ExpectedTableSchema.MAYBE_LEGACY, fromConfig.getTableRevision());
     }
+
+    @SuppressWarnings("null")
+    @Test
+    public void testBatchWindow() throws Exception {
+        DynamoDBConfig defaultConfig = DynamoDBConfig.fromConfig(
+                mapFrom("region", "eu-west-1", "accessKey", "access1", "secretKey", "secret1", "table", "mytable"));
+        assertEquals(DynamoDBConfig.DEFAULT_BATCH_WINDOW_MILLIS, defaultConfig.getBatchWindowMillis());
+
+        DynamoDBConfig fromConfig = DynamoDBConfig.fromConfig(mapFrom("region", "eu-west-1", "accessKey", "access1",
+                "secretKey", "secret1", "table", "mytable", "batchWindow", "0"));
+        assertEquals(0, fromConfig.getBatchWindowMillis());
+
+        assertNull(DynamoDBConfig.fromConfig(mapFrom("region", "eu-west-1", "accessKey", "access1", "secretKey",
+                "secret1", "table", "mytable", "batchWindow", "-1")));
+    }
 }
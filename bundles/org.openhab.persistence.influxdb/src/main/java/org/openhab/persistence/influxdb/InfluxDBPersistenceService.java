@@ -14,9 +14,9 @@ package org.openhab.persistence.influxdb;
 
 import static org.openhab.persistence.influxdb.internal.InfluxDBConstants.*;
 
+import java.nio.file.Path;
 import java.time.Instant;
 import java.time.ZonedDateTime;
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -24,15 +24,14 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.OpenHAB;
 import org.openhab.core.common.ThreadPoolManager;
 import org.openhab.core.config.core.ConfigurableService;
 import org.openhab.core.items.Item;
@@ -53,6 +52,7 @@ import org.openhab.persistence.influxdb.internal.InfluxDBConfiguration;
 import org.openhab.persistence.influxdb.internal.InfluxDBHistoricItem;
 import org.openhab.persistence.influxdb.internal.InfluxDBMetadataService;
 import org.openhab.persistence.influxdb.internal.InfluxDBPersistentItemInfo;
+import org.openhab.persistence.influxdb.internal.InfluxDBPointBuffer;
 import org.openhab.persistence.influxdb.internal.InfluxDBRepository;
 import org.openhab.persistence.influxdb.internal.InfluxDBStateConvertUtils;
 import org.openhab.persistence.influxdb.internal.InfluxPoint;
@@ -99,6 +99,7 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
 
     private static final int COMMIT_INTERVAL = 3; // in s
     protected static final String CONFIG_URI = "persistence:influxdb";
+    private static final Path SPOOL_DIR = Path.of(OpenHAB.getUserDataFolder(), "persistence", "influxdb", "spool");
 
     // External dependencies
     private final ItemRegistry itemRegistry;
@@ -110,7 +111,7 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
 
     // storage
     private final ScheduledFuture<?> storeJob;
-    private final BlockingQueue<InfluxPoint> pointsQueue = new LinkedBlockingQueue<>();
+    private final InfluxDBPointBuffer pointBuffer;
 
     // conversion
     private final Set<ItemFactory> itemFactories = new HashSet<>();
@@ -122,7 +123,10 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
         this.itemRegistry = itemRegistry;
         this.influxDBMetadataService = influxDBMetadataService;
         this.configuration = new InfluxDBConfiguration(config);
+        this.pointBuffer = new InfluxDBPointBuffer(configuration.getBufferSize(), SPOOL_DIR,
+                configuration.getSpoolMaxSize() * 1024L * 1024L);
         if (configuration.isValid()) {
+            pointBuffer.open();
             this.influxDBRepository = createInfluxDBRepository();
             this.influxDBRepository.connect();
             this.storeJob = ThreadPoolManager.getScheduledPool("org.openhab.influxdb")
@@ -154,9 +158,10 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
         storeJob.cancel(false);
         commit(); // ensure we at least tried to store the data;
 
-        if (!pointsQueue.isEmpty()) {
-            logger.warn("InfluxDB failed to finally store {} points.", pointsQueue.size());
+        if (!pointBuffer.isEmpty()) {
+            logger.warn("InfluxDB failed to finally store {} points.", pointBuffer.size());
         }
+        pointBuffer.close();
 
         influxDBRepository.disconnect();
         logger.info("InfluxDB persistence service stopped.");
@@ -209,7 +214,7 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
                 logger.trace("Ignoring item {}, conversion to an InfluxDB point failed.", item.getName());
                 return;
             }
-            if (pointsQueue.offer(point)) {
+            if (pointBuffer.add(point)) {
                 logger.trace("Queued {} for item {}", point, item);
             } else {
                 logger.warn("Failed to queue {} for item {}", point, item);
@@ -283,18 +288,38 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
         return false;
     }
 
-    private void commit() {
-        if (!pointsQueue.isEmpty() && checkConnection()) {
-            List<InfluxPoint> points = new ArrayList<>();
-            pointsQueue.drainTo(points);
-            if (!influxDBRepository.write(points)) {
-                logger.warn("Re-queuing {} elements, failed to write batch.", points.size());
-                pointsQueue.addAll(points);
-                influxDBRepository.disconnect();
-            } else {
+    /**
+     * Get the buffer of points waiting to be written, for monitoring.
+     */
+    public InfluxDBPointBuffer getPointBuffer() {
+        return pointBuffer;
+    }
+
+    private synchronized void commit() {
+        if (!pointBuffer.isEmpty() && checkConnection()) {
+            // limit the number of points written per commit, so that a large backlog does not flood the database
+            int remaining = configuration.getMaxWriteRate() > 0 ? configuration.getMaxWriteRate() * COMMIT_INTERVAL
+                    : Integer.MAX_VALUE;
+            while (remaining > 0) {
+                List<InfluxPoint> points = pointBuffer.peek(Math.min(configuration.getWriteBatchSize(), remaining));
+                if (points.isEmpty()) {
+                    break;
+                }
+                if (!influxDBRepository.write(points)) {
+                    logger.warn("Failed to write batch, keeping {} elements buffered.", pointBuffer.size());
+                    influxDBRepository.disconnect();
+                    break;
+                }
+                pointBuffer.remove(points.size());
+                remaining -= points.size();
                 logger.trace("Wrote {} elements to database", points.size());
             }
+            if (!pointBuffer.isEmpty()) {
+                logger.debug("{} elements buffered, the oldest is {} old", pointBuffer.size(),
+                        pointBuffer.getOldestPointAge());
+            }
         }
+        pointBuffer.flush();
     }
 
     /**
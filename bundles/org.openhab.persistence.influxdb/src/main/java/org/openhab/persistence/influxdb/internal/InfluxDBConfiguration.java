@@ -39,6 +39,10 @@ public class InfluxDBConfiguration {
     public static final String ADD_CATEGORY_TAG_PARAM = "addCategoryTag";
     public static final String ADD_LABEL_TAG_PARAM = "addLabelTag";
     public static final String ADD_TYPE_TAG_PARAM = "addTypeTag";
+    public static final String BUFFER_SIZE_PARAM = "bufferSize";
+    public static final String SPOOL_MAX_SIZE_PARAM = "spoolMaxSize";
+    public static final String WRITE_BATCH_SIZE_PARAM = "writeBatchSize";
+    public static final String MAX_WRITE_RATE_PARAM = "maxWriteRate";
     private final Logger logger = LoggerFactory.getLogger(InfluxDBConfiguration.class);
     private final String url;
     private final String user;
@@ -51,6 +55,10 @@ public class InfluxDBConfiguration {
     private final boolean addCategoryTag;
     private final boolean addTypeTag;
     private final boolean addLabelTag;
+    private final int bufferSize;
+    private final int spoolMaxSize;
+    private final int writeBatchSize;
+    private final int maxWriteRate;
 
     public InfluxDBConfiguration(Map<String, Object> config) {
         url = ConfigParser.valueAsOrElse(config.get(URL_PARAM), String.class, "http://127.0.0.1:8086");
@@ -64,6 +72,11 @@ public class InfluxDBConfiguration {
         addCategoryTag = ConfigParser.valueAsOrElse(config.get(ADD_CATEGORY_TAG_PARAM), Boolean.class, false);
         addLabelTag = ConfigParser.valueAsOrElse(config.get(ADD_LABEL_TAG_PARAM), Boolean.class, false);
         addTypeTag = ConfigParser.valueAsOrElse(config.get(ADD_TYPE_TAG_PARAM), Boolean.class, false);
+        bufferSize = Math.max(1, ConfigParser.valueAsOrElse(config.get(BUFFER_SIZE_PARAM), Integer.class, 10000));
+        spoolMaxSize = Math.max(0, ConfigParser.valueAsOrElse(config.get(SPOOL_MAX_SIZE_PARAM), Integer.class, 50));
+        writeBatchSize = Math.max(1,
+                ConfigParser.valueAsOrElse(config.get(WRITE_BATCH_SIZE_PARAM), Integer.class, 5000));
+        maxWriteRate = Math.max(0, ConfigParser.valueAsOrElse(config.get(MAX_WRITE_RATE_PARAM), Integer.class, 0));
     }
 
     private InfluxDBVersion parseInfluxVersion(@Nullable String value) {
@@ -154,12 +167,38 @@ public class InfluxDBConfiguration {
         return version;
     }
 
+    /**
+     * Get the maximum number of points kept in memory until they are written.
+     */
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    /**
+     * Get the maximum size of the spool files in MB (0 = spooling disabled).
+     */
+    public int getSpoolMaxSize() {
+        return spoolMaxSize;
+    }
+
+    public int getWriteBatchSize() {
+        return writeBatchSize;
+    }
+
+    /**
+     * Get the maximum number of points written per second (0 = unlimited).
+     */
+    public int getMaxWriteRate() {
+        return maxWriteRate;
+    }
+
     @Override
     public String toString() {
         return "InfluxDBConfiguration{url='" + url + "', user='" + user + "', password='" + password.length()
                 + " chars', token='" + token.length() + " chars', databaseName='" + databaseName
                 + "', retentionPolicy='" + retentionPolicy + "', version=" + version + ", replaceUnderscore="
                 + replaceUnderscore + ", addCategoryTag=" + addCategoryTag + ", addTypeTag=" + addTypeTag
-                + ", addLabelTag=" + addLabelTag + '}';
+                + ", addLabelTag=" + addLabelTag + ", bufferSize=" + bufferSize + ", spoolMaxSize=" + spoolMaxSize
+                + ", writeBatchSize=" + writeBatchSize + ", maxWriteRate=" + maxWriteRate + '}';
     }
 }
@@ -0,0 +1,464 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.influxdb.internal;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link InfluxDBPointBuffer} holds the points that have not been written to the database yet.
+ *
+ * Points are kept in memory up to the configured capacity. Further points are appended to segment files in the spool
+ * directory, which are read back in order once the points in memory have been written. Points still in memory when
+ * the buffer is closed are spooled as well, so they are written after a restart. When the spool reaches its maximum
+ * size, new points are dropped.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class InfluxDBPointBuffer {
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".spool";
+    private static final int MAX_SEGMENT_POINTS = 1000;
+
+    private static final byte VALUE_NULL = 0;
+    private static final byte VALUE_STRING = 1;
+    private static final byte VALUE_DECIMAL = 2;
+    private static final byte VALUE_LONG = 3;
+    private static final byte VALUE_INTEGER = 4;
+    private static final byte VALUE_DOUBLE = 5;
+    private static final byte VALUE_BOOLEAN = 6;
+
+    private final Logger logger = LoggerFactory.getLogger(InfluxDBPointBuffer.class);
+
+    private final int capacity;
+    private final Path spoolDirectory;
+    private final long maxSpoolSize;
+    private final int segmentPoints;
+
+    private final Deque<InfluxPoint> memory = new ArrayDeque<>();
+    private final Deque<Segment> segments = new ArrayDeque<>();
+    private @Nullable DataOutputStream segmentOutput;
+    private long nextSegmentId;
+    private long spoolSize;
+    private long droppedCount;
+    private boolean dropping;
+
+    /**
+     * A spool file, the last segment is open for appending.
+     */
+    private static class Segment {
+        private final Path path;
+        private int count;
+        private long size;
+        private @Nullable Instant firstTime;
+
+        private Segment(Path path) {
+            this.path = path;
+        }
+    }
+
+    /**
+     * Creates a new buffer.
+     *
+     * @param capacity the maximum number of points kept in memory
+     * @param spoolDirectory the directory for the spool files, created when needed
+     * @param maxSpoolSize the maximum size of all spool files in bytes (0 = no spooling)
+     */
+    public InfluxDBPointBuffer(int capacity, Path spoolDirectory, long maxSpoolSize) {
+        this.capacity = Math.max(1, capacity);
+        this.spoolDirectory = spoolDirectory;
+        this.maxSpoolSize = maxSpoolSize;
+        this.segmentPoints = Math.min(MAX_SEGMENT_POINTS, this.capacity);
+    }
+
+    /**
+     * Picks up the spool files left from a previous run.
+     */
+    public synchronized void open() {
+        if (!Files.isDirectory(spoolDirectory)) {
+            return;
+        }
+        Map<Long, Path> files = new TreeMap<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(spoolDirectory,
+                SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+            for (Path path : stream) {
+                String fileName = path.getFileName().toString();
+                try {
+                    files.put(Long.parseLong(fileName.substring(SEGMENT_PREFIX.length(),
+                            fileName.length() - SEGMENT_SUFFIX.length())), path);
+                } catch (NumberFormatException e) {
+                    logger.debug("Ignoring unexpected file {} in spool directory", path);
+                }
+            }
+        } catch (IOException e) {
+            logger.warn("Failed to read spool directory {}: {}", spoolDirectory, e.getMessage());
+            return;
+        }
+        for (Map.Entry<Long, Path> file : files.entrySet()) {
+            Segment segment = new Segment(file.getValue());
+            try {
+                List<InfluxPoint> points = readSegment(segment.path);
+                if (points.isEmpty()) {
+                    Files.delete(segment.path);
+                    continue;
+                }
+                segment.count = points.size();
+                segment.size = Files.size(segment.path);
+                segment.firstTime = points.get(0).getTime();
+            } catch (IOException e) {
+                logger.warn("Failed to read spool file {}: {}", segment.path, e.getMessage());
+                continue;
+            }
+            segments.add(segment);
+            spoolSize += segment.size;
+            nextSegmentId = file.getKey() + 1;
+        }
+        if (!segments.isEmpty()) {
+            logger.info("Found {} spooled points from a previous run, they will be written to InfluxDB.",
+                    getSpooledCount());
+        }
+    }
+
+    /**
+     * Adds a point to the buffer.
+     *
+     * @param point the point
+     * @return <code>true</code> if the point was added, <code>false</code> if it was dropped
+     */
+    public synchronized boolean add(InfluxPoint point) {
+        // as long as points are spooled, new points are spooled as well to keep their order
+        if (memory.size() < capacity && (segments.isEmpty() || maxSpoolSize <= 0)) {
+            memory.add(point);
+            return true;
+        }
+        return spool(point);
+    }
+
+    /**
+     * Get the oldest points in the buffer without removing them.
+     *
+     * @param maxCount the maximum number of points
+     * @return the points, empty if the buffer is empty
+     */
+    public synchronized List<InfluxPoint> peek(int maxCount) {
+        refill();
+        List<InfluxPoint> points = new ArrayList<>(Math.min(maxCount, memory.size()));
+        Iterator<InfluxPoint> iterator = memory.iterator();
+        while (iterator.hasNext() && points.size() < maxCount) {
+            points.add(iterator.next());
+        }
+        return points;
+    }
+
+    /**
+     * Removes the oldest points, after they have been written.
+     *
+     * @param count the number of points to remove
+     */
+    public synchronized void remove(int count) {
+        for (int i = 0; i < count && !memory.isEmpty(); i++) {
+            memory.poll();
+        }
+    }
+
+    /**
+     * Writes the spooled points to disk.
+     */
+    public synchronized void flush() {
+        DataOutputStream segmentOutput = this.segmentOutput;
+        if (segmentOutput != null) {
+            try {
+                segmentOutput.flush();
+            } catch (IOException e) {
+                logger.warn("Failed to write spool file: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Spools the points in memory and closes the spool files.
+     */
+    public synchronized void close() {
+        if (!memory.isEmpty()) {
+            int count = 0;
+            // spool them after the spooled points, the order of writes does not matter to InfluxDB
+            while (!memory.isEmpty()) {
+                if (spool(memory.poll())) {
+                    count++;
+                }
+            }
+            logger.info("Spooled {} points not written to InfluxDB, they will be written after a restart.", count);
+        }
+        closeSegmentOutput();
+    }
+
+    public synchronized boolean isEmpty() {
+        return memory.isEmpty() && segments.isEmpty();
+    }
+
+    /**
+     * Get the number of points in the buffer, in memory and spooled.
+     */
+    public synchronized int size() {
+        return memory.size() + getSpooledCount();
+    }
+
+    public synchronized int getSpooledCount() {
+        return segments.stream().mapToInt(segment -> segment.count).sum();
+    }
+
+    public synchronized long getSpoolSize() {
+        return spoolSize;
+    }
+
+    public synchronized long getDroppedCount() {
+        return droppedCount;
+    }
+
+    /**
+     * Get the age of the point that is written next.
+     *
+     * @return the age or {@link Duration#ZERO} if the buffer is empty
+     */
+    public synchronized Duration getOldestPointAge() {
+        Instant time = null;
+        InfluxPoint point = memory.peek();
+        if (point != null) {
+            time = point.getTime();
+        } else if (!segments.isEmpty()) {
+            time = segments.getFirst().firstTime;
+        }
+        return time != null ? Duration.between(time, Instant.now()) : Duration.ZERO;
+    }
+
+    private boolean spool(InfluxPoint point) {
+        byte[] data;
+        try {
+            data = serialize(point);
+        } catch (IOException e) {
+            logger.warn("Failed to serialize {}: {}", point, e.getMessage());
+            return false;
+        }
+        if (spoolSize + data.length + Integer.BYTES > maxSpoolSize) {
+            droppedCount++;
+            if (!dropping) {
+                dropping = true;
+                logger.warn("InfluxDB write buffer is full, dropping points until it can be written.");
+            }
+            return false;
+        }
+        try {
+            Segment segment = segments.peekLast();
+            DataOutputStream segmentOutput = this.segmentOutput;
+            if (segment == null || segmentOutput == null || segment.count >= segmentPoints) {
+                closeSegmentOutput();
+                if (segments.isEmpty()) {
+                    logger.info("InfluxDB write buffer holds {} points, spooling further points to {}", capacity,
+                            spoolDirectory);
+                }
+                Files.createDirectories(spoolDirectory);
+                segment = new Segment(spoolDirectory
+                        .resolve(String.format("%s%019d%s", SEGMENT_PREFIX, nextSegmentId++, SEGMENT_SUFFIX)));
+                segmentOutput = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(segment.path,
+                        StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)));
+                this.segmentOutput = segmentOutput;
+                segments.add(segment);
+            }
+            segmentOutput.writeInt(data.length);
+            segmentOutput.write(data);
+            if (segment.count == 0) {
+                segment.firstTime = point.getTime();
+            }
+            segment.count++;
+            segment.size += data.length + Integer.BYTES;
+            spoolSize += data.length + Integer.BYTES;
+            dropping = false;
+            return true;
+        } catch (IOException e) {
+            logger.warn("Failed to write spool file, dropping {}: {}", point, e.getMessage());
+            droppedCount++;
+            return false;
+        }
+    }
+
+    /**
+     * Moves spooled points to memory while there is room for a complete segment.
+     */
+    private void refill() {
+        while (!segments.isEmpty() && (memory.isEmpty() || memory.size() + segments.getFirst().count <= capacity)) {
+            Segment segment = segments.removeFirst();
+            if (segments.isEmpty()) {
+                // this is the segment we are appending to
+                closeSegmentOutput();
+            }
+            try {
+                memory.addAll(readSegment(segment.path));
+            } catch (IOException e) {
+                logger.warn("Failed to read spool file {}, {} points are lost: {}", segment.path, segment.count,
+                        e.getMessage());
+            }
+            spoolSize -= segment.size;
+            try {
+                Files.delete(segment.path);
+            } catch (IOException e) {
+                logger.warn("Failed to delete spool file {}: {}", segment.path, e.getMessage());
+            }
+        }
+    }
+
+    private void closeSegmentOutput() {
+        DataOutputStream segmentOutput = this.segmentOutput;
+        if (segmentOutput != null) {
+            this.segmentOutput = null;
+            try {
+                segmentOutput.close();
+            } catch (IOException e) {
+                logger.warn("Failed to close spool file: {}", e.getMessage());
+            }
+        }
+    }
+
+    private List<InfluxPoint> readSegment(Path path) throws IOException {
+        List<InfluxPoint> points = new ArrayList<>();
+        try (InputStream stream = Files.newInputStream(path);
+                DataInputStream in = new DataInputStream(new BufferedInputStream(stream))) {
+            while (true) {
+                byte[] data;
+                try {
+                    data = new byte[in.readInt()];
+                    in.readFully(data);
+                } catch (EOFException e) {
+                    // end of file, or a point that was not completely written
+                    break;
+                }
+                points.add(deserialize(data));
+            }
+        }
+        return points;
+    }
+
+    static byte[] serialize(InfluxPoint point) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            writeString(out, point.getMeasurementName());
+            out.writeLong(point.getTime().getEpochSecond());
+            out.writeInt(point.getTime().getNano());
+            Object value = point.getValue();
+            if (value == null) {
+                out.writeByte(VALUE_NULL);
+            } else if (value instanceof BigDecimal decimal) {
+                out.writeByte(VALUE_DECIMAL);
+                writeString(out, decimal.toString());
+            } else if (value instanceof Long longValue) {
+                out.writeByte(VALUE_LONG);
+                out.writeLong(longValue);
+            } else if (value instanceof Integer intValue) {
+                out.writeByte(VALUE_INTEGER);
+                out.writeInt(intValue);
+            } else if (value instanceof Double doubleValue) {
+                out.writeByte(VALUE_DOUBLE);
+                out.writeDouble(doubleValue);
+            } else if (value instanceof Boolean booleanValue) {
+                out.writeByte(VALUE_BOOLEAN);
+                out.writeBoolean(booleanValue);
+            } else {
+                out.writeByte(VALUE_STRING);
+                writeString(out, value.toString());
+            }
+            Map<String, String> tags = point.getTags();
+            out.writeInt(tags.size());
+            for (Map.Entry<String, String> tag : tags.entrySet()) {
+                writeString(out, tag.getKey());
+                writeString(out, tag.getValue());
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    static InfluxPoint deserialize(byte[] data) throws IOException {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data))) {
+            InfluxPoint.Builder builder = InfluxPoint.newBuilder(readString(in))
+                    .withTime(Instant.ofEpochSecond(in.readLong(), in.readInt()));
+            byte type = in.readByte();
+            switch (type) {
+                case VALUE_NULL:
+                    break;
+                case VALUE_STRING:
+                    builder.withValue(readString(in));
+                    break;
+                case VALUE_DECIMAL:
+                    builder.withValue(new BigDecimal(readString(in)));
+                    break;
+                case VALUE_LONG:
+                    builder.withValue(in.readLong());
+                    break;
+                case VALUE_INTEGER:
+                    builder.withValue(in.readInt());
+                    break;
+                case VALUE_DOUBLE:
+                    builder.withValue(in.readDouble());
+                    break;
+                case VALUE_BOOLEAN:
+                    builder.withValue(in.readBoolean());
+                    break;
+                default:
+                    throw new IOException("Unknown value type " + type);
+            }
+            int tagCount = in.readInt();
+            for (int i = 0; i < tagCount; i++) {
+                builder.withTag(readString(in), readString(in));
+            }
+            return builder.build();
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
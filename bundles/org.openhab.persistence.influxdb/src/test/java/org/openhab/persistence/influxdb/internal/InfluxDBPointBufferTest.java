@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.influxdb.internal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests the {@link InfluxDBPointBuffer}.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class InfluxDBPointBufferTest {
+    private @TempDir @NonNullByDefault({}) Path spoolDirectory;
+
+    private static InfluxPoint point(int value) {
+        return InfluxPoint.newBuilder("measurement").withTime(Instant.ofEpochMilli(1700000000000L + value))
+                .withValue(new BigDecimal(value)).withTag("item", "item" + value).build();
+    }
+
+    private static List<Integer> values(List<InfluxPoint> points) {
+        return points.stream().map(p -> ((BigDecimal) p.getValue()).intValue()).toList();
+    }
+
+    private List<Integer> drain(InfluxDBPointBuffer buffer, int batchSize) {
+        List<Integer> values = new ArrayList<>();
+        List<InfluxPoint> points;
+        while (!(points = buffer.peek(batchSize)).isEmpty()) {
+            values.addAll(values(points));
+            buffer.remove(points.size());
+        }
+        return values;
+    }
+
+    @Test
+    public void pointsBeyondCapacityAreSpooledInOrder() {
+        InfluxDBPointBuffer buffer = new InfluxDBPointBuffer(10, spoolDirectory, 1024 * 1024);
+        for (int i = 0; i < 35; i++) {
+            assertThat(buffer.add(point(i)), is(true));
+        }
+
+        assertThat(buffer.size(), is(35));
+        assertThat(buffer.getSpooledCount(), is(25));
+        assertThat(drain(buffer, 4), is(IntStream.range(0, 35).boxed().toList()));
+        assertThat(buffer.isEmpty(), is(true));
+        assertThat(buffer.getSpoolSize(), is(0L));
+    }
+
+    @Test
+    public void failedWriteKeepsPoints() {
+        InfluxDBPointBuffer buffer = new InfluxDBPointBuffer(10, spoolDirectory, 0);
+        buffer.add(point(1));
+        buffer.add(point(2));
+
+        assertThat(values(buffer.peek(5)), contains(1, 2));
+        // nothing removed, as if the write failed
+        assertThat(values(buffer.peek(5)), contains(1, 2));
+    }
+
+    @Test
+    public void pointsAreDroppedWithoutSpool() {
+        InfluxDBPointBuffer buffer = new InfluxDBPointBuffer(2, spoolDirectory, 0);
+
+        assertThat(buffer.add(point(1)), is(true));
+        assertThat(buffer.add(point(2)), is(true));
+        assertThat(buffer.add(point(3)), is(false));
+        assertThat(buffer.getDroppedCount(), is(1L));
+    }
+
+    @Test
+    public void unwrittenPointsSurviveRestart() {
+        InfluxDBPointBuffer buffer = new InfluxDBPointBuffer(3, spoolDirectory, 1024 * 1024);
+        for (int i = 0; i < 5; i++) {
+            buffer.add(point(i));
+        }
+        buffer.close();
+
+        InfluxDBPointBuffer restarted = new InfluxDBPointBuffer(3, spoolDirectory, 1024 * 1024);
+        restarted.open();
+
+        assertThat(restarted.size(), is(5));
+        assertThat(drain(restarted, 10), containsInAnyOrder(0, 1, 2, 3, 4));
+    }
+
+    @Test
+    public void serializationKeepsPoint() throws IOException {
+        InfluxPoint point = InfluxPoint.newBuilder("m").withTime(Instant.ofEpochSecond(1700000000, 123456789))
+                .withValue("text").withTag("a", "b").build();
+
+        InfluxPoint actual = InfluxDBPointBuffer.deserialize(InfluxDBPointBuffer.serialize(point));
+
+        assertThat(actual.getMeasurementName(), is("m"));
+        assertThat(actual.getTime(), is(point.getTime()));
+        assertThat(actual.getValue(), is("text"));
+        assertThat(actual.getTags(), is(point.getTags()));
+    }
+}
@@ -12,19 +12,14 @@
  */
 package org.openhab.persistence.inmemory.internal;
 
-import java.time.Instant;
 import java.time.ZonedDateTime;
-import java.util.Comparator;
 import java.util.Date;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -40,6 +35,7 @@ import org.openhab.core.persistence.PersistenceService;
 import org.openhab.core.persistence.strategy.PersistenceStrategy;
 import org.openhab.core.types.State;
 import org.openhab.core.types.UnDefType;
+import org.openhab.persistence.inmemory.internal.InMemoryTimeSeries.Entry;
 import org.osgi.framework.Constants;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
@@ -69,7 +65,7 @@ public class InMemoryPersistenceService implements ModifiablePersistenceService
 
     private final Logger logger = LoggerFactory.getLogger(InMemoryPersistenceService.class);
 
-    private final Map<String, PersistItem> persistMap = new ConcurrentHashMap<>();
+    private final Map<String, InMemoryTimeSeries> persistMap = new ConcurrentHashMap<>();
     private long maxEntries = MAX_ENTRIES_DEFAULT;
 
     @Activate
@@ -82,17 +78,7 @@ public class InMemoryPersistenceService implements ModifiablePersistenceService
     public void modified(Map<String, Object> config) {
         maxEntries = ConfigParser.valueAsOrElse(config.get(MAX_ENTRIES_CONFIG), Long.class, MAX_ENTRIES_DEFAULT);
 
-        persistMap.values().forEach(persistItem -> {
-            Lock lock = persistItem.lock();
-            lock.lock();
-            try {
-                while (persistItem.database().size() > maxEntries) {
-                    persistItem.database().pollFirst();
-                }
-            } finally {
-                lock.unlock();
-            }
-        });
+        persistMap.values().forEach(timeSeries -> timeSeries.trim(maxEntries));
     }
 
     @Deactivate
@@ -143,19 +129,12 @@ public class InMemoryPersistenceService implements ModifiablePersistenceService
             return false;
         }
 
-        PersistItem persistItem = persistMap.get(itemName);
-        if (persistItem == null) {
+        InMemoryTimeSeries timeSeries = persistMap.get(itemName);
+        if (timeSeries == null) {
             return false;
         }
 
-        Lock lock = persistItem.lock();
-        lock.lock();
-        try {
-            List<PersistEntry> toRemove = persistItem.database().stream().filter(e -> applies(e, filter)).toList();
-            toRemove.forEach(persistItem.database()::remove);
-        } finally {
-            lock.unlock();
-        }
+        timeSeries.remove(filter.getBeginDate(), filter.getEndDate(), e -> applies(e, filter));
         return true;
     }
 
@@ -166,24 +145,14 @@ public class InMemoryPersistenceService implements ModifiablePersistenceService
             return List.of();
         }
 
-        PersistItem persistItem = persistMap.get(itemName);
-        if (persistItem == null) {
+        InMemoryTimeSeries timeSeries = persistMap.get(itemName);
+        if (timeSeries == null) {
             return List.of();
         }
 
-        Lock lock = persistItem.lock();
-        lock.lock();
-
-        Comparator<PersistEntry> comparator = filter.getOrdering() == FilterCriteria.Ordering.ASCENDING
-                ? Comparator.comparing(PersistEntry::timestamp)
-                : Comparator.comparing(PersistEntry::timestamp).reversed();
-
-        try {
-            return persistItem.database().stream().filter(e -> applies(e, filter)).sorted(comparator)
-                    .map(e -> toHistoricItem(itemName, e)).toList();
-        } finally {
-            lock.unlock();
-        }
+        return timeSeries.query(filter.getBeginDate(), filter.getEndDate(),
+                filter.getOrdering() == FilterCriteria.Ordering.ASCENDING, e -> applies(e, filter)).stream()
+                .map(e -> toHistoricItem(itemName, e)).toList();
     }
 
     @Override
@@ -192,42 +161,42 @@ public class InMemoryPersistenceService implements ModifiablePersistenceService
         return List.of(PersistenceStrategy.Globals.FORECAST);
     }
 
-    private PersistenceItemInfo toItemInfo(Map.Entry<String, PersistItem> itemEntry) {
-        Lock lock = itemEntry.getValue().lock();
-        lock.lock();
-        try {
-            String name = itemEntry.getKey();
-            Integer count = itemEntry.getValue().database().size();
-            Instant earliest = itemEntry.getValue().database().first().timestamp().toInstant();
-            Instant latest = itemEntry.getValue().database.last().timestamp.toInstant();
-            return new PersistenceItemInfo() {
-
-                @Override
-                public String getName() {
-                    return name;
-                }
-
-                @Override
-                public @Nullable Integer getCount() {
-                    return count;
-                }
-
-                @Override
-                public @Nullable Date getEarliest() {
-                    return Date.from(earliest);
-                }
-
-                @Override
-                public @Nullable Date getLatest() {
-                    return Date.from(latest);
-                }
-            };
-        } finally {
-            lock.unlock();
+    private PersistenceItemInfo toItemInfo(Map.Entry<String, InMemoryTimeSeries> itemEntry) {
+        String name = itemEntry.getKey();
+        InMemoryTimeSeries timeSeries = itemEntry.getValue();
+        Integer count;
+        @Nullable ZonedDateTime earliest;
+        @Nullable ZonedDateTime latest;
+        synchronized (timeSeries) {
+            count = timeSeries.size();
+            earliest = timeSeries.getEarliest();
+            latest = timeSeries.getLatest();
         }
+        return new PersistenceItemInfo() {
+
+            @Override
+            public String getName() {
+                return name;
+            }
+
+            @Override
+            public @Nullable Integer getCount() {
+                return count;
+            }
+
+            @Override
+            public @Nullable Date getEarliest() {
+                return earliest != null ? Date.from(earliest.toInstant()) : null;
+            }
+
+            @Override
+            public @Nullable Date getLatest() {
+                return latest != null ? Date.from(latest.toInstant()) : null;
+            }
+        };
     }
 
-    private HistoricItem toHistoricItem(String itemName, PersistEntry entry) {
+    private HistoricItem toHistoricItem(String itemName, Entry entry) {
         return new HistoricItem() {
             @Override
             public ZonedDateTime getTimestamp() {
@@ -251,34 +220,14 @@ public class InMemoryPersistenceService implements ModifiablePersistenceService
             return;
         }
 
-        PersistItem persistItem = Objects.requireNonNull(persistMap.computeIfAbsent(itemName,
-                k -> new PersistItem(new TreeSet<>(Comparator.comparing(PersistEntry::timestamp)),
-                        new ReentrantLock())));
-
-        Lock lock = persistItem.lock();
-        lock.lock();
-        try {
-            persistItem.database().add(new PersistEntry(timestamp, state));
-
-            while (persistItem.database.size() > maxEntries) {
-                persistItem.database().pollFirst();
-            }
-        } finally {
-            lock.unlock();
-        }
+        InMemoryTimeSeries timeSeries = Objects
+                .requireNonNull(persistMap.computeIfAbsent(itemName, k -> new InMemoryTimeSeries()));
+        timeSeries.store(timestamp, state, maxEntries);
     }
 
     @SuppressWarnings("unchecked")
-    private boolean applies(PersistEntry entry, FilterCriteria filter) {
-        ZonedDateTime beginDate = filter.getBeginDate();
-        if (beginDate != null && beginDate.isAfter(entry.timestamp())) {
-            return false;
-        }
-        ZonedDateTime endDate = filter.getEndDate();
-        if (endDate != null && endDate.isBefore(entry.timestamp())) {
-            return false;
-        }
-
+    private boolean applies(Entry entry, FilterCriteria filter) {
+        // the time range is already applied by the time series
         State refState = filter.getState();
         FilterCriteria.Operator operator = filter.getOperator();
         if (refState == null) {
@@ -294,7 +243,7 @@ public class InMemoryPersistenceService implements ModifiablePersistenceService
             return !entry.state().equals(refState);
         }
 
-        if (entry.state() instanceof Comparable comparableState && entry.state.getClass().equals(refState.getClass())) {
+        if (entry.state() instanceof Comparable comparableState && entry.state().getClass().equals(refState.getClass())) {
             if (operator == FilterCriteria.Operator.GT) {
                 return comparableState.compareTo(refState) > 0;
             }
@@ -312,10 +261,4 @@ public class InMemoryPersistenceService implements ModifiablePersistenceService
         }
         return true;
     }
-
-    private record PersistEntry(ZonedDateTime timestamp, State state) {
-    }
-
-    private record PersistItem(TreeSet<PersistEntry> database, Lock lock) {
-    }
 }
@@ -0,0 +1,387 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.inmemory.internal;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import javax.measure.Quantity;
+import javax.measure.Unit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.library.types.QuantityType;
+import org.openhab.core.types.State;
+
+/**
+ * The {@link InMemoryTimeSeries} stores the values of a single item, sorted by timestamp.
+ *
+ * Timestamps are kept as epoch milliseconds in a ring buffer, so appending a value and dropping the oldest value do
+ * not move any data. {@link DecimalType}s and {@link QuantityType}s with the unit of the first value are stored as
+ * unscaled long and scale, which keeps their exact value. Other values are kept in an additional column with the
+ * (interned) states, and timestamps in another time zone than the first value in a column of zones. These columns are
+ * only created when they are needed.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+class InMemoryTimeSeries {
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int MAX_INTERNED_STATES = 1024;
+
+    private long[] timestamps = new long[INITIAL_CAPACITY];
+    private long[] unscaledValues = new long[INITIAL_CAPACITY];
+    private byte[] scales = new byte[INITIAL_CAPACITY];
+    // null as long as all values are stored as unscaled value and scale, otherwise null where they are
+    private State @Nullable [] states;
+    private final Map<State, State> internedStates = new HashMap<>();
+    // the unit of numeric values, null for DecimalType
+    private @Nullable Unit<?> unit;
+    // the time zone of the timestamps, unless they have their own in zones
+    private ZoneId zone = ZoneId.systemDefault();
+    private ZoneId @Nullable [] zones;
+    private int head;
+    private int size;
+
+    /**
+     * A single entry of the time series.
+     */
+    record Entry(ZonedDateTime timestamp, State state) {
+    }
+
+    /**
+     * Store a value. A value already present for the same timestamp is replaced.
+     *
+     * @param timestamp the timestamp of the value
+     * @param state the value
+     * @param maxEntries the maximum number of values to keep (0 = infinite), the oldest values are dropped
+     */
+    synchronized void store(ZonedDateTime timestamp, State state, long maxEntries) {
+        if (size == 0) {
+            // the first value decides how values are stored
+            states = null;
+            unit = state instanceof QuantityType<?> quantity ? quantity.getUnit() : null;
+            zone = timestamp.getZone();
+            zones = null;
+        }
+        long time = timestamp.toInstant().toEpochMilli();
+        int index = lowerBound(time);
+        if (index < size && timestamps[physical(index)] == time) {
+            set(physical(index), timestamp.getZone(), state);
+            return;
+        }
+        if (maxEntries > 0 && size >= maxEntries) {
+            if (index == 0) {
+                // older than all values we keep
+                return;
+            }
+            removeFirst(size - (int) maxEntries + 1);
+            index = lowerBound(time);
+        }
+        insert(index, time, timestamp.getZone(), state, maxEntries);
+    }
+
+    /**
+     * Drop the oldest values until at most maxEntries values are left.
+     *
+     * @param maxEntries the maximum number of values to keep (0 = infinite)
+     */
+    synchronized void trim(long maxEntries) {
+        if (maxEntries > 0 && size > maxEntries) {
+            removeFirst(size - (int) maxEntries);
+        }
+    }
+
+    /**
+     * Get all values in a time range.
+     *
+     * @param begin the earliest timestamp (inclusive) or null
+     * @param end the latest timestamp (inclusive) or null
+     * @param ascending the ordering of the result
+     * @param filter filter applied to each entry
+     * @return the matching entries
+     */
+    synchronized List<Entry> query(@Nullable ZonedDateTime begin, @Nullable ZonedDateTime end, boolean ascending,
+            Predicate<Entry> filter) {
+        int from = fromIndex(begin);
+        int to = toIndex(end);
+        List<Entry> result = new ArrayList<>(Math.max(0, to - from));
+        for (int i = 0; i < to - from; i++) {
+            Entry entry = entry(physical(ascending ? from + i : to - 1 - i));
+            if (filter.test(entry)) {
+                result.add(entry);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Remove values in a time range.
+     *
+     * @param begin the earliest timestamp (inclusive) or null
+     * @param end the latest timestamp (inclusive) or null
+     * @param filter filter applied to each entry, only matching entries are removed
+     */
+    synchronized void remove(@Nullable ZonedDateTime begin, @Nullable ZonedDateTime end, Predicate<Entry> filter) {
+        int from = fromIndex(begin);
+        int to = toIndex(end);
+        if (to <= from) {
+            // empty range, or begin after end
+            return;
+        }
+        int target = from;
+        for (int i = from; i < to; i++) {
+            int source = physical(i);
+            if (!filter.test(entry(source))) {
+                move(source, physical(target++));
+            }
+        }
+        // close the gap
+        for (int i = to; i < size; i++) {
+            move(physical(i), physical(target++));
+        }
+        for (int i = target; i < size; i++) {
+            clear(physical(i));
+        }
+        size = target;
+    }
+
+    synchronized int size() {
+        return size;
+    }
+
+    synchronized @Nullable ZonedDateTime getEarliest() {
+        return size == 0 ? null : toTimestamp(physical(0));
+    }
+
+    synchronized @Nullable ZonedDateTime getLatest() {
+        return size == 0 ? null : toTimestamp(physical(size - 1));
+    }
+
+    private int physical(int index) {
+        int position = head + index;
+        return position < timestamps.length ? position : position - timestamps.length;
+    }
+
+    /**
+     * Binary search for the first index with a timestamp greater than or equal to time.
+     */
+    private int lowerBound(long time) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (timestamps[physical(mid)] < time) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private int fromIndex(@Nullable ZonedDateTime begin) {
+        if (begin == null) {
+            return 0;
+        }
+        Instant instant = begin.toInstant();
+        long time = instant.toEpochMilli();
+        // values are stored with millisecond precision, a begin within a millisecond excludes that millisecond
+        return lowerBound(instant.getNano() % 1_000_000 == 0 ? time : time + 1);
+    }
+
+    private int toIndex(@Nullable ZonedDateTime end) {
+        if (end == null) {
+            return size;
+        }
+        long time = end.toInstant().toEpochMilli();
+        return time == Long.MAX_VALUE ? size : lowerBound(time + 1);
+    }
+
+    private void insert(int index, long time, ZoneId timeZone, State state, long maxEntries) {
+        if (size == timestamps.length) {
+            grow(maxEntries);
+        }
+        // shift the newer values by one, this is a no-op when appending
+        for (int i = size; i > index; i--) {
+            move(physical(i - 1), physical(i));
+        }
+        size++;
+        int position = physical(index);
+        timestamps[position] = time;
+        set(position, timeZone, state);
+    }
+
+    private void grow(long maxEntries) {
+        int capacity = timestamps.length * 2;
+        if (maxEntries > 0 && maxEntries < capacity) {
+            capacity = Math.max((int) maxEntries, size + 1);
+        }
+        long[] newTimestamps = new long[capacity];
+        long[] newUnscaledValues = new long[capacity];
+        byte[] newScales = new byte[capacity];
+        State[] states = this.states;
+        State[] newStates = states != null ? new State[capacity] : null;
+        ZoneId[] zones = this.zones;
+        ZoneId[] newZones = zones != null ? new ZoneId[capacity] : null;
+        for (int i = 0; i < size; i++) {
+            int position = physical(i);
+            newTimestamps[i] = timestamps[position];
+            newUnscaledValues[i] = unscaledValues[position];
+            newScales[i] = scales[position];
+            if (states != null && newStates != null) {
+                newStates[i] = states[position];
+            }
+            if (zones != null && newZones != null) {
+                newZones[i] = zones[position];
+            }
+        }
+        timestamps = newTimestamps;
+        unscaledValues = newUnscaledValues;
+        scales = newScales;
+        this.states = newStates;
+        this.zones = newZones;
+        head = 0;
+    }
+
+    private void removeFirst(int count) {
+        for (int i = 0; i < count; i++) {
+            clear(physical(i));
+        }
+        head = physical(count);
+        size -= count;
+    }
+
+    private void move(int source, int target) {
+        if (source == target) {
+            return;
+        }
+        timestamps[target] = timestamps[source];
+        unscaledValues[target] = unscaledValues[source];
+        scales[target] = scales[source];
+        State[] states = this.states;
+        if (states != null) {
+            states[target] = states[source];
+        }
+        ZoneId[] zones = this.zones;
+        if (zones != null) {
+            zones[target] = zones[source];
+        }
+    }
+
+    private void clear(int position) {
+        State[] states = this.states;
+        if (states != null) {
+            states[position] = null;
+        }
+        ZoneId[] zones = this.zones;
+        if (zones != null) {
+            zones[position] = null;
+        }
+    }
+
+    private void set(int position, ZoneId timeZone, State state) {
+        ZoneId[] zones = this.zones;
+        if (zones == null && !timeZone.equals(zone)) {
+            zones = new ZoneId[timestamps.length];
+            this.zones = zones;
+        }
+        if (zones != null) {
+            zones[position] = timeZone;
+        }
+
+        State[] states = this.states;
+        BigDecimal value = toExactValue(state);
+        if (value != null) {
+            unscaledValues[position] = value.unscaledValue().longValue();
+            scales[position] = (byte) value.scale();
+            if (states != null) {
+                states[position] = null;
+            }
+            return;
+        }
+        if (states == null) {
+            states = new State[timestamps.length];
+            this.states = states;
+        }
+        states[position] = intern(state);
+    }
+
+    /**
+     * Get the value of a numeric state, if it can be stored as unscaled long and scale.
+     */
+    private @Nullable BigDecimal toExactValue(State state) {
+        BigDecimal value;
+        if (state.getClass() == DecimalType.class && unit == null) {
+            value = ((DecimalType) state).toBigDecimal();
+        } else if (state.getClass() == QuantityType.class && ((QuantityType<?>) state).getUnit().equals(unit)) {
+            value = ((QuantityType<?>) state).toBigDecimal();
+        } else {
+            return null;
+        }
+        if (value.unscaledValue().bitLength() > 63 || value.scale() < Byte.MIN_VALUE
+                || value.scale() > Byte.MAX_VALUE) {
+            return null;
+        }
+        return value;
+    }
+
+    private State intern(State state) {
+        if (state instanceof Number) {
+            // numeric states that are equal may still differ in their scale
+            return state;
+        }
+        State interned = internedStates.get(state);
+        if (interned != null) {
+            return interned;
+        }
+        if (internedStates.size() < MAX_INTERNED_STATES) {
+            internedStates.put(state, state);
+        }
+        return state;
+    }
+
+    private Entry entry(int position) {
+        return new Entry(toTimestamp(position), toState(position));
+    }
+
+    private ZonedDateTime toTimestamp(int position) {
+        ZoneId[] zones = this.zones;
+        ZoneId timeZone = zones != null ? zones[position] : null;
+        return ZonedDateTime.ofInstant(Instant.ofEpochMilli(timestamps[position]),
+                timeZone != null ? timeZone : zone);
+    }
+
+    private State toState(int position) {
+        State[] states = this.states;
+        if (states != null) {
+            State state = states[position];
+            if (state != null) {
+                return state;
+            }
+        }
+        return toNumericState(BigDecimal.valueOf(unscaledValues[position], scales[position]), unit);
+    }
+
+    private <Q extends Quantity<Q>> State toNumericState(BigDecimal value, @Nullable Unit<Q> unit) {
+        return unit == null ? new DecimalType(value) : new QuantityType<>(value, unit);
+    }
+}
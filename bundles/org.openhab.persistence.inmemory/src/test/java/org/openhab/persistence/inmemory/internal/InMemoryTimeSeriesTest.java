@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.inmemory.internal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+import java.math.BigDecimal;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.library.types.QuantityType;
+import org.openhab.core.library.types.StringType;
+import org.openhab.core.types.State;
+import org.openhab.persistence.inmemory.internal.InMemoryTimeSeries.Entry;
+
+/**
+ * The {@link InMemoryTimeSeriesTest} contains tests for the {@link InMemoryTimeSeries}
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class InMemoryTimeSeriesTest {
+    private static final ZonedDateTime START = ZonedDateTime.of(2024, 1, 1, 0, 0, 0, 0, ZoneId.systemDefault());
+
+    private final InMemoryTimeSeries timeSeries = new InMemoryTimeSeries();
+
+    private List<State> states(boolean ascending) {
+        return timeSeries.query(null, null, ascending, e -> true).stream().map(Entry::state).toList();
+    }
+
+    @Test
+    public void ringBufferDropsOldestValues() {
+        for (int i = 0; i < 100; i++) {
+            timeSeries.store(START.plusMinutes(i), new DecimalType(i), 10);
+        }
+
+        assertThat(timeSeries.size(), is(10));
+        assertThat(timeSeries.getEarliest(), is(START.plusMinutes(90)));
+        assertThat(timeSeries.getLatest(), is(START.plusMinutes(99)));
+        assertThat(states(true).get(0), is(new DecimalType(90)));
+        assertThat(states(false).get(0), is(new DecimalType(99)));
+    }
+
+    @Test
+    public void outOfOrderValuesAreSorted() {
+        timeSeries.store(START.plusMinutes(2), new DecimalType(2), 0);
+        timeSeries.store(START, new DecimalType(0), 0);
+        timeSeries.store(START.plusMinutes(3), new DecimalType(3), 0);
+        timeSeries.store(START.plusMinutes(1), new DecimalType(1), 0);
+
+        assertThat(states(true),
+                contains(new DecimalType(0), new DecimalType(1), new DecimalType(2), new DecimalType(3)));
+    }
+
+    @Test
+    public void valueWithSameTimestampIsReplaced() {
+        timeSeries.store(START, new DecimalType(1), 0);
+        timeSeries.store(START, new DecimalType(2), 0);
+
+        assertThat(states(true), contains(new DecimalType(2)));
+    }
+
+    @Test
+    public void rangeQueryIsInclusive() {
+        for (int i = 0; i < 10; i++) {
+            timeSeries.store(START.plusMinutes(i), new DecimalType(i), 0);
+        }
+
+        List<Entry> result = timeSeries.query(START.plusMinutes(3), START.plusMinutes(5), true, e -> true);
+
+        assertThat(result.stream().map(Entry::state).toList(),
+                contains(new DecimalType(3), new DecimalType(4), new DecimalType(5)));
+        assertThat(result.get(0).timestamp(), is(START.plusMinutes(3)));
+    }
+
+    @Test
+    public void removeKeepsOrder() {
+        for (int i = 0; i < 20; i++) {
+            timeSeries.store(START.plusMinutes(i), new DecimalType(i), 16);
+        }
+
+        timeSeries.remove(START.plusMinutes(6), START.plusMinutes(17), e -> ((DecimalType) e.state()).intValue() != 8);
+
+        assertThat(timeSeries.size(), is(5));
+        assertThat(states(true), contains(new DecimalType(4), new DecimalType(5), new DecimalType(8),
+                new DecimalType(18), new DecimalType(19)));
+    }
+
+    @Test
+    public void removeWithBeginAfterEndRemovesNothing() {
+        for (int i = 0; i < 10; i++) {
+            timeSeries.store(START.plusMinutes(i), new DecimalType(i), 0);
+        }
+
+        timeSeries.remove(START.plusMinutes(7), START.plusMinutes(3), e -> true);
+
+        assertThat(timeSeries.size(), is(10));
+        assertThat(states(true).get(9), is(new DecimalType(9)));
+    }
+
+    @Test
+    public void decimalsKeepTheirPrecisionAndScale() {
+        timeSeries.store(START, new DecimalType(new BigDecimal("0.1000")), 0);
+        timeSeries.store(START.plusMinutes(1), new DecimalType(new BigDecimal("123456789.123456789")), 0);
+        timeSeries.store(START.plusMinutes(2), new DecimalType(new BigDecimal("1E+400")), 0);
+
+        List<State> states = states(true);
+        assertThat(((DecimalType) states.get(0)).toBigDecimal().toString(), is("0.1000"));
+        assertThat(((DecimalType) states.get(1)).toBigDecimal().toString(), is("123456789.123456789"));
+        assertThat(((DecimalType) states.get(2)).toBigDecimal(), is(new BigDecimal("1E+400")));
+    }
+
+    @Test
+    public void timestampsKeepTheirZone() {
+        ZonedDateTime utc = START.withZoneSameInstant(ZoneOffset.UTC);
+        ZonedDateTime tokyo = START.plusMinutes(1).withZoneSameInstant(ZoneId.of("Asia/Tokyo"));
+        timeSeries.store(utc, new DecimalType(1), 0);
+        timeSeries.store(tokyo, new DecimalType(2), 0);
+        timeSeries.store(START.plusMinutes(2), new DecimalType(3), 0);
+
+        assertThat(timeSeries.query(null, null, true, e -> true).stream().map(Entry::timestamp).toList(),
+                contains(utc, tokyo, START.plusMinutes(2)));
+    }
+
+    @Test
+    public void quantitiesKeepTheirUnit() {
+        timeSeries.store(START, new QuantityType<>("20.5 °C"), 0);
+        timeSeries.store(START.plusMinutes(1), new QuantityType<>("21 °C"), 0);
+
+        assertThat(states(true), contains(new QuantityType<>("20.5 °C"), new QuantityType<>("21 °C")));
+    }
+
+    @Test
+    public void mixedStatesAreKept() {
+        timeSeries.store(START, new DecimalType(1), 0);
+        timeSeries.store(START.plusMinutes(1), new QuantityType<>("2 W"), 0);
+        timeSeries.store(START.plusMinutes(2), new StringType("three"), 0);
+
+        assertThat(states(true), contains(new DecimalType(1), new QuantityType<>("2 W"), new StringType("three")));
+    }
+}
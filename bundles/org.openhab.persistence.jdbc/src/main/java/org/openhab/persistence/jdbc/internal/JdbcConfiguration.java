@@ -24,6 +24,7 @@ import java.util.regex.Pattern;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.persistence.jdbc.internal.db.DownsampleFunction;
 import org.openhab.persistence.jdbc.internal.db.JdbcBaseDAO;
 import org.openhab.persistence.jdbc.internal.utils.MovingAverage;
 import org.openhab.persistence.jdbc.internal.utils.StringUtilsExt;
@@ -66,6 +67,13 @@ public class JdbcConfiguration {
 
     private int errReconnectThreshold = 0;
 
+    private int writeBufferSize = 0;
+    private int writeBatchSize = 100;
+    private int writeFlushInterval = 1000;
+
+    private int downsamplePoints = 0;
+    private DownsampleFunction downsampleFunction = DownsampleFunction.AVG;
+
     public int timerCount = 0;
     public int time1000Statements = 0;
     public long timer1000 = 0;
@@ -191,6 +199,41 @@ public class JdbcConfiguration {
             logger.debug("JDBC::updateConfig: rebuildTableNames={}", rebuildTableNames);
         }
 
+        String wb = (String) configuration.get("writeBufferSize");
+        if (wb != null && !wb.isBlank() && isNumericPattern.matcher(wb).matches()) {
+            writeBufferSize = Integer.parseInt(wb);
+            logger.debug("JDBC::updateConfig: writeBufferSize={}", writeBufferSize);
+        }
+
+        String ws = (String) configuration.get("writeBatchSize");
+        if (ws != null && !ws.isBlank() && isNumericPattern.matcher(ws).matches()) {
+            writeBatchSize = Math.max(1, Integer.parseInt(ws));
+            logger.debug("JDBC::updateConfig: writeBatchSize={}", writeBatchSize);
+        }
+
+        String wf = (String) configuration.get("writeFlushInterval");
+        if (wf != null && !wf.isBlank() && isNumericPattern.matcher(wf).matches()) {
+            writeFlushInterval = Math.max(10, Integer.parseInt(wf));
+            logger.debug("JDBC::updateConfig: writeFlushInterval={}", writeFlushInterval);
+        }
+
+        String dp = (String) configuration.get("downsamplePoints");
+        if (dp != null && !dp.isBlank() && isNumericPattern.matcher(dp).matches()) {
+            downsamplePoints = Integer.parseInt(dp);
+            logger.debug("JDBC::updateConfig: downsamplePoints={}", downsamplePoints);
+        }
+
+        String df = (String) configuration.get("downsampleFunction");
+        if (df != null && !df.isBlank()) {
+            DownsampleFunction function = DownsampleFunction.fromString(df);
+            if (function != null) {
+                downsampleFunction = function;
+                logger.debug("JDBC::updateConfig: downsampleFunction={}", downsampleFunction);
+            } else {
+                logger.warn("JDBC::updateConfig: unknown downsampleFunction '{}', using {}", df, downsampleFunction);
+            }
+        }
+
         // undocumented
         String ac = (String) configuration.get("maximumPoolSize");
         if (ac != null && !ac.isBlank()) {
@@ -400,6 +443,44 @@ public class JdbcConfiguration {
         return tableUseRealItemNames && tableCaseSensitiveItemNames;
     }
 
+    /**
+     * Checks if buffered (write-behind) storage is enabled.
+     *
+     * @return true if a write buffer size greater than zero is configured.
+     */
+    public boolean isWriteBufferEnabled() {
+        return writeBufferSize > 0;
+    }
+
+    public int getWriteBufferSize() {
+        return writeBufferSize;
+    }
+
+    public int getWriteBatchSize() {
+        return writeBatchSize;
+    }
+
+    public int getWriteFlushInterval() {
+        return writeFlushInterval;
+    }
+
+    /**
+     * Checks if queries over a time range are downsampled by the database.
+     *
+     * @return true if a number of downsampling points greater than zero is configured.
+     */
+    public boolean isDownsamplingEnabled() {
+        return downsamplePoints > 0;
+    }
+
+    public int getDownsamplePoints() {
+        return downsamplePoints;
+    }
+
+    public DownsampleFunction getDownsampleFunction() {
+        return downsampleFunction;
+    }
+
     public int getTableIdDigitCount() {
         return tableIdDigitCount;
     }
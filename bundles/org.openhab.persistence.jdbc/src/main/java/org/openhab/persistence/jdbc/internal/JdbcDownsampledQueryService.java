@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.jdbc.internal;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.items.Item;
+import org.openhab.core.persistence.FilterCriteria;
+import org.openhab.core.persistence.HistoricItem;
+import org.openhab.core.persistence.PersistenceItemInfo;
+import org.openhab.core.persistence.QueryablePersistenceService;
+import org.openhab.core.persistence.strategy.PersistenceStrategy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Query-only persistence service that returns the values of number items over a time range downsampled by the
+ * database.
+ *
+ * It is registered by the {@link JdbcPersistenceService} when downsampling is configured, so that charts can ask for
+ * downsampled values by selecting this service, while all queries of the JDBC service itself, e.g. those of
+ * persistence extensions, keep working on the stored values. Values are only stored by the JDBC service.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class JdbcDownsampledQueryService implements QueryablePersistenceService {
+
+    private final Logger logger = LoggerFactory.getLogger(JdbcDownsampledQueryService.class);
+
+    private final JdbcPersistenceService persistenceService;
+
+    public JdbcDownsampledQueryService(JdbcPersistenceService persistenceService) {
+        this.persistenceService = persistenceService;
+    }
+
+    @Override
+    public String getId() {
+        return JdbcPersistenceServiceConstants.DOWNSAMPLED_SERVICE_ID;
+    }
+
+    @Override
+    public String getLabel(@Nullable Locale locale) {
+        return JdbcPersistenceServiceConstants.DOWNSAMPLED_SERVICE_LABEL;
+    }
+
+    @Override
+    public void store(Item item) {
+        store(item, null);
+    }
+
+    @Override
+    public void store(Item item, @Nullable String alias) {
+        logger.debug("JDBC::store: '{}' only queries values, item '{}' is not stored", getId(), item.getName());
+    }
+
+    @Override
+    public List<PersistenceStrategy> getDefaultStrategies() {
+        return List.of();
+    }
+
+    @Override
+    public Set<PersistenceItemInfo> getItemInfo() {
+        return persistenceService.getItemInfo();
+    }
+
+    @Override
+    public Iterable<HistoricItem> query(FilterCriteria filter) {
+        return query(filter, null);
+    }
+
+    @Override
+    public Iterable<HistoricItem> query(FilterCriteria filter, @Nullable String alias) {
+        return persistenceService.query(filter, alias, true);
+    }
+}
@@ -13,9 +13,11 @@
 package org.openhab.persistence.jdbc.internal;
 
 import java.sql.SQLInvalidAuthorizationSpecException;
+import java.time.Duration;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -28,13 +30,17 @@ import org.knowm.yank.Yank;
 import org.openhab.core.i18n.TimeZoneProvider;
 import org.openhab.core.items.Item;
 import org.openhab.core.items.ItemUtil;
+import org.openhab.core.library.items.NumberItem;
 import org.openhab.core.persistence.FilterCriteria;
 import org.openhab.core.persistence.HistoricItem;
 import org.openhab.core.persistence.PersistenceItemInfo;
 import org.openhab.core.types.State;
+import org.openhab.persistence.jdbc.internal.JdbcWriteBuffer.BufferedWrite;
+import org.openhab.persistence.jdbc.internal.db.JdbcBaseDAO;
 import org.openhab.persistence.jdbc.internal.dto.Column;
 import org.openhab.persistence.jdbc.internal.dto.ItemVO;
 import org.openhab.persistence.jdbc.internal.dto.ItemsVO;
+import org.openhab.persistence.jdbc.internal.dto.JdbcPendingValue;
 import org.openhab.persistence.jdbc.internal.dto.JdbcPersistenceItemInfo;
 import org.openhab.persistence.jdbc.internal.exceptions.JdbcException;
 import org.openhab.persistence.jdbc.internal.exceptions.JdbcSQLException;
@@ -226,23 +232,86 @@ public class JdbcMapper {
         errCnt = 0;
     }
 
+    /**
+     * Store a batch of buffered values. Values for the same table and timestamp are collapsed, the last one wins.
+     *
+     * @param writes the buffered values
+     * @return the number of values that could not be stored
+     */
+    protected int storeItemValues(List<BufferedWrite> writes) {
+        logger.debug("JDBC::storeItemValues: {} values", writes.size());
+        Map<String, JdbcPendingValue> values = new LinkedHashMap<>();
+        int failed = 0;
+        for (BufferedWrite write : writes) {
+            String tableName;
+            try {
+                tableName = getTable(write.item(), write.alias());
+            } catch (JdbcException e) {
+                logger.warn("JDBC::storeItemValues: Unable to store item '{}': {}", write.item().getName(),
+                        e.getMessage());
+                failed++;
+                continue;
+            }
+            values.put(tableName + "@" + write.date().toInstant().toEpochMilli(), new JdbcPendingValue(write.item(),
+                    write.state(), new ItemVO(tableName, null), write.date()));
+        }
+        long timerStart = System.currentTimeMillis();
+        failed += conf.getDBDAO().doStoreItemValues(new ArrayList<>(values.values()));
+        logTime("storeItemValues", timerStart, System.currentTimeMillis());
+        if (failed < writes.size()) {
+            errCnt = 0;
+        }
+        return failed;
+    }
+
     public long getRowCount(String tableName) throws JdbcSQLException {
         return conf.getDBDAO().doGetRowCount(tableName);
     }
 
     protected List<HistoricItem> getHistItemFilterQuery(FilterCriteria filter, int numberDecimalcount, String table,
-            Item item) throws JdbcSQLException {
+            Item item, boolean downsample) throws JdbcSQLException {
         logger.debug(
                 "JDBC::getHistItemFilterQuery filter='{}' numberDecimalcount='{}' table='{}' item='{}' itemName='{}'",
                 true, numberDecimalcount, table, item, item.getName());
         long timerStart = System.currentTimeMillis();
-        List<HistoricItem> result = conf.getDBDAO().doGetHistItemFilterQuery(item, filter, numberDecimalcount, table,
-                item.getName(), timeZoneProvider.getTimeZone());
+        List<HistoricItem> result = downsample ? getHistItemDownsampleQuery(filter, numberDecimalcount, table, item)
+                : null;
+        if (result == null) {
+            result = conf.getDBDAO().doGetHistItemFilterQuery(item, filter, numberDecimalcount, table, item.getName(),
+                    timeZoneProvider.getTimeZone());
+        }
         logTime("getHistItemFilterQuery", timerStart, System.currentTimeMillis());
         errCnt = 0;
         return result;
     }
 
+    /**
+     * Queries the values of a number item over a complete time range downsampled by the database, if downsampling is
+     * enabled and the range contains more seconds than the configured number of points. Only used for queries of the
+     * {@link JdbcDownsampledQueryService}, so that persistence extensions always get the stored values.
+     *
+     * @return the downsampled values or null if the query needs to return the stored values
+     */
+    private @Nullable List<HistoricItem> getHistItemDownsampleQuery(FilterCriteria filter, int numberDecimalcount,
+            String table, Item item) throws JdbcSQLException {
+        ZonedDateTime beginDate = filter.getBeginDate();
+        ZonedDateTime endDate = filter.getEndDate();
+        // paged queries need the stored values, e.g. to get the previous state
+        if (!conf.isDownsamplingEnabled() || !(item instanceof NumberItem) || beginDate == null || endDate == null
+                || filter.getPageSize() != Integer.MAX_VALUE) {
+            return null;
+        }
+        long bucketSeconds = JdbcBaseDAO.downsampleBucketSeconds(Duration.between(beginDate, endDate),
+                conf.getDownsamplePoints());
+        if (bucketSeconds <= 0) {
+            return null;
+        }
+        logger.debug("JDBC::getHistItemDownsampleQuery item='{}' function='{}' bucketSeconds='{}'", item.getName(),
+                conf.getDownsampleFunction(), bucketSeconds);
+        return conf.getDBDAO().doGetHistItemDownsampleQuery(item, filter, numberDecimalcount, table,
+                timeZoneProvider.getTimeZone(), conf.getDownsampleFunction(), bucketSeconds);
+    }
+
     protected void deleteItemValues(FilterCriteria filter, String table) throws JdbcSQLException {
         logger.debug("JDBC::deleteItemValues filter='{}' table='{}' itemName='{}'", true, table, filter.getItemName());
         long timerStart = System.currentTimeMillis();
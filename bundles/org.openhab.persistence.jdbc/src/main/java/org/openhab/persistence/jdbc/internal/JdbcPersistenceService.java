@@ -43,6 +43,7 @@ import org.openhab.core.persistence.QueryablePersistenceService;
 import org.openhab.core.persistence.strategy.PersistenceStrategy;
 import org.openhab.core.types.State;
 import org.openhab.core.types.UnDefType;
+import org.openhab.persistence.jdbc.internal.JdbcWriteBuffer.BufferedWrite;
 import org.openhab.persistence.jdbc.internal.db.JdbcBaseDAO;
 import org.openhab.persistence.jdbc.internal.dto.Column;
 import org.openhab.persistence.jdbc.internal.dto.ItemsVO;
@@ -50,6 +51,7 @@ import org.openhab.persistence.jdbc.internal.exceptions.JdbcException;
 import org.openhab.persistence.jdbc.internal.exceptions.JdbcSQLException;
 import org.osgi.framework.BundleContext;
 import org.osgi.framework.Constants;
+import org.osgi.framework.ServiceRegistration;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Deactivate;
@@ -77,6 +79,9 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
     private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1,
             new NamedThreadFactory(JdbcPersistenceServiceConstants.SERVICE_ID));
 
+    private @Nullable JdbcWriteBuffer writeBuffer;
+    private @Nullable ServiceRegistration<?> downsampledQueryServiceRegistration;
+
     @Activate
     public JdbcPersistenceService(final @Reference ItemRegistry itemRegistry,
             final @Reference TimeZoneProvider timeZoneProvider) {
@@ -98,6 +103,13 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
     public void activate(BundleContext bundleContext, Map<Object, Object> configuration) {
         logger.debug("JDBC::activate: persistence service activated");
         updateConfig(configuration);
+        if (conf.valid && conf.isDownsamplingEnabled()) {
+            downsampledQueryServiceRegistration = bundleContext.registerService(
+                    new String[] { PersistenceService.class.getName(), QueryablePersistenceService.class.getName() },
+                    new JdbcDownsampledQueryService(this), null);
+            logger.debug("JDBC::activate: registered query service '{}'",
+                    JdbcPersistenceServiceConstants.DOWNSAMPLED_SERVICE_ID);
+        }
     }
 
     /**
@@ -120,6 +132,12 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
     @Deactivate
     public void deactivate(final int reason) {
         logger.debug("JDBC::deactivate:  persistence bundle stopping. Disconnecting from database. reason={}", reason);
+        ServiceRegistration<?> downsampledQueryServiceRegistration = this.downsampledQueryServiceRegistration;
+        if (downsampledQueryServiceRegistration != null) {
+            this.downsampledQueryServiceRegistration = null;
+            downsampledQueryServiceRegistration.unregister();
+        }
+        stopWriteBuffer();
         // closeConnection();
         initialized = false;
     }
@@ -137,22 +155,37 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
 
     @Override
     public void store(Item item) {
-        scheduler.execute(() -> internalStore(item, null, item.getState(), null));
+        enqueue(item, null, item.getState(), null);
     }
 
     @Override
     public void store(Item item, @Nullable String alias) {
-        scheduler.execute(() -> internalStore(item, null, item.getState(), alias));
+        enqueue(item, null, item.getState(), alias);
     }
 
     @Override
     public void store(Item item, ZonedDateTime date, State state) {
-        scheduler.execute(() -> internalStore(item, date, state, null));
+        enqueue(item, date, state, null);
     }
 
     @Override
     public void store(Item item, ZonedDateTime date, State state, @Nullable String alias) {
-        scheduler.execute(() -> internalStore(item, date, state, alias));
+        enqueue(item, date, state, alias);
+    }
+
+    private void enqueue(Item item, @Nullable ZonedDateTime date, State state, @Nullable String alias) {
+        JdbcWriteBuffer writeBuffer = this.writeBuffer;
+        if (writeBuffer == null) {
+            scheduler.execute(() -> internalStore(item, date, state, alias));
+            return;
+        }
+        // Do not store undefined/uninitialized data
+        if (state instanceof UnDefType) {
+            logger.debug("JDBC::store: ignore Item '{}' because it is UnDefType", item.getName());
+            return;
+        }
+        // The time of the state change is captured now, as the row will be inserted later
+        writeBuffer.add(new BufferedWrite(item, state, date != null ? date : ZonedDateTime.now(), alias));
     }
 
     private synchronized void internalStore(Item item, @Nullable ZonedDateTime date, State state,
@@ -180,6 +213,22 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
         }
     }
 
+    private synchronized int internalStore(List<BufferedWrite> writes) {
+        if (!checkDBAccessability()) {
+            logger.warn(
+                    "JDBC::store: No connection to database. Cannot persist {} buffered states! Will retry connecting to database when error count:{} equals errReconnectThreshold:{}",
+                    writes.size(), errCnt, conf.getErrReconnectThreshold());
+            return writes.size();
+        }
+        long timerStart = System.currentTimeMillis();
+        int failed = storeItemValues(writes);
+        if (logger.isDebugEnabled()) {
+            logger.debug("JDBC: Stored {} buffered states in SQL database at {} in {} ms.", writes.size() - failed,
+                    new Date(), System.currentTimeMillis() - timerStart);
+        }
+        return failed;
+    }
+
     @Override
     public Set<PersistenceItemInfo> getItemInfo() {
         return getItems();
@@ -207,6 +256,20 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
      */
     @Override
     public Iterable<HistoricItem> query(FilterCriteria filter, @Nullable String alias) {
+        return query(filter, alias, false);
+    }
+
+    /**
+     * Queries the {@link PersistenceService} for data with a given filter
+     * criteria
+     *
+     * @param filter the filter to apply to the query
+     * @param alias for the item
+     * @param downsample whether the values of number items over a time range are downsampled by the database, see
+     *            {@link JdbcDownsampledQueryService}
+     * @return a time series of items
+     */
+    Iterable<HistoricItem> query(FilterCriteria filter, @Nullable String alias, boolean downsample) {
         if (!checkDBAccessability()) {
             logger.warn("JDBC::query: database not connected, query aborted for item '{}'", filter.getItemName());
             return List.of();
@@ -252,7 +315,8 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
 
         try {
             long timerStart = System.currentTimeMillis();
-            List<HistoricItem> items = getHistItemFilterQuery(filter, conf.getNumberDecimalcount(), table, item);
+            List<HistoricItem> items = getHistItemFilterQuery(filter, conf.getNumberDecimalcount(), table, item,
+                    downsample);
             if (logger.isDebugEnabled()) {
                 logger.debug("JDBC: Query for item '{}' returned {} rows in {} ms", itemName, items.size(),
                         System.currentTimeMillis() - timerStart);
@@ -269,6 +333,7 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
     public void updateConfig(Map<Object, Object> configuration) {
         logger.debug("JDBC::updateConfig");
 
+        stopWriteBuffer();
         conf = new JdbcConfiguration(configuration);
         if (conf.valid && checkDBAccessability()) {
             namingStrategy = new NamingStrategy(conf);
@@ -283,10 +348,33 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
         } else {
             initialized = false;
         }
+        if (conf.valid && conf.isWriteBufferEnabled()) {
+            JdbcWriteBuffer writeBuffer = new JdbcWriteBuffer(scheduler, conf.getWriteBufferSize(),
+                    conf.getWriteBatchSize(), conf.getWriteFlushInterval(), this::internalStore);
+            writeBuffer.start();
+            this.writeBuffer = writeBuffer;
+            logger.debug("JDBC::updateConfig: write buffer enabled, size={} batchSize={} flushInterval={} ms",
+                    conf.getWriteBufferSize(), conf.getWriteBatchSize(), conf.getWriteFlushInterval());
+        }
 
         logger.debug("JDBC::updateConfig: configuration complete for service={}.", getId());
     }
 
+    private void stopWriteBuffer() {
+        JdbcWriteBuffer writeBuffer = this.writeBuffer;
+        if (writeBuffer != null) {
+            this.writeBuffer = null;
+            writeBuffer.stop();
+        }
+    }
+
+    /**
+     * Get the write buffer, if buffered storage is enabled.
+     */
+    public @Nullable JdbcWriteBuffer getWriteBuffer() {
+        return writeBuffer;
+    }
+
     @Override
     public List<PersistenceStrategy> getDefaultStrategies() {
         return List.of(PersistenceStrategy.Globals.CHANGE);
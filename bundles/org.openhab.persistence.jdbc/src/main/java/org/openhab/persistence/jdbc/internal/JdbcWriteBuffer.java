@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.jdbc.internal;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ToIntFunction;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.items.Item;
+import org.openhab.core.types.State;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link JdbcWriteBuffer} decouples storing item states from the database round-trips.
+ *
+ * States are collected in a bounded queue and written in batches, either when the configured batch size is
+ * reached or when the flush interval expires. When the queue is full, callers are blocked until the next flush
+ * has made room (backpressure). Counters are kept to allow monitoring the buffer from the console.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class JdbcWriteBuffer {
+
+    /**
+     * A state waiting to be written.
+     */
+    public record BufferedWrite(Item item, State state, ZonedDateTime date, @Nullable String alias) {
+    }
+
+    private final Logger logger = LoggerFactory.getLogger(JdbcWriteBuffer.class);
+
+    private final ScheduledExecutorService scheduler;
+    private final BlockingQueue<BufferedWrite> queue;
+    private final int capacity;
+    private final int batchSize;
+    private final long flushInterval;
+    private final ToIntFunction<List<BufferedWrite>> writer;
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private @Nullable ScheduledFuture<?> flushJob;
+
+    private final AtomicLong enqueuedCount = new AtomicLong();
+    private final AtomicLong writtenCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    private final AtomicLong blockedCount = new AtomicLong();
+    private final AtomicLong batchCount = new AtomicLong();
+    private volatile int highWatermark;
+    private volatile long lastFlushDuration;
+
+    /**
+     * Creates a new write buffer.
+     *
+     * @param scheduler executor used for flushing
+     * @param capacity maximum number of states kept in the queue
+     * @param batchSize maximum number of states passed to the writer at once
+     * @param flushInterval maximum time in milliseconds a state is kept in the queue
+     * @param writer function writing a batch and returning the number of states that could not be written
+     */
+    public JdbcWriteBuffer(ScheduledExecutorService scheduler, int capacity, int batchSize, long flushInterval,
+            ToIntFunction<List<BufferedWrite>> writer) {
+        this.scheduler = scheduler;
+        this.capacity = capacity;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = Math.min(batchSize, capacity);
+        this.flushInterval = flushInterval;
+        this.writer = writer;
+    }
+
+    public void start() {
+        flushJob = scheduler.scheduleWithFixedDelay(this::flush, flushInterval, flushInterval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops periodic flushing and writes all states still in the queue.
+     */
+    public void stop() {
+        ScheduledFuture<?> flushJob = this.flushJob;
+        if (flushJob != null) {
+            flushJob.cancel(false);
+            this.flushJob = null;
+        }
+        flush();
+    }
+
+    /**
+     * Adds a state to the queue. Blocks if the queue is full until a flush has made room.
+     *
+     * @param write the state to add
+     */
+    public void add(BufferedWrite write) {
+        if (!queue.offer(write)) {
+            blockedCount.incrementAndGet();
+            logger.debug("JDBC::writeBuffer: queue full ({} entries), waiting for flush", capacity);
+            requestFlush();
+            try {
+                queue.put(write);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failedCount.incrementAndGet();
+                logger.warn("JDBC::writeBuffer: interrupted, state '{}' for item '{}' is discarded", write.state(),
+                        write.item().getName());
+                return;
+            }
+        }
+        enqueuedCount.incrementAndGet();
+        int size = queue.size();
+        if (size > highWatermark) {
+            highWatermark = size;
+        }
+        if (size >= batchSize) {
+            requestFlush();
+        }
+    }
+
+    private void requestFlush() {
+        if (flushRequested.compareAndSet(false, true)) {
+            scheduler.execute(this::flush);
+        }
+    }
+
+    /**
+     * Drains the queue and passes its content in batches to the writer.
+     */
+    synchronized void flush() {
+        flushRequested.set(false);
+        List<BufferedWrite> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            long timerStart = System.currentTimeMillis();
+            int failed;
+            try {
+                failed = writer.applyAsInt(batch);
+            } catch (RuntimeException e) {
+                logger.warn("JDBC::writeBuffer: Unable to write {} states", batch.size(), e);
+                failed = batch.size();
+            }
+            lastFlushDuration = System.currentTimeMillis() - timerStart;
+            batchCount.incrementAndGet();
+            writtenCount.addAndGet(batch.size() - failed);
+            failedCount.addAndGet(failed);
+            logger.debug("JDBC::writeBuffer: wrote {} states ({} failed) in {} ms, {} remaining", batch.size(), failed,
+                    lastFlushDuration, queue.size());
+            batch.clear();
+        }
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public int getQueueSize() {
+        return queue.size();
+    }
+
+    public int getHighWatermark() {
+        return highWatermark;
+    }
+
+    public long getEnqueuedCount() {
+        return enqueuedCount.get();
+    }
+
+    public long getWrittenCount() {
+        return writtenCount.get();
+    }
+
+    public long getFailedCount() {
+        return failedCount.get();
+    }
+
+    /**
+     * Get the number of times a caller had to wait because the queue was full.
+     */
+    public long getBlockedCount() {
+        return blockedCount.get();
+    }
+
+    public long getBatchCount() {
+        return batchCount.get();
+    }
+
+    public long getLastFlushDuration() {
+        return lastFlushDuration;
+    }
+}
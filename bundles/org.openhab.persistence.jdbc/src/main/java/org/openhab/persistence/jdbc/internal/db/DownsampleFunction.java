@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.jdbc.internal.db;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * Functions used to aggregate the values of one time bucket of a downsampled query.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public enum DownsampleFunction {
+    AVG,
+    MIN,
+    MAX,
+    /**
+     * The last value of each bucket, returned with its own timestamp instead of the start of the bucket.
+     */
+    LAST;
+
+    /**
+     * Parses a configured function name, ignoring case.
+     *
+     * @param name the configured name
+     * @return the function or null if the name is unknown
+     */
+    public static @Nullable DownsampleFunction fromString(String name) {
+        for (DownsampleFunction function : values()) {
+            if (function.name().equalsIgnoreCase(name.trim())) {
+                return function;
+            }
+        }
+        return null;
+    }
+}
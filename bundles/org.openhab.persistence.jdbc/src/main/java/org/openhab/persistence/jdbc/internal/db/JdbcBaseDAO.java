@@ -13,13 +13,22 @@
 package org.openhab.persistence.jdbc.internal.db;
 
 import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -60,6 +69,7 @@ import org.openhab.persistence.jdbc.internal.dto.Column;
 import org.openhab.persistence.jdbc.internal.dto.ItemVO;
 import org.openhab.persistence.jdbc.internal.dto.ItemsVO;
 import org.openhab.persistence.jdbc.internal.dto.JdbcHistoricItem;
+import org.openhab.persistence.jdbc.internal.dto.JdbcPendingValue;
 import org.openhab.persistence.jdbc.internal.exceptions.JdbcSQLException;
 import org.openhab.persistence.jdbc.internal.utils.DbMetaData;
 import org.openhab.persistence.jdbc.internal.utils.StringUtilsExt;
@@ -430,10 +440,8 @@ public class JdbcBaseDAO {
 
     public void doStoreItemValue(Item item, State itemState, ItemVO vo) throws JdbcSQLException {
         ItemVO storedVO = storeItemValueProvider(item, itemState, vo);
-        String sql = StringUtilsExt.replaceArrayMerge(sqlInsertItemValue,
-                new String[] { "#tableName#", "#tablePrimaryValue#" },
-                new String[] { formattedIdentifier(storedVO.getTableName()), sqlTypes.get("tablePrimaryValue") });
-        Object[] params = { storedVO.getValue(), storedVO.getValue() };
+        String sql = storeItemValueStatementProvider(storedVO, sqlTypes.get("tablePrimaryValue"));
+        Object[] params = storeItemValueParams(storedVO, null);
         logger.debug("JDBC::doStoreItemValue sql={} value='{}'", sql, storedVO.getValue());
         try {
             Yank.execute(sql, params);
@@ -444,11 +452,9 @@ public class JdbcBaseDAO {
 
     public void doStoreItemValue(Item item, State itemState, ItemVO vo, ZonedDateTime date) throws JdbcSQLException {
         ItemVO storedVO = storeItemValueProvider(item, itemState, vo);
-        String sql = StringUtilsExt.replaceArrayMerge(sqlInsertItemValue,
-                new String[] { "#tableName#", "#tablePrimaryValue#" },
-                new String[] { formattedIdentifier(storedVO.getTableName()), "?" });
+        String sql = storeItemValueStatementProvider(storedVO, "?");
         java.sql.Timestamp timestamp = new java.sql.Timestamp(date.toInstant().toEpochMilli());
-        Object[] params = { timestamp, storedVO.getValue(), storedVO.getValue() };
+        Object[] params = storeItemValueParams(storedVO, timestamp);
         logger.debug("JDBC::doStoreItemValue sql={} timestamp={} value='{}'", sql, timestamp, storedVO.getValue());
         try {
             Yank.execute(sql, params);
@@ -457,6 +463,68 @@ public class JdbcBaseDAO {
         }
     }
 
+    /**
+     * Stores a number of values with explicit timestamps using JDBC batches.
+     *
+     * Values are grouped by their resulting SQL statement, i.e. by table and data type, and every group is sent to the
+     * database as one batch within a transaction. If a batch fails, it is rolled back and its rows are retried one by
+     * one, so that a single bad row does not discard the remaining ones and no row is stored twice.
+     *
+     * @param values the values to store
+     * @return the number of values that could not be stored
+     */
+    public int doStoreItemValues(List<JdbcPendingValue> values) {
+        Map<String, List<Object[]>> batches = new LinkedHashMap<>();
+        for (JdbcPendingValue value : values) {
+            ItemVO storedVO = storeItemValueProvider(value.item(), value.state(), value.vo());
+            java.sql.Timestamp timestamp = new java.sql.Timestamp(value.date().toInstant().toEpochMilli());
+            batches.computeIfAbsent(storeItemValueStatementProvider(storedVO, "?"), k -> new ArrayList<>())
+                    .add(storeItemValueParams(storedVO, timestamp));
+        }
+        int failed = 0;
+        for (Map.Entry<String, List<Object[]>> batch : batches.entrySet()) {
+            String sql = batch.getKey();
+            List<Object[]> rows = batch.getValue();
+            logger.debug("JDBC::doStoreItemValues sql={} rows={}", sql, rows.size());
+            try {
+                executeBatch(sql, rows);
+            } catch (SQLException e) {
+                logger.debug("JDBC::doStoreItemValues batch failed, retrying {} rows one by one: {}", rows.size(),
+                        e.getMessage());
+                for (Object[] params : rows) {
+                    try {
+                        Yank.execute(sql, params);
+                    } catch (YankSQLException e1) {
+                        logger.warn("JDBC::doStoreItemValues: Unable to store row {}: {}", Arrays.toString(params),
+                                e1.getMessage());
+                        failed++;
+                    }
+                }
+            }
+        }
+        return failed;
+    }
+
+    private void executeBatch(String sql, List<Object[]> rows) throws SQLException {
+        try (Connection connection = Yank.getDefaultConnectionPool().getConnection()) {
+            connection.setAutoCommit(false);
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                for (Object[] params : rows) {
+                    for (int i = 0; i < params.length; i++) {
+                        statement.setObject(i + 1, params[i]);
+                    }
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+                connection.commit();
+            } catch (SQLException e) {
+                // drivers differ in whether the rows before a failing one are kept, discard all of them
+                connection.rollback();
+                throw e;
+            }
+        }
+    }
+
     public List<HistoricItem> doGetHistItemFilterQuery(Item item, FilterCriteria filter, int numberDecimalcount,
             String table, String name, ZoneId timeZone) throws JdbcSQLException {
         String sql = histItemFilterQueryProvider(filter, numberDecimalcount, table, name, timeZone);
@@ -479,6 +547,52 @@ public class JdbcBaseDAO {
                 .collect(Collectors.<HistoricItem> toList());
     }
 
+    /**
+     * Queries the values of a number item aggregated into time buckets of the given width.
+     *
+     * The aggregation is done by the database, and the result is read through a forward-only cursor instead of being
+     * copied into an intermediate list of rows first.
+     *
+     * @param function the function used to aggregate the values of a bucket
+     * @param bucketSeconds width of a bucket in seconds, see {@link #downsampleBucketSeconds(Duration, int)}
+     * @return the aggregated values or null if the database does not support downsampling
+     */
+    public @Nullable List<HistoricItem> doGetHistItemDownsampleQuery(Item item, FilterCriteria filter,
+            int numberDecimalcount, String table, ZoneId timeZone, DownsampleFunction function, long bucketSeconds)
+            throws JdbcSQLException {
+        String sql = histItemDownsampleQueryProvider(filter, numberDecimalcount, table, timeZone, function,
+                bucketSeconds);
+        if (sql == null) {
+            return null;
+        }
+        logger.debug("JDBC::doGetHistItemDownsampleQuery sql={}", sql);
+        String itemName = item.getName();
+        Unit<? extends Quantity<?>> unit = item instanceof NumberItem numberItem ? numberItem.getUnit() : null;
+        List<HistoricItem> result = new ArrayList<>();
+        try (Connection connection = Yank.getDefaultConnectionPool().getConnection()) {
+            // some drivers, e.g. PostgreSQL, only honor the fetch size outside of auto-commit mode
+            connection.setAutoCommit(false);
+            try (Statement statement = connection.createStatement(ResultSet.TYPE_FORWARD_ONLY,
+                    ResultSet.CONCUR_READ_ONLY)) {
+                statement.setFetchSize(QUERY_FETCH_SIZE);
+                try (ResultSet resultSet = statement.executeQuery(sql)) {
+                    while (resultSet.next()) {
+                        Object time = resultSet.getObject(1);
+                        Object value = resultSet.getObject(2);
+                        if (time != null && value != null) {
+                            result.add(new JdbcHistoricItem(itemName, objectAsState(item, unit, value),
+                                    objectAsInstant(time)));
+                        }
+                    }
+                }
+            }
+            connection.commit();
+        } catch (SQLException e) {
+            throw new JdbcSQLException(e);
+        }
+        return result;
+    }
+
     public void doDeleteItemValues(FilterCriteria filter, String table, ZoneId timeZone) throws JdbcSQLException {
         String sql = histItemFilterDeleteProvider(filter, table, timeZone);
         logger.debug("JDBC::doDeleteItemValues sql={}", sql);
@@ -505,6 +619,12 @@ public class JdbcBaseDAO {
      * Providers *
      *************/
     static final DateTimeFormatter JDBC_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    static final int QUERY_FETCH_SIZE = 1000;
+
+    // bucket widths used for downsampling, larger ranges use multiples of a day
+    private static final long[] DOWNSAMPLE_BUCKET_SECONDS = { 1, 2, 5, 10, 15, 30, 60, 120, 300, 600, 900, 1800, 3600,
+            7200, 10800, 21600, 43200, 86400 };
+    private static final long SECONDS_PER_DAY = 86400;
 
     protected String histItemFilterQueryProvider(FilterCriteria filter, int numberDecimalcount, String table,
             String simpleName, ZoneId timeZone) {
@@ -529,6 +649,55 @@ public class JdbcBaseDAO {
         return queryString;
     }
 
+    /**
+     * Provides the query aggregating the values of a number item into time buckets.
+     *
+     * @return SQL statement or null if the database does not support downsampling
+     */
+    protected @Nullable String histItemDownsampleQueryProvider(FilterCriteria filter, int numberDecimalcount,
+            String table, ZoneId timeZone, DownsampleFunction function, long bucketSeconds) {
+        logger.debug("JDBC::histItemDownsampleQueryProvider filter = {}, numberDecimalcount = {}, table = {}, "
+                + "function = {}, bucketSeconds = {}", filter, numberDecimalcount, table, function, bucketSeconds);
+        String bucket = timeBucketProvider(bucketSeconds);
+        if (bucket == null) {
+            return null;
+        }
+        String filterString = resolveTimeFilter(filter, timeZone);
+        String ordering = (filter.getOrdering() == Ordering.ASCENDING) ? " ASC" : " DESC";
+        String queryString;
+        if (function == DownsampleFunction.LAST) {
+            // SELECT t.time, t.value FROM number_item_0114 t INNER JOIN (SELECT MAX(time) AS last_time FROM
+            // number_item_0114 GROUP BY <bucket>) b ON t.time = b.last_time ORDER BY t.time ASC
+            queryString = "SELECT t.time, " + roundedValueProvider("t.value", numberDecimalcount) + " FROM "
+                    + formattedIdentifier(table) + " t INNER JOIN (SELECT MAX(time) AS last_time FROM "
+                    + formattedIdentifier(table) + filterString + " GROUP BY " + bucket
+                    + ") b ON t.time = b.last_time ORDER BY t.time" + ordering;
+        } else {
+            // SELECT <bucket> AS bucket, ROUND(AVG(value),3) FROM number_item_0114 GROUP BY <bucket> ORDER BY bucket
+            queryString = "SELECT " + bucket + " AS bucket, "
+                    + roundedValueProvider(function.name() + "(value)", numberDecimalcount) + " FROM "
+                    + formattedIdentifier(table) + filterString + " GROUP BY " + bucket + " ORDER BY bucket"
+                    + ordering;
+        }
+        logger.debug("JDBC::query queryString = {}", queryString);
+        return queryString;
+    }
+
+    /**
+     * Provides the expression truncating the time column to the start of its bucket. The default implementation
+     * uses integer division of the Unix timestamp as supported by MySQL and MariaDB.
+     *
+     * @param bucketSeconds width of a bucket in seconds
+     * @return SQL expression or null if the database does not support downsampling
+     */
+    protected @Nullable String timeBucketProvider(long bucketSeconds) {
+        return "FROM_UNIXTIME((UNIX_TIMESTAMP(time) DIV " + bucketSeconds + ") * " + bucketSeconds + ")";
+    }
+
+    protected String roundedValueProvider(String expression, int numberDecimalcount) {
+        return numberDecimalcount > -1 ? "ROUND(" + expression + "," + numberDecimalcount + ")" : expression;
+    }
+
     protected String histItemFilterDeleteProvider(FilterCriteria filter, String table, ZoneId timeZone) {
         logger.debug("JDBC::histItemFilterDeleteProvider filter = {}, table = {}", filter, table);
 
@@ -554,6 +723,32 @@ public class JdbcBaseDAO {
         return filterString;
     }
 
+    /**
+     * Provides the insert statement of a value.
+     *
+     * @param storedVO the value prepared by {@link #storeItemValueProvider(Item, State, ItemVO)}
+     * @param tablePrimaryValue the time of the value, either the database time or "?" if the timestamp is passed as
+     *            first parameter
+     * @return SQL statement
+     */
+    protected String storeItemValueStatementProvider(ItemVO storedVO, String tablePrimaryValue) {
+        return StringUtilsExt.replaceArrayMerge(sqlInsertItemValue,
+                new String[] { "#tableName#", "#tablePrimaryValue#" },
+                new String[] { formattedIdentifier(storedVO.getTableName()), tablePrimaryValue });
+    }
+
+    /**
+     * Provides the parameters matching {@link #storeItemValueStatementProvider(ItemVO, String)}.
+     *
+     * @param storedVO the value prepared by {@link #storeItemValueProvider(Item, State, ItemVO)}
+     * @param timestamp the timestamp of the value or null if the database time is used
+     * @return statement parameters
+     */
+    protected Object[] storeItemValueParams(ItemVO storedVO, java.sql.@Nullable Timestamp timestamp) {
+        return timestamp == null ? new Object[] { storedVO.getValue(), storedVO.getValue() }
+                : new Object[] { timestamp, storedVO.getValue(), storedVO.getValue() };
+    }
+
     private String updateItemTableNamesProvider(ItemVO itemTable) {
         String newTableName = itemTable.getNewTableName();
         if (newTableName == null) {
@@ -761,6 +956,28 @@ public class JdbcBaseDAO {
         return identifier;
     }
 
+    /**
+     * Chooses the width of the buckets used to downsample a time range, so that the range is covered by at most the
+     * given number of buckets. Widths are rounded up to common intervals like 5 minutes or 1 hour.
+     *
+     * @param range the queried time range
+     * @param points the maximum number of buckets
+     * @return width in seconds or 0 if the range does not need to be downsampled
+     */
+    public static long downsampleBucketSeconds(Duration range, int points) {
+        long seconds = range.getSeconds();
+        if (points <= 0 || seconds <= points) {
+            return 0;
+        }
+        long minimumWidth = (seconds + points - 1) / points;
+        for (long width : DOWNSAMPLE_BUCKET_SECONDS) {
+            if (width >= minimumWidth) {
+                return width;
+            }
+        }
+        return (minimumWidth + SECONDS_PER_DAY - 1) / SECONDS_PER_DAY * SECONDS_PER_DAY;
+    }
+
     private String getItemType(Item i) {
         Item item = i;
         String def = "STRINGITEM";
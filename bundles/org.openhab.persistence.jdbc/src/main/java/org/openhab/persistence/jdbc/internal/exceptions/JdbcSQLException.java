@@ -12,13 +12,14 @@
  */
 package org.openhab.persistence.jdbc.internal.exceptions;
 
+import java.sql.SQLException;
 import java.util.Objects;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.knowm.yank.exceptions.YankSQLException;
 
 /**
- * This exception wraps a {@link YankSQLException}.
+ * This exception wraps a {@link YankSQLException} or a {@link SQLException}.
  *
  * @author Jacob Laursen - Initial contribution
  */
@@ -30,4 +31,9 @@ public class JdbcSQLException extends JdbcException {
     public JdbcSQLException(YankSQLException sqlException) {
         super(Objects.requireNonNull(sqlException.getMessage()));
     }
+
+    public JdbcSQLException(SQLException sqlException) {
+        super(Objects.requireNonNullElse(sqlException.getMessage(), sqlException.getClass().getSimpleName()),
+                sqlException);
+    }
 }
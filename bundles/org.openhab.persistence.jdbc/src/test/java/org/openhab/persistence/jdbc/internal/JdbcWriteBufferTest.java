@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.jdbc.internal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.library.items.NumberItem;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.persistence.jdbc.internal.JdbcWriteBuffer.BufferedWrite;
+
+/**
+ * Tests the {@link JdbcWriteBuffer}.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class JdbcWriteBufferTest {
+
+    private final ScheduledExecutorService scheduler = mock(ScheduledExecutorService.class);
+    private final List<Integer> batchSizes = new ArrayList<>();
+    private int failuresPerBatch = 0;
+    private @NonNullByDefault({}) JdbcWriteBuffer writeBuffer;
+
+    @BeforeEach
+    public void setup() {
+        batchSizes.clear();
+        failuresPerBatch = 0;
+        writeBuffer = new JdbcWriteBuffer(scheduler, 10, 2, 1000, writes -> {
+            batchSizes.add(writes.size());
+            return failuresPerBatch;
+        });
+    }
+
+    private BufferedWrite write(int value) {
+        return new BufferedWrite(new NumberItem("Test"), new DecimalType(value), ZonedDateTime.now(), null);
+    }
+
+    @Test
+    void flushWritesQueueInBatches() {
+        for (int i = 0; i < 5; i++) {
+            writeBuffer.add(write(i));
+        }
+        writeBuffer.flush();
+
+        assertEquals(List.of(2, 2, 1), batchSizes);
+        assertEquals(0, writeBuffer.getQueueSize());
+        assertEquals(5, writeBuffer.getEnqueuedCount());
+        assertEquals(5, writeBuffer.getWrittenCount());
+        assertEquals(3, writeBuffer.getBatchCount());
+        assertEquals(5, writeBuffer.getHighWatermark());
+    }
+
+    @Test
+    void reachingBatchSizeRequestsSingleFlush() {
+        writeBuffer.add(write(1));
+        verify(scheduler, never()).execute(any());
+
+        writeBuffer.add(write(2));
+        writeBuffer.add(write(3));
+        verify(scheduler, times(1)).execute(any());
+    }
+
+    @Test
+    void failuresAreCounted() {
+        failuresPerBatch = 1;
+        writeBuffer.add(write(1));
+        writeBuffer.add(write(2));
+        writeBuffer.flush();
+
+        assertEquals(1, writeBuffer.getWrittenCount());
+        assertEquals(1, writeBuffer.getFailedCount());
+    }
+}
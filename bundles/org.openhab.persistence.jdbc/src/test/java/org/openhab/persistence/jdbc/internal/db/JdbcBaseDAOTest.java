@@ -13,11 +13,13 @@
 package org.openhab.persistence.jdbc.internal.db;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
@@ -192,6 +194,60 @@ public class JdbcBaseDAOTest {
         assertThat(sql, is("SELECT time, value FROM " + DB_TABLE_NAME + " ORDER BY time DESC LIMIT 0,1"));
     }
 
+    @Test
+    void testHistItemDownsampleQueryProviderWithStartAndEndDateReturnsGroupedSelectQuery() {
+        filter.setBeginDate(parseDateTimeString("2022-01-10T15:01:44"));
+        filter.setEndDate(parseDateTimeString("2022-01-15T15:01:44"));
+        filter.setOrdering(Ordering.ASCENDING);
+
+        String sql = jdbcBaseDAO.histItemDownsampleQueryProvider(filter, 3, DB_TABLE_NAME, UTC_ZONE_ID,
+                DownsampleFunction.AVG, 300);
+        String bucket = "FROM_UNIXTIME((UNIX_TIMESTAMP(time) DIV 300) * 300)";
+        assertThat(sql, is("SELECT " + bucket + " AS bucket, ROUND(AVG(value),3) FROM " + DB_TABLE_NAME
+                + " WHERE TIME>='" + JdbcBaseDAO.JDBC_DATE_FORMAT.format(Objects.requireNonNull(filter.getBeginDate()))
+                + "' AND TIME<='" + JdbcBaseDAO.JDBC_DATE_FORMAT.format(Objects.requireNonNull(filter.getEndDate()))
+                + "' GROUP BY " + bucket + " ORDER BY bucket ASC"));
+    }
+
+    @Test
+    void testHistItemDownsampleQueryProviderWithLastReturnsJoinedSelectQuery() {
+        String sql = jdbcBaseDAO.histItemDownsampleQueryProvider(filter, -1, DB_TABLE_NAME, UTC_ZONE_ID,
+                DownsampleFunction.LAST, 60);
+        assertThat(sql, is("SELECT t.time, t.value FROM " + DB_TABLE_NAME
+                + " t INNER JOIN (SELECT MAX(time) AS last_time FROM " + DB_TABLE_NAME
+                + " GROUP BY FROM_UNIXTIME((UNIX_TIMESTAMP(time) DIV 60) * 60)) b ON t.time = b.last_time"
+                + " ORDER BY t.time DESC"));
+    }
+
+    @Test
+    void testHistItemDownsampleQueryProviderReturnsNullIfUnsupported() {
+        String sql = new JdbcDerbyDAO().histItemDownsampleQueryProvider(filter, 3, DB_TABLE_NAME, UTC_ZONE_ID,
+                DownsampleFunction.AVG, 60);
+        assertThat(sql, is(nullValue()));
+    }
+
+    @Test
+    void testPostgresqlTimeBucketKeepsTheTypeOfTheTimeColumn() {
+        JdbcPostgresqlDAO postgresqlDAO = new JdbcPostgresqlDAO();
+        assertThat(postgresqlDAO.timeBucketProvider(3600), is("date_trunc('hour', time)"));
+        // no to_timestamp, which would turn the buckets of timestamp columns into timestamptz values
+        assertThat(postgresqlDAO.timeBucketProvider(300),
+                is("time - MOD(CAST(extract(epoch FROM time) AS numeric), 300) * INTERVAL '1 second'"));
+    }
+
+    @Test
+    void testDownsampleBucketSecondsIsRoundedUpToCommonInterval() {
+        assertThat(JdbcBaseDAO.downsampleBucketSeconds(Duration.ofDays(1), 500), is(300L));
+        assertThat(JdbcBaseDAO.downsampleBucketSeconds(Duration.ofHours(1), 60), is(60L));
+        assertThat(JdbcBaseDAO.downsampleBucketSeconds(Duration.ofDays(365), 100), is(4L * 86400));
+    }
+
+    @Test
+    void testDownsampleBucketSecondsReturnsZeroIfNotNeeded() {
+        assertThat(JdbcBaseDAO.downsampleBucketSeconds(Duration.ofMinutes(5), 500), is(0L));
+        assertThat(JdbcBaseDAO.downsampleBucketSeconds(Duration.ofDays(1), 0), is(0L));
+    }
+
     @Test
     void testHistItemFilterDeleteProviderReturnsDeleteQueryWithoutWhereClause() {
         String sql = jdbcBaseDAO.histItemFilterDeleteProvider(filter, DB_TABLE_NAME, UTC_ZONE_ID);
@@ -12,6 +12,7 @@
  */
 package org.openhab.persistence.jpa.internal;
 
+import java.math.BigDecimal;
 import java.util.Map;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -35,12 +36,18 @@ public class JpaConfiguration {
     private static final String CFG_USERNAME = "user";
     private static final String CFG_PASSWORD = "password";
     private static final String CFG_SYNCMAPPING = "syncmappings";
+    private static final String CFG_COMMIT_INTERVAL = "commitInterval";
+    private static final String CFG_BATCH_SIZE = "batchSize";
+
+    private static final int DEFAULT_BATCH_SIZE = 100;
 
     public final String dbConnectionUrl;
     public final String dbDriverClass;
     public final String dbUserName;
     public final String dbPassword;
     public final String dbSyncMapping;
+    public final int commitInterval;
+    public final int batchSize;
 
     public JpaConfiguration(final Map<String, @Nullable Object> properties) throws IllegalArgumentException {
         logger.debug("Creating JPA config...");
@@ -81,6 +88,27 @@ public class JpaConfiguration {
         }
         dbSyncMapping = param == null ? "" : param;
 
+        commitInterval = getIntParameter(properties, CFG_COMMIT_INTERVAL, 0);
+        batchSize = getIntParameter(properties, CFG_BATCH_SIZE, DEFAULT_BATCH_SIZE);
+        if (commitInterval < 0) {
+            throw new IllegalArgumentException("Negative commit interval in JPA configuration!");
+        } else if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be positive in JPA configuration!");
+        }
+
         logger.debug("Creating JPA config... done");
     }
+
+    private static int getIntParameter(final Map<String, @Nullable Object> properties, String name,
+            int defaultValue) {
+        Object param = properties.get(name);
+        if (param == null || param.toString().isBlank()) {
+            return defaultValue;
+        }
+        try {
+            return new BigDecimal(param.toString().trim()).intValueExact();
+        } catch (ArithmeticException | NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid " + name + " '" + param + "' in JPA configuration!");
+        }
+    }
 }
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.jpa.internal;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.items.Item;
+import org.openhab.core.persistence.HistoricItem;
+import org.openhab.persistence.jpa.internal.model.JpaPersistentItem;
+
+/**
+ * Query result that loads the persisted items page by page while it is iterated, so that the result is never held in
+ * memory as a whole.
+ *
+ * Pages after the first one are loaded by key, starting after the last item of the previous page, so the database
+ * does not have to skip the items of all previous pages. The first page is kept, so a result that fits into one page
+ * is loaded only once. Larger results are loaded again by every iterator, one page at a time. If a page can't be
+ * loaded, the iterator throws an {@link IllegalStateException} instead of ending early, so an incomplete result is
+ * never mistaken for a complete one.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class JpaPagedHistoricItems implements Iterable<HistoricItem> {
+
+    /**
+     * Loads one page of persisted items.
+     */
+    @FunctionalInterface
+    public interface PageLoader {
+        /**
+         * @param after the last item of the previous page, or null to load the first page
+         * @param maxResults maximum number of items to load
+         * @return the loaded items, fewer than maxResults if there are no more items, or null if loading failed
+         */
+        @Nullable
+        List<JpaPersistentItem> load(@Nullable JpaPersistentItem after, int maxResults);
+    }
+
+    private final PageLoader pageLoader;
+    private final Item item;
+    private final int maxResults;
+    private final int fetchSize;
+
+    // guarded by this
+    private @Nullable List<JpaPersistentItem> firstPage;
+
+    /**
+     * @param pageLoader loads the pages
+     * @param item the item used to convert the persisted values
+     * @param maxResults maximum number of items in the result
+     * @param fetchSize number of items loaded per page
+     */
+    public JpaPagedHistoricItems(PageLoader pageLoader, Item item, int maxResults, int fetchSize) {
+        this.pageLoader = pageLoader;
+        this.item = item;
+        this.maxResults = maxResults;
+        this.fetchSize = fetchSize;
+    }
+
+    @Override
+    public Iterator<HistoricItem> iterator() {
+        return new PageIterator();
+    }
+
+    private synchronized List<JpaPersistentItem> getFirstPage() {
+        List<JpaPersistentItem> rows = firstPage;
+        if (rows == null) {
+            rows = load(null, Math.min(fetchSize, maxResults));
+            firstPage = rows;
+        }
+        return rows;
+    }
+
+    private List<JpaPersistentItem> load(@Nullable JpaPersistentItem after, int size) {
+        List<JpaPersistentItem> rows = pageLoader.load(after, size);
+        if (rows == null) {
+            throw new IllegalStateException("Failed to load the persisted values of item '" + item.getName() + "'"
+                    + (after == null ? "" : " after " + after.getInstant()));
+        }
+        return rows;
+    }
+
+    private class PageIterator implements Iterator<HistoricItem> {
+        private Iterator<HistoricItem> page = Collections.emptyIterator();
+        private @Nullable JpaPersistentItem last;
+        private int remaining = maxResults;
+        private boolean exhausted = maxResults <= 0;
+
+        @Override
+        public boolean hasNext() {
+            while (!page.hasNext() && !exhausted) {
+                loadPage();
+            }
+            return page.hasNext();
+        }
+
+        @Override
+        public HistoricItem next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return page.next();
+        }
+
+        private void loadPage() {
+            int size = Math.min(fetchSize, remaining);
+            JpaPersistentItem after = last;
+            List<JpaPersistentItem> rows = after == null ? getFirstPage() : load(after, size);
+            remaining -= rows.size();
+            exhausted = rows.size() < size || remaining <= 0;
+            if (!rows.isEmpty()) {
+                last = rows.get(rows.size() - 1);
+            }
+            // values that can't be converted are skipped, so a page may contain fewer items than rows
+            page = JpaHistoricItem.fromResultList(rows, item).iterator();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "JpaPagedHistoricItems[item=" + item.getName() + ", maxResults=" + maxResults + "]";
+    }
+}
@@ -12,15 +12,22 @@
  */
 package org.openhab.persistence.jpa.internal;
 
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.common.ThreadPoolManager;
 import org.openhab.core.config.core.ConfigurableService;
 import org.openhab.core.items.Item;
 import org.openhab.core.items.ItemNotFoundException;
@@ -65,6 +72,11 @@ public class JpaPersistenceService implements QueryablePersistenceService {
     private static final String SERVICE_LABEL = "JPA";
     protected static final String CONFIG_URI = "persistence:jpa";
 
+    /**
+     * Number of items loaded per page by queries with a larger page size, including unpaged queries
+     */
+    private static final int QUERY_FETCH_SIZE = 1000;
+
     private final Logger logger = LoggerFactory.getLogger(JpaPersistenceService.class);
 
     private final ItemRegistry itemRegistry;
@@ -75,6 +87,12 @@ public class JpaPersistenceService implements QueryablePersistenceService {
 
     private boolean initialized;
 
+    private final ScheduledExecutorService scheduler = ThreadPoolManager.getScheduledPool("org.openhab.jpa");
+
+    // items waiting for the next commit, guarded by itself
+    private final List<JpaPersistentItem> pendingItems = new ArrayList<>();
+    private final AtomicBoolean commitScheduled = new AtomicBoolean();
+
     @Activate
     public JpaPersistenceService(BundleContext context, Map<String, @Nullable Object> properties,
             final @Reference ItemRegistry itemRegistry) {
@@ -108,6 +126,7 @@ public class JpaPersistenceService implements QueryablePersistenceService {
     @Deactivate
     public void deactivate() {
         logger.debug("Deactivating JPA persistence service");
+        commitPending();
         closeEntityManagerFactory();
     }
 
@@ -156,6 +175,11 @@ public class JpaPersistenceService implements QueryablePersistenceService {
         pItem.setRealName(item.getName());
         pItem.setTimestamp(new Date());
 
+        if (config.commitInterval > 0) {
+            buffer(pItem);
+            return;
+        }
+
         EntityManager em = getEntityManagerFactory().createEntityManager();
         try {
             logger.debug("Persisting item...");
@@ -180,6 +204,90 @@ public class JpaPersistenceService implements QueryablePersistenceService {
         logger.debug("Storing item...done");
     }
 
+    private void buffer(JpaPersistentItem pItem) {
+        boolean full;
+        synchronized (pendingItems) {
+            pendingItems.add(pItem);
+            full = pendingItems.size() >= config.batchSize;
+        }
+        if (full || commitScheduled.compareAndSet(false, true)) {
+            try {
+                if (full) {
+                    scheduler.execute(this::commitPending);
+                } else {
+                    scheduler.schedule(this::commitPending, config.commitInterval, TimeUnit.MILLISECONDS);
+                }
+            } catch (RejectedExecutionException e) {
+                commitScheduled.set(false);
+                commitPending();
+            }
+        }
+        logger.debug("Storing item...buffered");
+    }
+
+    /**
+     * Persists all buffered items, up to batchSize items per transaction.
+     */
+    private synchronized void commitPending() {
+        commitScheduled.set(false);
+        List<JpaPersistentItem> items;
+        synchronized (pendingItems) {
+            if (pendingItems.isEmpty()) {
+                return;
+            }
+            items = new ArrayList<>(pendingItems);
+            pendingItems.clear();
+        }
+        for (int i = 0; i < items.size(); i += config.batchSize) {
+            List<JpaPersistentItem> batch = items.subList(i, Math.min(i + config.batchSize, items.size()));
+            if (!persist(batch)) {
+                // one failing item rolls back the whole transaction, retry the items one by one
+                for (JpaPersistentItem pItem : batch) {
+                    persist(List.of(copy(pItem)));
+                }
+            }
+        }
+        logger.debug("Committed {} buffered items", items.size());
+    }
+
+    // a fresh instance without the state left behind by the rolled back transaction
+    private JpaPersistentItem copy(JpaPersistentItem pItem) {
+        JpaPersistentItem copy = new JpaPersistentItem();
+        copy.setName(pItem.getName());
+        copy.setRealName(pItem.getRealName());
+        copy.setTimestamp(Date.from(pItem.getInstant()));
+        copy.setValue(pItem.getValue());
+        return copy;
+    }
+
+    private boolean persist(List<JpaPersistentItem> items) {
+        EntityManager em = getEntityManagerFactory().createEntityManager();
+        try {
+            em.getTransaction().begin();
+            for (JpaPersistentItem pItem : items) {
+                em.persist(pItem);
+            }
+            em.getTransaction().commit();
+            return true;
+        } catch (Exception e) {
+            if (em.getTransaction().isActive()) {
+                em.getTransaction().rollback();
+            }
+            if (items.size() > 1) {
+                logger.debug("Failed to persist {} items in one transaction: {}", items.size(), e.getMessage());
+            } else if (e.getCause() instanceof EntityExistsException) {
+                // there's a UNIQUE constraint in the database, and we tried to write
+                // a duplicate timestamp. Just ignore
+                logger.debug("Failed to persist item {} because of duplicate timestamp", items.get(0).getName());
+            } else {
+                logger.error("Error while persisting item {}!", items.get(0).getName(), e);
+            }
+            return false;
+        } finally {
+            em.close();
+        }
+    }
+
     @Override
     public Set<PersistenceItemInfo> getItemInfo() {
         return Set.of();
@@ -210,29 +318,73 @@ public class JpaPersistenceService implements QueryablePersistenceService {
             return List.of();
         }
 
+        // make buffered items visible to the query
+        commitPending();
+
+        String queryString = createQueryString(filter, false);
+        logger.debug("The query: {}", queryString);
+
+        String name = alias != null ? alias : item.getName();
+        int firstResult = filter.getPageNumber() * filter.getPageSize();
+        if (filter.getPageSize() > QUERY_FETCH_SIZE) {
+            // large pages and unpaged queries (the default page size) are loaded page by page while they are
+            // iterated, each page after the last item of the previous one
+            String nextPageQueryString = createQueryString(filter, true);
+            return new JpaPagedHistoricItems((after, max) -> after == null
+                    ? loadItems(queryString, filter, name, null, firstResult, max)
+                    : loadItems(nextPageQueryString, filter, name, after, 0, max), item, filter.getPageSize(),
+                    QUERY_FETCH_SIZE);
+        }
+
+        List<JpaPersistentItem> result = loadItems(queryString, filter, name, null, firstResult,
+                filter.getPageSize());
+        if (result == null) {
+            return List.of();
+        }
+        List<HistoricItem> historicList = JpaHistoricItem.fromResultList(result, item);
+        logger.debug("Convert to HistoricItem: {}", historicList.size());
+        return historicList;
+    }
+
+    /**
+     * @param afterKey whether only the items after a given timestamp and id are queried
+     */
+    private String createQueryString(FilterCriteria filter, boolean afterKey) {
         String sortOrder;
+        String after;
         if (filter.getOrdering() == Ordering.ASCENDING) {
             sortOrder = "ASC";
+            after = ">";
         } else {
             sortOrder = "DESC";
+            after = "<";
         }
 
-        boolean hasBeginDate = false;
-        boolean hasEndDate = false;
         String queryString = "SELECT n FROM " + JpaPersistentItem.class.getSimpleName()
                 + " n WHERE n.realName = :itemName";
         if (filter.getBeginDate() != null) {
             queryString += " AND n.timestamp >= :beginDate";
-            hasBeginDate = true;
         }
         if (filter.getEndDate() != null) {
             queryString += " AND n.timestamp <= :endDate";
-            hasEndDate = true;
         }
-        queryString += " ORDER BY n.timestamp " + sortOrder;
-
-        logger.debug("The query: {}", queryString);
+        if (afterKey) {
+            queryString += " AND (n.timestamp " + after + " :afterTimestamp OR (n.timestamp = :afterTimestamp AND n.id "
+                    + after + " :afterId))";
+        }
+        // the id makes the order of items with the same timestamp stable across pages
+        queryString += " ORDER BY n.timestamp " + sortOrder + ", n.id " + sortOrder;
+        return queryString;
+    }
 
+    /**
+     * Loads the persisted items matching a query.
+     *
+     * @param after the item after which the items are loaded, for queries created with afterKey
+     * @return the items or null if the query failed
+     */
+    private @Nullable List<JpaPersistentItem> loadItems(String queryString, FilterCriteria filter, String itemName,
+            @Nullable JpaPersistentItem after, int firstResult, int maxResults) {
         EntityManager em = getEntityManagerFactory().createEntityManager();
         try {
             // In RESOURCE_LOCAL calls to EntityManager require a begin/commit
@@ -240,16 +392,22 @@ public class JpaPersistenceService implements QueryablePersistenceService {
 
             logger.debug("Creating query...");
             Query query = em.createQuery(queryString);
-            query.setParameter("itemName", alias != null ? alias : item.getName());
-            if (hasBeginDate) {
-                query.setParameter("beginDate", Date.from(filter.getBeginDate().toInstant()));
+            query.setParameter("itemName", itemName);
+            ZonedDateTime beginDate = filter.getBeginDate();
+            if (beginDate != null) {
+                query.setParameter("beginDate", Date.from(beginDate.toInstant()));
             }
-            if (hasEndDate) {
-                query.setParameter("endDate", Date.from(filter.getEndDate().toInstant()));
+            ZonedDateTime endDate = filter.getEndDate();
+            if (endDate != null) {
+                query.setParameter("endDate", Date.from(endDate.toInstant()));
+            }
+            if (after != null) {
+                query.setParameter("afterTimestamp", Date.from(after.getInstant()));
+                query.setParameter("afterId", after.getId());
             }
 
-            query.setFirstResult(filter.getPageNumber() * filter.getPageSize());
-            query.setMaxResults(filter.getPageSize());
+            query.setFirstResult(firstResult);
+            query.setMaxResults(maxResults);
             logger.debug("Creating query...done");
 
             logger.debug("Retrieving result list...");
@@ -257,12 +415,9 @@ public class JpaPersistenceService implements QueryablePersistenceService {
             List<JpaPersistentItem> result = query.getResultList();
             logger.debug("Retrieving result list...done");
 
-            List<HistoricItem> historicList = JpaHistoricItem.fromResultList(result, item);
-            logger.debug("Convert to HistoricItem: {}", historicList.size());
-
             em.getTransaction().commit();
 
-            return historicList;
+            return result;
         } catch (Exception e) {
             logger.error("Error while querying database!", e);
             em.getTransaction().rollback();
@@ -270,7 +425,7 @@ public class JpaPersistenceService implements QueryablePersistenceService {
             em.close();
         }
 
-        return List.of();
+        return null;
     }
 
     /**
@@ -297,6 +452,10 @@ public class JpaPersistenceService implements QueryablePersistenceService {
             logger.info("You are setting openjpa.jdbc.SynchronizeMappings, I hope you know what you're doing!");
             properties.put("openjpa.jdbc.SynchronizeMappings", config.dbSyncMapping);
         }
+        if (config.commitInterval > 0) {
+            // let OpenJPA send the inserts of one transaction as JDBC batches
+            properties.put("openjpa.jdbc.DBDictionary", "batchLimit=" + config.batchSize);
+        }
 
         EntityManagerFactory factory = Persistence.createEntityManagerFactory(getPersistenceUnitName(), properties);
         logger.debug("Creating EntityManagerFactory...done");
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.jpa.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.IntStream;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.library.items.NumberItem;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.persistence.HistoricItem;
+import org.openhab.persistence.jpa.internal.model.JpaPersistentItem;
+
+/**
+ * Tests for {@link JpaPagedHistoricItems}
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class JpaPagedHistoricItemsTest {
+
+    private final NumberItem item = new NumberItem("Test");
+    private final List<String> loads = new ArrayList<>();
+
+    /**
+     * Loads the rows 0 to rowCount - 1 after the given row. The value of each row is its position.
+     */
+    private @Nullable List<JpaPersistentItem> load(@Nullable JpaPersistentItem after, int maxResults, int rowCount) {
+        int first = after == null ? 0 : Integer.parseInt(after.getValue()) + 1;
+        loads.add((after == null ? "" : after.getValue()) + "+" + maxResults);
+        return IntStream.range(first, Math.min(first + maxResults, rowCount)).mapToObj(i -> {
+            JpaPersistentItem row = new JpaPersistentItem();
+            row.setName("Test");
+            row.setRealName("Test");
+            row.setTimestamp(new Date(i * 1000L));
+            row.setValue(String.valueOf(i));
+            return row;
+        }).toList();
+    }
+
+    private static List<Integer> values(Iterable<HistoricItem> items) {
+        List<Integer> values = new ArrayList<>();
+        items.forEach(historicItem -> values.add(((DecimalType) historicItem.getState()).intValue()));
+        return values;
+    }
+
+    @Test
+    public void pagesAreLoadedWhileIterating() {
+        JpaPagedHistoricItems items = new JpaPagedHistoricItems((after, max) -> load(after, max, 25), item, 100, 10);
+
+        Iterator<HistoricItem> iterator = items.iterator();
+        assertTrue(iterator.hasNext());
+        assertEquals(List.of("+10"), loads);
+
+        assertEquals(IntStream.range(0, 25).boxed().toList(), values(items));
+        assertEquals(List.of("+10", "9+10", "19+10"), loads);
+    }
+
+    @Test
+    public void unpagedResultIsLoadedInPages() {
+        JpaPagedHistoricItems items = new JpaPagedHistoricItems((after, max) -> load(after, max, 25), item,
+                Integer.MAX_VALUE, 10);
+
+        assertEquals(IntStream.range(0, 25).boxed().toList(), values(items));
+        assertEquals(List.of("+10", "9+10", "19+10"), loads);
+    }
+
+    @Test
+    public void resultOfOnePageIsLoadedOnlyOnce() {
+        JpaPagedHistoricItems items = new JpaPagedHistoricItems((after, max) -> load(after, max, 5), item, 100, 10);
+
+        List<Integer> first = values(items);
+        List<Integer> second = values(items);
+
+        assertEquals(IntStream.range(0, 5).boxed().toList(), first);
+        assertEquals(first, second);
+        assertEquals(List.of("+10"), loads);
+    }
+
+    @Test
+    public void largerResultIsLoadedAgainByEachIterator() {
+        JpaPagedHistoricItems items = new JpaPagedHistoricItems((after, max) -> load(after, max, 25), item, 100, 10);
+
+        List<Integer> first = values(items);
+        List<Integer> second = values(items);
+
+        assertEquals(first, second);
+        // the first page is kept
+        assertEquals(List.of("+10", "9+10", "19+10", "9+10", "19+10"), loads);
+    }
+
+    @Test
+    public void resultIsLimitedToMaxResults() {
+        JpaPagedHistoricItems items = new JpaPagedHistoricItems((after, max) -> load(after, max, 100), item, 15, 10);
+
+        assertEquals(IntStream.range(0, 15).boxed().toList(), values(items));
+        assertEquals(List.of("+10", "9+5"), loads);
+    }
+
+    @Test
+    public void failedPageIsNotTruncated() {
+        JpaPagedHistoricItems items = new JpaPagedHistoricItems(
+                (after, max) -> after == null ? load(after, max, 25) : null, item, 100, 10);
+
+        Iterator<HistoricItem> iterator = items.iterator();
+        for (int i = 0; i < 10; i++) {
+            assertEquals(i, ((DecimalType) iterator.next().getState()).intValue());
+        }
+        assertThrows(IllegalStateException.class, iterator::hasNext);
+    }
+
+    @Test
+    public void emptyResult() {
+        JpaPagedHistoricItems items = new JpaPagedHistoricItems((after, max) -> load(after, max, 0), item, 100, 10);
+
+        Iterator<HistoricItem> iterator = items.iterator();
+        assertFalse(iterator.hasNext());
+        assertThrows(NoSuchElementException.class, iterator::next);
+        assertEquals(List.of("+10"), loads);
+    }
+}
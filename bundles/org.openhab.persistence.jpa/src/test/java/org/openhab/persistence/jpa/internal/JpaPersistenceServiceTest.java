@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.jpa.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.openhab.core.items.ItemRegistry;
+import org.openhab.core.library.items.NumberItem;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.persistence.FilterCriteria;
+import org.openhab.core.persistence.FilterCriteria.Ordering;
+import org.openhab.core.persistence.HistoricItem;
+import org.openhab.persistence.jpa.internal.model.JpaPersistentItem;
+import org.osgi.framework.BundleContext;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.EntityTransaction;
+import jakarta.persistence.Query;
+
+/**
+ * Tests the queries of {@link JpaPersistenceService} against an in-memory table.
+ *
+ * The table holds {@link #ROW_COUNT} rows of the item, two per timestamp, with the row number as value and id.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@NonNullByDefault
+public class JpaPersistenceServiceTest {
+    private static final String ITEM_NAME = "Test";
+    private static final int ROW_COUNT = 2500;
+
+    private @Mock @NonNullByDefault({}) BundleContext bundleContextMock;
+    private @Mock @NonNullByDefault({}) ItemRegistry itemRegistryMock;
+    private @Mock @NonNullByDefault({}) EntityManagerFactory entityManagerFactoryMock;
+    private @Mock @NonNullByDefault({}) EntityManager entityManagerMock;
+    private @Mock @NonNullByDefault({}) EntityTransaction transactionMock;
+
+    private final List<JpaPersistentItem> rows = new ArrayList<>();
+    private final List<Integer> loadedRowCounts = new ArrayList<>();
+    private final List<Integer> firstResults = new ArrayList<>();
+
+    private @NonNullByDefault({}) JpaPersistenceService service;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        for (int i = 0; i < ROW_COUNT; i++) {
+            JpaPersistentItem row = new JpaPersistentItem();
+            row.setId((long) i);
+            row.setName(ITEM_NAME);
+            row.setRealName(ITEM_NAME);
+            row.setTimestamp(new Date(i / 2 * 1000L));
+            row.setValue(String.valueOf(i));
+            rows.add(row);
+        }
+
+        when(itemRegistryMock.getItem(ITEM_NAME)).thenReturn(new NumberItem(ITEM_NAME));
+        when(entityManagerFactoryMock.createEntityManager()).thenReturn(entityManagerMock);
+        when(entityManagerMock.getTransaction()).thenReturn(transactionMock);
+        when(entityManagerMock.createQuery(anyString()))
+                .thenAnswer(invocation -> createQuery(invocation.getArgument(0)));
+
+        service = new JpaPersistenceService(bundleContextMock,
+                Map.of("url", "jdbc:derby:test", "driver", "org.apache.derby.jdbc.EmbeddedDriver"), itemRegistryMock) {
+            @Override
+            protected EntityManagerFactory newEntityManagerFactory() {
+                return entityManagerFactoryMock;
+            }
+        };
+    }
+
+    /**
+     * Creates a query on the rows that evaluates the key condition and the order of the query string.
+     */
+    private Query createQuery(String queryString) {
+        Map<String, Object> parameters = new HashMap<>();
+        int[] firstResult = { 0 };
+        int[] maxResults = { Integer.MAX_VALUE };
+        Query query = mock(Query.class);
+        when(query.setParameter(anyString(), any())).thenAnswer(invocation -> {
+            parameters.put(invocation.getArgument(0), invocation.getArgument(1));
+            return query;
+        });
+        when(query.setFirstResult(anyInt())).thenAnswer(invocation -> {
+            firstResult[0] = invocation.getArgument(0);
+            return query;
+        });
+        when(query.setMaxResults(anyInt())).thenAnswer(invocation -> {
+            maxResults[0] = invocation.getArgument(0);
+            return query;
+        });
+        when(query.getResultList()).thenAnswer(invocation -> {
+            assertEquals(ITEM_NAME, parameters.get("itemName"));
+            boolean descending = queryString.contains(" DESC");
+            Comparator<JpaPersistentItem> order = Comparator.comparing(JpaPersistentItem::getInstant)
+                    .thenComparing(JpaPersistentItem::getId);
+            if (descending) {
+                order = order.reversed();
+            }
+            Date afterTimestamp = (Date) parameters.get("afterTimestamp");
+            Long afterId = (Long) parameters.get("afterId");
+            assertEquals(queryString.contains(":afterTimestamp"), afterTimestamp != null);
+            assertEquals(queryString.contains(":afterId"), afterId != null);
+            JpaPersistentItem after = null;
+            if (afterTimestamp != null && afterId != null) {
+                after = new JpaPersistentItem();
+                after.setTimestamp(afterTimestamp);
+                after.setId(afterId);
+            }
+            JpaPersistentItem key = after;
+            Comparator<JpaPersistentItem> comparator = order;
+            List<JpaPersistentItem> result = rows.stream()
+                    .filter(row -> key == null || comparator.compare(row, key) > 0).sorted(comparator)
+                    .skip(firstResult[0]).limit(maxResults[0]).toList();
+            firstResults.add(firstResult[0]);
+            loadedRowCounts.add(result.size());
+            return result;
+        });
+        return query;
+    }
+
+    private static List<Integer> values(Iterable<HistoricItem> items) {
+        List<Integer> values = new ArrayList<>();
+        items.forEach(historicItem -> values.add(((DecimalType) historicItem.getState()).intValue()));
+        return values;
+    }
+
+    @Test
+    public void unpagedQueryIsLoadedInPages() {
+        FilterCriteria filter = new FilterCriteria();
+        filter.setItemName(ITEM_NAME);
+        filter.setOrdering(Ordering.ASCENDING);
+
+        List<Integer> values = values(service.query(filter));
+
+        assertEquals(IntStream.range(0, ROW_COUNT).boxed().toList(), values);
+        assertEquals(List.of(1000, 1000, 500), loadedRowCounts);
+        assertEquals(List.of(0, 0, 0), firstResults);
+    }
+
+    @Test
+    public void unpagedDescendingQueryIsLoadedInPages() {
+        FilterCriteria filter = new FilterCriteria();
+        filter.setItemName(ITEM_NAME);
+        filter.setOrdering(Ordering.DESCENDING);
+
+        List<Integer> values = values(service.query(filter));
+
+        assertEquals(IntStream.range(0, ROW_COUNT).map(i -> ROW_COUNT - 1 - i).boxed().toList(), values);
+        assertEquals(List.of(1000, 1000, 500), loadedRowCounts);
+    }
+
+    @Test
+    public void smallPageIsLoadedWithOneQuery() {
+        FilterCriteria filter = new FilterCriteria();
+        filter.setItemName(ITEM_NAME);
+        filter.setOrdering(Ordering.ASCENDING);
+        filter.setPageSize(100);
+        filter.setPageNumber(3);
+
+        List<Integer> values = values(service.query(filter));
+
+        assertEquals(IntStream.range(300, 400).boxed().toList(), values);
+        assertEquals(List.of(100), loadedRowCounts);
+        assertEquals(List.of(300), firstResults);
+    }
+}
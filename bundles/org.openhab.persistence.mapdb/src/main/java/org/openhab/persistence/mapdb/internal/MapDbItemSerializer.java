@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.mapdb.internal;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.ZonedDateTime;
+import java.util.Date;
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.library.types.OnOffType;
+import org.openhab.core.library.types.OpenClosedType;
+import org.openhab.core.library.types.PercentType;
+import org.openhab.core.library.types.QuantityType;
+import org.openhab.core.library.types.StringType;
+import org.openhab.core.types.State;
+import org.openhab.core.types.TypeParser;
+
+/**
+ * The {@link MapDbItemSerializer} converts a {@link MapDbItem} to a compact binary representation and back.
+ *
+ * The most common state types are written with a one byte tag and their value only. All other states are written
+ * with their class name and their full string representation, like the {@link StateTypeAdapter} does.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+final class MapDbItemSerializer {
+    private static final byte FORMAT_VERSION = 1;
+
+    private static final byte TYPE_NULL = 0;
+    private static final byte TYPE_GENERIC = 1;
+    private static final byte TYPE_DECIMAL = 2;
+    private static final byte TYPE_QUANTITY = 3;
+    private static final byte TYPE_PERCENT = 4;
+    private static final byte TYPE_STRING = 5;
+    private static final byte TYPE_ON_OFF = 6;
+    private static final byte TYPE_OPEN_CLOSED = 7;
+
+    private static final long NO_TIMESTAMP = Long.MIN_VALUE;
+
+    private MapDbItemSerializer() {
+        // prevent instantiation
+    }
+
+    static byte[] serialize(MapDbItem item) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(FORMAT_VERSION);
+            writeString(out, item.getName());
+            out.writeLong(item.getTimestamp().toInstant().toEpochMilli());
+            writeState(out, item.getState());
+            writeState(out, item.getLastState());
+            ZonedDateTime lastStateChange = item.getLastStateChange();
+            out.writeLong(lastStateChange != null ? lastStateChange.toInstant().toEpochMilli() : NO_TIMESTAMP);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Deserialize an item.
+     *
+     * @param data the serialized item
+     * @return the item or null if the state could not be restored
+     * @throws IOException if the data is not a serialized item
+     */
+    static @Nullable MapDbItem deserialize(byte[] data) throws IOException {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data))) {
+            byte version = in.readByte();
+            if (version != FORMAT_VERSION) {
+                throw new IOException("Unsupported format version " + version);
+            }
+            MapDbItem item = new MapDbItem();
+            item.setName(readString(in));
+            item.setTimestamp(new Date(in.readLong()));
+            State state = readState(in);
+            if (state == null) {
+                return null;
+            }
+            item.setState(state);
+            item.setLastState(readState(in));
+            long lastStateChange = in.readLong();
+            item.setLastStateChange(lastStateChange != NO_TIMESTAMP ? new Date(lastStateChange) : null);
+            return item;
+        }
+    }
+
+    private static void writeState(DataOutputStream out, @Nullable State state) throws IOException {
+        if (state == null) {
+            out.writeByte(TYPE_NULL);
+        } else if (state.getClass() == DecimalType.class) {
+            out.writeByte(TYPE_DECIMAL);
+            writeString(out, state.toFullString());
+        } else if (state.getClass() == QuantityType.class) {
+            out.writeByte(TYPE_QUANTITY);
+            writeString(out, state.toFullString());
+        } else if (state.getClass() == PercentType.class) {
+            out.writeByte(TYPE_PERCENT);
+            writeString(out, state.toFullString());
+        } else if (state.getClass() == StringType.class) {
+            out.writeByte(TYPE_STRING);
+            writeString(out, state.toFullString());
+        } else if (state instanceof OnOffType) {
+            out.writeByte(TYPE_ON_OFF);
+            out.writeBoolean(state == OnOffType.ON);
+        } else if (state instanceof OpenClosedType) {
+            out.writeByte(TYPE_OPEN_CLOSED);
+            out.writeBoolean(state == OpenClosedType.OPEN);
+        } else {
+            out.writeByte(TYPE_GENERIC);
+            writeString(out, state.getClass().getName());
+            writeString(out, state.toFullString());
+        }
+    }
+
+    private static @Nullable State readState(DataInputStream in) throws IOException {
+        byte type = in.readByte();
+        switch (type) {
+            case TYPE_NULL:
+                return null;
+            case TYPE_DECIMAL:
+                return DecimalType.valueOf(readString(in));
+            case TYPE_QUANTITY:
+                return QuantityType.valueOf(readString(in));
+            case TYPE_PERCENT:
+                return PercentType.valueOf(readString(in));
+            case TYPE_STRING:
+                return StringType.valueOf(readString(in));
+            case TYPE_ON_OFF:
+                return OnOffType.from(in.readBoolean());
+            case TYPE_OPEN_CLOSED:
+                return in.readBoolean() ? OpenClosedType.OPEN : OpenClosedType.CLOSED;
+            case TYPE_GENERIC:
+                String valueTypeName = readString(in);
+                String valueAsString = readString(in);
+                try {
+                    @SuppressWarnings("unchecked")
+                    Class<? extends State> valueType = (Class<? extends State>) Class.forName(valueTypeName);
+                    return TypeParser.parseState(List.of(valueType), valueAsString);
+                } catch (ClassNotFoundException e) {
+                    throw new IOException("Unknown state type " + valueTypeName, e);
+                }
+            default:
+                throw new IOException("Unknown state tag " + type);
+        }
+    }
+
+    // strings are written with their length as int, writeUTF is limited to 64 kB
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
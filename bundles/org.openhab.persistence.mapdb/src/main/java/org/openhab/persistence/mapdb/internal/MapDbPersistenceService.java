@@ -20,14 +20,16 @@ import java.nio.file.Path;
 import java.time.Instant;
 import java.time.ZonedDateTime;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.ExecutorService;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -35,6 +37,8 @@ import org.mapdb.DB;
 import org.mapdb.DBMaker;
 import org.openhab.core.OpenHAB;
 import org.openhab.core.common.ThreadPoolManager;
+import org.openhab.core.config.core.ConfigParser;
+import org.openhab.core.config.core.ConfigurableService;
 import org.openhab.core.items.Item;
 import org.openhab.core.library.types.DateTimeType;
 import org.openhab.core.persistence.FilterCriteria;
@@ -50,6 +54,7 @@ import org.osgi.framework.Constants;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.service.component.annotations.Modified;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -60,12 +65,18 @@ import com.google.gson.GsonBuilder;
  * This is the implementation of the MapDB {@link PersistenceService}. To learn more about MapDB please visit their
  * <a href="http://www.mapdb.org/">website</a>.
  *
+ * Items are stored in a compact binary format, entries in the former JSON format are migrated when the service is
+ * activated. Stored items are collected and committed in groups after the configured commit interval, so that a burst
+ * of updates of the same item only writes its last state.
+ *
  * @author Jens Viebig - Initial contribution
  * @author Martin Kühl - Port to 3.x
  */
 @NonNullByDefault
-@Component(service = { PersistenceService.class, QueryablePersistenceService.class }, property = Constants.SERVICE_PID
-        + "=org.openhab.mapdb")
+@Component(service = { PersistenceService.class,
+        QueryablePersistenceService.class }, configurationPid = "org.openhab.mapdb", //
+        property = Constants.SERVICE_PID + "=org.openhab.mapdb")
+@ConfigurableService(category = "persistence", label = "MapDB Persistence Service", description_uri = MapDbPersistenceService.CONFIG_URI)
 public class MapDbPersistenceService implements QueryablePersistenceService {
 
     private static final String SERVICE_ID = "mapdb";
@@ -74,23 +85,34 @@ public class MapDbPersistenceService implements QueryablePersistenceService {
     private static final Path BACKUP_DIR = DB_DIR.resolve("backup");
     private static final String DB_FILE_NAME = "storage.mapdb";
 
+    protected static final String CONFIG_URI = "persistence:mapdb";
+    private static final String COMMIT_INTERVAL_CONFIG = "commitInterval";
+    private static final long COMMIT_INTERVAL_DEFAULT = 1000;
+
     private final Logger logger = LoggerFactory.getLogger(MapDbPersistenceService.class);
 
-    private final ExecutorService threadPool = ThreadPoolManager.getPool(getClass().getSimpleName());
+    private final ScheduledExecutorService threadPool = ThreadPoolManager.getScheduledPool(getClass().getSimpleName());
 
     /**
      * holds the local instance of the MapDB database
      */
 
     private @NonNullByDefault({}) DB db;
-    private @NonNullByDefault({}) Map<String, String> map;
+    // values are byte arrays, or JSON strings if not yet migrated
+    private @NonNullByDefault({}) Map<String, Object> map;
+
+    // items waiting to be committed, only the last state of an item is kept
+    private final Map<String, MapDbItem> pendingItems = new ConcurrentHashMap<>();
+    private final AtomicBoolean commitScheduled = new AtomicBoolean();
+    private long commitInterval = COMMIT_INTERVAL_DEFAULT;
 
     private transient Gson mapper = new GsonBuilder().setDateFormat(DateTimeType.DATE_PATTERN_JSON_COMPAT)
             .registerTypeHierarchyAdapter(State.class, new StateTypeAdapter()).create();
 
     @Activate
-    public void activate() {
+    public void activate(Map<String, Object> config) {
         logger.debug("MapDB persistence service is being activated");
+        modified(config);
 
         try {
             Files.createDirectories(DB_DIR);
@@ -139,16 +161,27 @@ public class MapDbPersistenceService implements QueryablePersistenceService {
             } else {
                 logger.warn("Failed to create or open the MapDB: {}", re.getMessage());
                 logger.warn("MapDB persistence service activation has failed.");
+                return;
             }
         }
+        threadPool.submit(this::migrate);
         logger.debug("MapDB persistence service is now activated");
     }
 
+    @Modified
+    public void modified(Map<String, Object> config) {
+        commitInterval = Math.max(0, ConfigParser.valueAsOrElse(config.get(COMMIT_INTERVAL_CONFIG), Long.class,
+                COMMIT_INTERVAL_DEFAULT));
+    }
+
     @Deactivate
     public void deactivate() {
         logger.debug("MapDB persistence service deactivated");
         if (db != null) {
-            db.close();
+            synchronized (this) {
+                commitPending();
+                db.close();
+            }
         }
     }
 
@@ -164,8 +197,10 @@ public class MapDbPersistenceService implements QueryablePersistenceService {
 
     @Override
     public Set<PersistenceItemInfo> getItemInfo() {
-        return map.values().stream().map(this::deserialize).flatMap(MapDbPersistenceService::streamOptional)
-                .collect(Collectors.<PersistenceItemInfo> toUnmodifiableSet());
+        Map<String, MapDbItem> items = new HashMap<>();
+        map.forEach((name, value) -> deserialize(value).ifPresent(item -> items.put(name, item)));
+        items.putAll(pendingItems);
+        return Set.<PersistenceItemInfo> copyOf(items.values());
     }
 
     @Override
@@ -192,44 +227,129 @@ public class MapDbPersistenceService implements QueryablePersistenceService {
         mItem.setTimestamp(lastStateUpdate != null ? Date.from(lastStateUpdate.toInstant()) : new Date());
         ZonedDateTime lastStateChange = item.getLastStateChange();
         mItem.setLastStateChange(lastStateChange != null ? Date.from(lastStateChange.toInstant()) : null);
-        threadPool.submit(() -> {
-            String json = serialize(mItem);
-            map.put(localAlias, json);
-            db.commit();
-            logger.debug("Stored '{}' with state '{}' as '{}' in MapDB database", localAlias, state, json);
-        });
+        pendingItems.put(localAlias, mItem);
+        if (commitScheduled.compareAndSet(false, true)) {
+            threadPool.schedule(this::commitPending, commitInterval, TimeUnit.MILLISECONDS);
+        }
     }
 
     @Override
     public Iterable<HistoricItem> query(FilterCriteria filter) {
-        String json = map.get(filter.getItemName());
-        if (json == null) {
+        String itemName = filter.getItemName();
+        if (itemName == null) {
             return List.of();
         }
-        Optional<MapDbItem> item = deserialize(json);
+        Optional<MapDbItem> item = load(itemName);
         return item.isPresent() ? List.of(item.get()) : List.of();
     }
 
     @Override
     public @Nullable PersistedItem persistedItem(String itemName, @Nullable String alias) {
-        String json = map.get(alias != null ? alias : itemName);
-        if (json == null) {
-            return null;
-        }
-        Optional<MapDbItem> item = deserialize(json);
-        MapDbItem dbItem = item.orElse(null);
+        MapDbItem dbItem = load(alias != null ? alias : itemName).orElse(null);
         if (dbItem != null) {
             dbItem.setName(itemName);
         }
         return dbItem;
     }
 
-    private String serialize(MapDbItem item) {
-        return mapper.toJson(item);
+    private Optional<MapDbItem> load(String name) {
+        MapDbItem pendingItem = pendingItems.get(name);
+        if (pendingItem != null) {
+            return Optional.of(copy(pendingItem));
+        }
+        Object value = map.get(name);
+        if (value == null) {
+            return Optional.empty();
+        }
+        return deserialize(value);
+    }
+
+    /**
+     * Writes all pending items to the database and commits them in a single transaction.
+     */
+    private synchronized void commitPending() {
+        commitScheduled.set(false);
+        if (pendingItems.isEmpty() || db.isClosed()) {
+            return;
+        }
+        int count = 0;
+        for (String name : pendingItems.keySet()) {
+            MapDbItem item = pendingItems.remove(name);
+            if (item == null) {
+                continue;
+            }
+            try {
+                map.put(name, MapDbItemSerializer.serialize(item));
+                count++;
+                logger.debug("Stored '{}' with state '{}' in MapDB database", name, item.getState());
+            } catch (IOException e) {
+                logger.warn("Failed to serialize item '{}': {}", name, e.getMessage());
+            }
+        }
+        db.commit();
+        logger.debug("Committed {} items to MapDB database", count);
+    }
+
+    /**
+     * Converts entries stored in the former JSON format to the binary format.
+     */
+    private synchronized void migrate() {
+        if (db.isClosed()) {
+            return;
+        }
+        int count = 0;
+        for (Map.Entry<String, Object> entry : map.entrySet()) {
+            if (entry.getValue() instanceof String json) {
+                Optional<MapDbItem> item = deserializeJson(json);
+                try {
+                    if (item.isPresent() && map.replace(entry.getKey(), json,
+                            MapDbItemSerializer.serialize(item.get()))) {
+                        count++;
+                    }
+                } catch (IOException e) {
+                    logger.warn("Failed to migrate item '{}': {}", entry.getKey(), e.getMessage());
+                }
+            }
+        }
+        if (count > 0) {
+            db.commit();
+            logger.info("Migrated {} items in MapDB database to the binary format", count);
+        }
+    }
+
+    private MapDbItem copy(MapDbItem item) {
+        MapDbItem copy = new MapDbItem();
+        copy.setName(item.getName());
+        copy.setState(item.getState());
+        copy.setTimestamp(Date.from(item.getTimestamp().toInstant()));
+        copy.setLastState(item.getLastState());
+        ZonedDateTime lastStateChange = item.getLastStateChange();
+        copy.setLastStateChange(lastStateChange != null ? Date.from(lastStateChange.toInstant()) : null);
+        return copy;
+    }
+
+    private Optional<MapDbItem> deserialize(Object value) {
+        if (value instanceof byte[] bytes) {
+            try {
+                MapDbItem item = MapDbItemSerializer.deserialize(bytes);
+                if (item == null) {
+                    logger.warn("Deserialized invalid item");
+                    return Optional.empty();
+                }
+                return Optional.of(item);
+            } catch (IOException | RuntimeException e) {
+                logger.warn("Failed to deserialize item: {}", e.getMessage());
+                return Optional.empty();
+            }
+        } else if (value instanceof String json) {
+            return deserializeJson(json);
+        }
+        logger.warn("Unexpected value in MapDB database: {}", value);
+        return Optional.empty();
     }
 
     @SuppressWarnings("null")
-    private Optional<MapDbItem> deserialize(String json) {
+    private Optional<MapDbItem> deserializeJson(String json) {
         MapDbItem item = mapper.fromJson(json, MapDbItem.class);
         if (item == null || !item.isValid()) {
             logger.warn("Deserialized invalid item: {}", item);
@@ -241,10 +361,6 @@ public class MapDbPersistenceService implements QueryablePersistenceService {
         return Optional.of(item);
     }
 
-    private static <T> Stream<T> streamOptional(Optional<T> opt) {
-        return opt.isPresent() ? Stream.of(opt.get()) : Stream.empty();
-    }
-
     @Override
     public List<PersistenceStrategy> getDefaultStrategies() {
         return List.of(PersistenceStrategy.Globals.RESTORE, PersistenceStrategy.Globals.CHANGE);
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.mapdb.internal;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.Date;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.openhab.core.library.types.DateTimeType;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.library.types.HSBType;
+import org.openhab.core.library.types.OnOffType;
+import org.openhab.core.library.types.OpenClosedType;
+import org.openhab.core.library.types.PercentType;
+import org.openhab.core.library.types.QuantityType;
+import org.openhab.core.library.types.StringType;
+import org.openhab.core.library.unit.SIUnits;
+import org.openhab.core.types.State;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+/**
+ * Tests the {@link MapDbItemSerializer}.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class MapDbItemSerializerTest {
+    private static final List<State> VALUES = List.of(DecimalType.ZERO, new DecimalType(1.123),
+            new QuantityType<>(new BigDecimal("21.23"), SIUnits.CELSIUS), QuantityType.valueOf("1 kW"),
+            PercentType.valueOf("99.999"), StringType.valueOf(""), StringType.valueOf("a b c 1 2 3".repeat(10000)),
+            OnOffType.ON, OnOffType.OFF, OpenClosedType.OPEN, OpenClosedType.CLOSED, HSBType.fromRGB(11, 22, 33));
+
+    private static MapDbItem createItem(State state) {
+        MapDbItem item = new MapDbItem();
+        item.setName("test");
+        item.setState(state);
+        item.setTimestamp(new Date(1700000000123L));
+        return item;
+    }
+
+    @ParameterizedTest
+    @MethodSource
+    public void roundtripShouldRecreateTheWrittenState(State state) throws IOException {
+        MapDbItem item = createItem(state);
+        item.setLastState(state);
+        item.setLastStateChange(new Date(1600000000456L));
+
+        MapDbItem actual = Objects.requireNonNull(MapDbItemSerializer.deserialize(MapDbItemSerializer.serialize(item)));
+
+        assertThat(actual.getName(), is("test"));
+        assertThat(actual.getState(), is(equalTo(state)));
+        assertThat(actual.getLastState(), is(equalTo(state)));
+        assertThat(actual.getTimestamp(), is(item.getTimestamp()));
+        assertThat(actual.getLastStateChange(), is(item.getLastStateChange()));
+    }
+
+    public static Stream<State> roundtripShouldRecreateTheWrittenState() {
+        return VALUES.stream();
+    }
+
+    @Test
+    public void missingLastStateIsKept() throws IOException {
+        MapDbItem actual = Objects.requireNonNull(
+                MapDbItemSerializer.deserialize(MapDbItemSerializer.serialize(createItem(OnOffType.ON))));
+
+        assertThat(actual.getLastState(), is(nullValue()));
+        assertThat(actual.getLastStateChange(), is(nullValue()));
+    }
+
+    @Test
+    public void binaryFormatIsSmallerThanJson() throws IOException {
+        Gson mapper = new GsonBuilder().setDateFormat(DateTimeType.DATE_PATTERN_JSON_COMPAT)
+                .registerTypeHierarchyAdapter(State.class, new StateTypeAdapter()).create();
+        MapDbItem item = createItem(new DecimalType(21.5));
+
+        assertThat(MapDbItemSerializer.serialize(item).length < mapper.toJson(item).length(), is(true));
+    }
+}
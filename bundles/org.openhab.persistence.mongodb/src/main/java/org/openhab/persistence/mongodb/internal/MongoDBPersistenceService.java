@@ -16,15 +16,20 @@ import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
 import org.bson.Document;
 import org.bson.types.ObjectId;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.common.ThreadPoolManager;
 import org.openhab.core.items.Item;
 import org.openhab.core.items.ItemNotFoundException;
 import org.openhab.core.items.ItemRegistry;
@@ -50,10 +55,15 @@ import org.osgi.service.component.annotations.Reference;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.mongodb.MongoBulkWriteException;
 import com.mongodb.client.MongoClient;
 import com.mongodb.client.MongoClients;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoCursor;
+import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.CreateCollectionOptions;
+import com.mongodb.client.model.InsertManyOptions;
+import com.mongodb.client.model.TimeSeriesOptions;
 import com.mongodb.client.result.DeleteResult;
 
 /**
@@ -69,12 +79,17 @@ import com.mongodb.client.result.DeleteResult;
                 + "=org.openhab.mongodb")
 public class MongoDBPersistenceService implements ModifiablePersistenceService {
 
+    private static final int DEFAULT_BUFFER_SIZE = 1000;
+
     private final Logger logger = LoggerFactory.getLogger(MongoDBPersistenceService.class);
 
     private String url = "";
     private String db = "";
     private String collection = "";
     private boolean collectionPerItem;
+    private boolean timeSeries;
+    private int flushInterval;
+    private int bufferSize = DEFAULT_BUFFER_SIZE;
 
     private boolean initialized = false;
 
@@ -82,6 +97,14 @@ public class MongoDBPersistenceService implements ModifiablePersistenceService {
 
     private @Nullable MongoClient cl;
 
+    // collections that have been created and indexed since the last connect
+    private final Set<String> preparedCollections = ConcurrentHashMap.newKeySet();
+
+    // documents waiting to be written, by collection name, guarded by itself
+    private final Map<String, List<Document>> pendingDocuments = new HashMap<>();
+    private int pendingCount;
+    private @Nullable ScheduledFuture<?> flushJob;
+
     @Activate
     public MongoDBPersistenceService(final @Reference ItemRegistry itemRegistry) {
         this.itemRegistry = itemRegistry;
@@ -113,15 +136,45 @@ public class MongoDBPersistenceService implements ModifiablePersistenceService {
         collection = dbCollection == null ? "" : dbCollection;
         collectionPerItem = dbCollection == null || dbCollection.isBlank();
 
+        timeSeries = Boolean.parseBoolean(String.valueOf(config.get("timeSeries")));
+        flushInterval = getIntConfig(config, "flushInterval", 0);
+        bufferSize = getIntConfig(config, "bufferSize", DEFAULT_BUFFER_SIZE);
+        logger.debug("MongoDB time series {}, flush interval {} ms, buffer size {}", timeSeries, flushInterval,
+                bufferSize);
+
         if (!tryConnectToDatabase()) {
             logger.warn("Failed to connect to MongoDB server. Trying to reconnect later.");
         }
 
+        if (flushInterval > 0) {
+            flushJob = ThreadPoolManager.getScheduledPool("org.openhab.mongodb").scheduleWithFixedDelay(this::flush,
+                    flushInterval, flushInterval, TimeUnit.MILLISECONDS);
+        }
+
         initialized = true;
     }
 
+    private int getIntConfig(Map<String, Object> config, String key, int defaultValue) {
+        Object value = config.get(key);
+        if (value == null || value.toString().isBlank()) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.toString().trim());
+        } catch (NumberFormatException e) {
+            logger.warn("Invalid value '{}' for mongodb:{}, using {}", value, key, defaultValue);
+            return defaultValue;
+        }
+    }
+
     @Deactivate
     public void deactivate(final int reason) {
+        ScheduledFuture<?> flushJob = this.flushJob;
+        if (flushJob != null) {
+            flushJob.cancel(false);
+            this.flushJob = null;
+        }
+        flush();
         logger.debug("MongoDB persistence bundle stopping. Disconnecting from database.");
         disconnectFromDatabase();
     }
@@ -220,12 +273,22 @@ public class MongoDBPersistenceService implements ModifiablePersistenceService {
                 return null;
             }
 
-            MongoCollection<Document> mongoCollection = db.getDatabase(this.db).getCollection(collectionName);
+            MongoDatabase database = db.getDatabase(this.db);
+            if (preparedCollections.contains(collectionName)) {
+                return database.getCollection(collectionName);
+            }
+
+            if (timeSeries) {
+                createTimeSeriesCollection(database, collectionName);
+            }
+
+            MongoCollection<Document> mongoCollection = database.getCollection(collectionName);
 
             Document idx = new Document();
             idx.append(MongoDBFields.FIELD_ITEM, 1).append(MongoDBFields.FIELD_TIMESTAMP, 1);
             mongoCollection.createIndex(idx);
 
+            preparedCollections.add(collectionName);
             return mongoCollection;
         } catch (Exception e) {
             logger.error("Failed to connect to collection {}: {}", collectionName, e.getMessage(), e);
@@ -233,6 +296,21 @@ public class MongoDBPersistenceService implements ModifiablePersistenceService {
         }
     }
 
+    /**
+     * Creates a time series collection, unless a collection with this name already exists.
+     */
+    private void createTimeSeriesCollection(MongoDatabase database, String collectionName) {
+        for (String name : database.listCollectionNames()) {
+            if (name.equals(collectionName)) {
+                return;
+            }
+        }
+        TimeSeriesOptions options = new TimeSeriesOptions(MongoDBFields.FIELD_TIMESTAMP)
+                .metaField(MongoDBFields.FIELD_ITEM);
+        database.createCollection(collectionName, new CreateCollectionOptions().timeSeriesOptions(options));
+        logger.debug("Created time series collection {}", collectionName);
+    }
+
     /**
      * Disconnects from the database
      */
@@ -243,6 +321,92 @@ public class MongoDBPersistenceService implements ModifiablePersistenceService {
         }
 
         cl = null;
+        preparedCollections.clear();
+    }
+
+    /**
+     * Writes all buffered documents with one unordered bulk insert per collection.
+     * Documents that could not be written because the database is not available are kept for the next flush.
+     */
+    public void flush() {
+        Map<String, List<Document>> documents;
+        synchronized (pendingDocuments) {
+            if (pendingDocuments.isEmpty()) {
+                return;
+            }
+            documents = new HashMap<>(pendingDocuments);
+            pendingDocuments.clear();
+            pendingCount = 0;
+        }
+        for (Map.Entry<String, List<Document>> entry : documents.entrySet()) {
+            flush(entry.getKey(), entry.getValue());
+        }
+    }
+
+    private void flush(String collectionName) {
+        @Nullable
+        List<Document> documents;
+        synchronized (pendingDocuments) {
+            documents = pendingDocuments.remove(collectionName);
+            if (documents == null) {
+                return;
+            }
+            pendingCount -= documents.size();
+        }
+        flush(collectionName, documents);
+    }
+
+    private void flush(String collectionName, List<Document> documents) {
+        @Nullable
+        MongoCollection<Document> collection = tryConnectToDatabase() ? connectToCollection(collectionName) : null;
+        if (collection == null) {
+            logger.warn("mongodb: No connection to database. Keeping {} values for the next flush.",
+                    documents.size());
+            requeue(collectionName, documents);
+            return;
+        }
+        try {
+            // unordered inserts continue after a failed document and may be executed in parallel by the server
+            collection.insertMany(documents, new InsertManyOptions().ordered(false));
+            logger.debug("MongoDB saved {} values to {}", documents.size(), collectionName);
+        } catch (MongoBulkWriteException e) {
+            logger.error("Failed to persist {} of {} values to {}: {}", e.getWriteErrors().size(), documents.size(),
+                    collectionName, e.getMessage());
+        } catch (org.bson.BsonMaximumSizeExceededException e) {
+            logger.error("Document size exceeds maximum size of 16MB. {} values not persisted to {}.",
+                    documents.size(), collectionName);
+        } catch (Exception e) {
+            logger.warn("Failed to persist {} values to {}, keeping them for the next flush: {}", documents.size(),
+                    collectionName, e.getMessage());
+            requeue(collectionName, documents);
+        }
+    }
+
+    private void requeue(String collectionName, List<Document> documents) {
+        synchronized (pendingDocuments) {
+            int free = bufferSize - pendingCount;
+            if (free < documents.size()) {
+                logger.warn("mongodb: Write buffer is full, dropping {} values", documents.size() - Math.max(0, free));
+                if (free <= 0) {
+                    return;
+                }
+                documents = documents.subList(documents.size() - free, documents.size());
+            }
+            List<Document> pending = pendingDocuments.computeIfAbsent(collectionName, c -> new ArrayList<>());
+            pending.addAll(0, documents);
+            pendingCount += documents.size();
+        }
+    }
+
+    private void buffer(String collectionName, Document document) {
+        boolean full;
+        synchronized (pendingDocuments) {
+            pendingDocuments.computeIfAbsent(collectionName, c -> new ArrayList<>()).add(document);
+            full = ++pendingCount >= bufferSize;
+        }
+        if (full) {
+            flush();
+        }
     }
 
     @Override
@@ -351,6 +515,28 @@ public class MongoDBPersistenceService implements ModifiablePersistenceService {
             return;
         }
 
+        String realItemName = item.getName();
+        String name = (alias != null) ? alias : realItemName;
+        String collectionName = collectionPerItem ? name : this.collection;
+
+        Object value = MongoDBTypeConversions.convertValue(state);
+
+        Document obj = new Document();
+        obj.put(MongoDBFields.FIELD_ID, new ObjectId());
+        obj.put(MongoDBFields.FIELD_ITEM, name);
+        obj.put(MongoDBFields.FIELD_REALNAME, realItemName);
+        obj.put(MongoDBFields.FIELD_TIMESTAMP, date);
+        obj.put(MongoDBFields.FIELD_VALUE, value);
+        if (item instanceof NumberItem && state instanceof QuantityType<?>) {
+            obj.put(MongoDBFields.FIELD_UNIT, ((QuantityType<?>) state).getUnit().toString());
+        }
+
+        if (flushInterval > 0) {
+            buffer(collectionName, obj);
+            logger.debug("MongoDB buffered {}={}", name, value);
+            return;
+        }
+
         // Connect to mongodb server if we're not already connected
         // If we can't connect, log.
         if (!tryConnectToDatabase()) {
@@ -360,10 +546,6 @@ public class MongoDBPersistenceService implements ModifiablePersistenceService {
             return;
         }
 
-        String realItemName = item.getName();
-        String name = (alias != null) ? alias : realItemName;
-        String collectionName = collectionPerItem ? name : this.collection;
-
         @Nullable
         MongoCollection<Document> collection = connectToCollection(collectionName);
 
@@ -372,17 +554,6 @@ public class MongoDBPersistenceService implements ModifiablePersistenceService {
             return;
         }
 
-        Object value = MongoDBTypeConversions.convertValue(state);
-
-        Document obj = new Document();
-        obj.put(MongoDBFields.FIELD_ID, new ObjectId());
-        obj.put(MongoDBFields.FIELD_ITEM, name);
-        obj.put(MongoDBFields.FIELD_REALNAME, realItemName);
-        obj.put(MongoDBFields.FIELD_TIMESTAMP, date);
-        obj.put(MongoDBFields.FIELD_VALUE, value);
-        if (item instanceof NumberItem && state instanceof QuantityType<?>) {
-            obj.put(MongoDBFields.FIELD_UNIT, ((QuantityType<?>) state).getUnit().toString());
-        }
         try {
             collection.insertOne(obj);
         } catch (org.bson.BsonMaximumSizeExceededException e) {
@@ -412,6 +583,8 @@ public class MongoDBPersistenceService implements ModifiablePersistenceService {
     @Nullable
     private MongoCollection<Document> getCollection(String realItemName) {
         String collectionName = collectionPerItem ? realItemName : this.collection;
+        // make buffered values visible to queries and removals
+        flush(collectionName);
         @Nullable
         MongoCollection<Document> collection = connectToCollection(collectionName);
 
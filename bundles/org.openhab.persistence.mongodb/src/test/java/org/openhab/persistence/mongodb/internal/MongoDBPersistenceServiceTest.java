@@ -1033,4 +1033,80 @@ public class MongoDBPersistenceServiceTest {
             dbContainer.stop();
         }
     }
+
+    /*
+     * Test that buffered values are written with the next flush
+     */
+    @Test
+    public void testBufferedStoreIsWrittenOnFlush() {
+        // Preparation
+        DatabaseTestContainer dbContainer = new DatabaseTestContainer(new MemoryBackend());
+        try {
+            SetupResult setupResult = DataCreationHelper.setupMongoDB("testcollection", dbContainer);
+            MongoDBPersistenceService service = setupResult.service;
+            MongoDatabase database = setupResult.database;
+            setupResult.config.put("flushInterval", "3600000");
+
+            service.activate(setupResult.bundleContext, setupResult.config);
+
+            service.store(DataCreationHelper.createNumberItem("TestItem", 10.1));
+            service.store(DataCreationHelper.createStringItem("TestItem2", "TestValue"));
+
+            MongoCollection<Document> collection = database.getCollection("testcollection");
+            assertEquals(0, collection.countDocuments()); // Nothing written before the flush
+
+            // Execution
+            service.flush();
+
+            // Verification
+            List<Document> documents = collection.find().into(new ArrayList<>());
+            assertEquals(2, documents.size());
+            VerificationHelper.verifyDocument(documents.get(0), "TestItem", 10.1);
+            VerificationHelper.verifyDocument(documents.get(1), "TestItem2", "TestValue");
+
+            service.deactivate(1);
+        } finally {
+            dbContainer.stop();
+        }
+    }
+
+    /*
+     * Test that a full buffer and a query flush the buffered values
+     */
+    @Test
+    public void testBufferedStoreIsFlushedWhenFullAndBeforeQuery() {
+        // Preparation
+        DatabaseTestContainer dbContainer = new DatabaseTestContainer(new MemoryBackend());
+        try {
+            SetupResult setupResult = DataCreationHelper.setupMongoDB("testcollection", dbContainer);
+            MongoDBPersistenceService service = setupResult.service;
+            MongoDatabase database = setupResult.database;
+            setupResult.config.put("flushInterval", 3600000);
+            setupResult.config.put("bufferSize", 5);
+
+            NumberItem itemReg = DataCreationHelper.createNumberItem("TestItem", 0);
+            try {
+                Mockito.when(setupResult.itemRegistry.getItem("TestItem")).thenReturn(itemReg);
+            } catch (ItemNotFoundException e) {
+            }
+
+            service.activate(setupResult.bundleContext, setupResult.config);
+
+            // Execution
+            for (int i = 0; i < 7; i++) {
+                service.store(DataCreationHelper.createNumberItem("TestItem", i));
+            }
+
+            // Verification
+            MongoCollection<Document> collection = database.getCollection("testcollection");
+            assertEquals(5, collection.countDocuments()); // The first five values filled the buffer
+
+            Iterable<HistoricItem> result = service.query(DataCreationHelper.createFilterCriteria("TestItem"));
+            VerificationHelper.verifyQueryResult(result, 0, 1, 7);
+
+            service.deactivate(1);
+        } finally {
+            dbContainer.stop();
+        }
+    }
 }
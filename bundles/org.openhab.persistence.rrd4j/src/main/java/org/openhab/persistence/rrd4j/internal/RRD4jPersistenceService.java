@@ -87,7 +87,6 @@ import org.rrd4j.core.RrdDb;
 import org.rrd4j.core.RrdDb.Builder;
 import org.rrd4j.core.RrdDbPool;
 import org.rrd4j.core.RrdDef;
-import org.rrd4j.core.Sample;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -131,12 +130,15 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
 
     private final ConcurrentSkipListMap<Key, Double> storageMap = new ConcurrentSkipListMap<>(Key::compareTo);
 
-    private static final String DATASOURCE_STATE = "state";
+    static final String DATASOURCE_STATE = "state";
 
     private static final Path DB_FOLDER = Path.of(OpenHAB.getUserDataFolder(), "persistence", "rrd4j").toAbsolutePath();
 
     private static final RrdDbPool DATABASE_POOL = new RrdDbPool();
 
+    // number of writer threads, each database is always written by the same thread
+    private static final int WRITER_THREADS = 4;
+
     private final Logger logger = LoggerFactory.getLogger(RRD4jPersistenceService.class);
     private final ItemRegistry itemRegistry;
     private boolean active = false;
@@ -150,10 +152,13 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
     }
 
     private final ScheduledFuture<?> storeJob;
+    private final RRD4jWriter writer;
 
     @Activate
     public RRD4jPersistenceService(final @Reference ItemRegistry itemRegistry, Map<String, Object> config) {
         this.itemRegistry = itemRegistry;
+        // keep at most half of the pool open for writing, the other half is left to queries and charts
+        writer = new RRD4jWriter(this, WRITER_THREADS, DATABASE_POOL.getCapacity() / 2);
         storeJob = scheduler.scheduleWithFixedDelay(() -> doStore(false), 1, 1, TimeUnit.SECONDS);
         modified(config);
         active = true;
@@ -274,6 +279,7 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
 
         // make sure we really store everything
         doStore(true);
+        writer.shutdown();
     }
 
     @Override
@@ -347,65 +353,13 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
                 // no new elements can be added for this timestamp because we are already past that time or the service
                 // requires forced storing
                 Double value = storageMap.pollFirstEntry().getValue();
-                writePointToDatabase(key.name, value, key.timestamp);
+                writer.write(key.name, value, key.timestamp);
             } else {
                 return;
             }
         }
     }
 
-    private synchronized void writePointToDatabase(String name, double value, long timestamp) {
-        RrdDb db = null;
-        try {
-            db = getDB(name, true);
-        } catch (Exception e) {
-            logger.warn("Failed to open rrd4j database '{}' to store data ({})", name, e.toString());
-        }
-        if (db == null) {
-            return;
-        }
-
-        ConsolFun function = getConsolidationFunction(db);
-        if (function != ConsolFun.AVERAGE) {
-            try {
-                // we store the last value again, so that the value change
-                // in the database is not interpolated, but
-                // happens right at this spot
-                if (timestamp - 1 > db.getLastUpdateTime()) {
-                    // only do it if there is not already a value
-                    double lastValue = db.getLastDatasourceValue(DATASOURCE_STATE);
-                    if (!Double.isNaN(lastValue) && lastValue != value) {
-                        Sample sample = db.createSample(timestamp - 1);
-                        sample.setValue(DATASOURCE_STATE, lastValue);
-                        sample.update();
-                        logger.debug("Stored '{}' as value '{}' with timestamp {} in rrd4j database (again)", name,
-                                lastValue, timestamp - 1);
-                    }
-                }
-            } catch (IOException e) {
-                logger.debug("Error storing last value (again) for {}: {}", e.getMessage(), name);
-            }
-        }
-        try {
-            Sample sample = db.createSample(timestamp);
-            double storeValue = value;
-            if (db.getDatasource(DATASOURCE_STATE).getType() == DsType.COUNTER) {
-                // counter values must be adjusted by stepsize
-                storeValue = value * db.getHeader().getStep();
-            }
-            sample.setValue(DATASOURCE_STATE, storeValue);
-            sample.update();
-            logger.debug("Stored '{}' as value '{}' with timestamp {} in rrd4j database", name, storeValue, timestamp);
-        } catch (Exception e) {
-            logger.warn("Could not persist '{}' to rrd4j database: {}", name, e.getMessage());
-        }
-        try {
-            db.close();
-        } catch (IOException e) {
-            logger.debug("Error closing rrd4j database: {}", e.getMessage());
-        }
-    }
-
     @Override
     public void store(Item item) {
         store(item, null);
@@ -658,7 +612,11 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
         return Set.of();
     }
 
-    protected synchronized @Nullable RrdDb getDB(String alias, boolean createFileIfAbsent) {
+    /**
+     * Open a database. Databases are only created by the {@link RRD4jWriter} stripe their name belongs to, which
+     * serializes the creation of a file, and the pool serializes opening the same file.
+     */
+    protected @Nullable RrdDb getDB(String alias, boolean createFileIfAbsent) {
         RrdDb db = null;
         Path path = getDatabasePath(alias);
         try {
@@ -782,6 +740,13 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
         return SUPPORTED_TYPES.contains(ItemUtil.getMainItemType(item.getType()));
     }
 
+    /**
+     * Get the write statistics per database name.
+     */
+    public Map<String, RRD4jWriter.WriteStatistics> getWriteStatistics() {
+        return writer.getStatistics();
+    }
+
     public List<String> getRrdFiles() {
         try (Stream<Path> stream = Files.list(DB_FOLDER)) {
             return stream.filter(file -> !Files.isDirectory(file) && file.toFile().getName().endsWith(".rrd"))
@@ -0,0 +1,266 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.rrd4j.internal;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.common.NamedThreadFactory;
+import org.rrd4j.ConsolFun;
+import org.rrd4j.DsType;
+import org.rrd4j.core.RrdDb;
+import org.rrd4j.core.Sample;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link RRD4jWriter} writes samples to the rrd4j databases.
+ *
+ * Writes are distributed by database name over a small number of worker threads ("stripes"). All samples of one
+ * database are written in order by the same worker, while a slow database only delays the databases sharing its
+ * stripe. Each worker keeps its most recently used databases open, so that the database file and its header are not
+ * reopened for every sample. The time needed to write to each database is recorded.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class RRD4jWriter {
+
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+
+    private final Logger logger = LoggerFactory.getLogger(RRD4jWriter.class);
+
+    private final RRD4jPersistenceService persistenceService;
+    private final Stripe[] stripes;
+    private final Map<String, WriteStatistics> statistics = new ConcurrentHashMap<>();
+
+    /**
+     * @param persistenceService the service used to open (and create) the databases
+     * @param stripeCount number of worker threads
+     * @param maxOpenDatabases total number of databases kept open, must be lower than the capacity of the database
+     *            pool so that queries can still open databases
+     */
+    public RRD4jWriter(RRD4jPersistenceService persistenceService, int stripeCount, int maxOpenDatabases) {
+        this.persistenceService = persistenceService;
+        this.stripes = new Stripe[stripeCount];
+        int maxOpenPerStripe = Math.max(1, maxOpenDatabases / stripeCount);
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe(i, maxOpenPerStripe);
+        }
+    }
+
+    /**
+     * Queues a sample for writing.
+     *
+     * @param name the name of the database
+     * @param value the value
+     * @param timestamp the timestamp in seconds
+     */
+    public void write(String name, double value, long timestamp) {
+        Stripe stripe = stripes[Math.floorMod(name.hashCode(), stripes.length)];
+        try {
+            stripe.executor.execute(() -> stripe.write(name, value, timestamp));
+        } catch (RejectedExecutionException e) {
+            // this happens if the system is shut down
+            logger.debug("Could not persist '{}' to rrd4j database: {}", name, e.getMessage());
+        }
+    }
+
+    /**
+     * Writes all queued samples, closes all open databases and stops the workers.
+     */
+    public void shutdown() {
+        for (Stripe stripe : stripes) {
+            stripe.executor.execute(stripe::closeAll);
+            stripe.executor.shutdown();
+        }
+        for (Stripe stripe : stripes) {
+            try {
+                if (!stripe.executor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                    logger.warn("Timeout while waiting for rrd4j writer {} to finish", stripe.index);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Get the write statistics per database name.
+     */
+    public Map<String, WriteStatistics> getStatistics() {
+        return Map.copyOf(statistics);
+    }
+
+    private record OpenDatabase(RrdDb db, ConsolFun consolFun, DsType dsType, long step) {
+    }
+
+    private class Stripe {
+        private final int index;
+        private final ExecutorService executor;
+        // only accessed by the thread of the executor
+        private final Map<String, OpenDatabase> openDatabases;
+
+        Stripe(int index, int maxOpenDatabases) {
+            this.index = index;
+            this.executor = Executors.newSingleThreadExecutor(new NamedThreadFactory("RRD4j-writer-" + index));
+            this.openDatabases = new LinkedHashMap<>(16, 0.75f, true) {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(Map.@Nullable Entry<String, OpenDatabase> eldest) {
+                    if (eldest != null && size() > maxOpenDatabases) {
+                        close(eldest.getKey(), eldest.getValue().db());
+                        return true;
+                    }
+                    return false;
+                }
+            };
+        }
+
+        private @Nullable OpenDatabase open(String name) {
+            OpenDatabase database = openDatabases.get(name);
+            if (database != null) {
+                return database;
+            }
+            RrdDb db = null;
+            try {
+                db = persistenceService.getDB(name, true);
+            } catch (Exception e) {
+                logger.warn("Failed to open rrd4j database '{}' to store data ({})", name, e.toString());
+            }
+            if (db == null) {
+                return null;
+            }
+            try {
+                database = new OpenDatabase(db, persistenceService.getConsolidationFunction(db),
+                        db.getDatasource(RRD4jPersistenceService.DATASOURCE_STATE).getType(), db.getHeader().getStep());
+            } catch (IOException e) {
+                logger.warn("Failed to read rrd4j database '{}' to store data ({})", name, e.toString());
+                close(name, db);
+                return null;
+            }
+            openDatabases.put(name, database);
+            return database;
+        }
+
+        private void write(String name, double value, long timestamp) {
+            long timerStart = System.nanoTime();
+            OpenDatabase database = open(name);
+            if (database == null) {
+                return;
+            }
+            RrdDb db = database.db();
+            double storeValue = value;
+            if (database.dsType() == DsType.COUNTER) {
+                // counter values must be adjusted by stepsize
+                storeValue = value * database.step();
+            }
+            try {
+                // a sample holds a single point in time, the last value and the new value are passed to it in turn
+                long[] times = { timestamp };
+                double[] values = { storeValue };
+                if (database.consolFun() != ConsolFun.AVERAGE) {
+                    // we store the last value again, so that the value change
+                    // in the database is not interpolated, but
+                    // happens right at this spot
+                    if (timestamp - 1 > db.getLastUpdateTime()) {
+                        // only do it if there is not already a value
+                        double lastValue = db.getLastDatasourceValue(RRD4jPersistenceService.DATASOURCE_STATE);
+                        if (!Double.isNaN(lastValue) && lastValue != value) {
+                            times = new long[] { timestamp - 1, timestamp };
+                            values = new double[] { lastValue, storeValue };
+                        }
+                    }
+                }
+                Sample sample = db.createSample();
+                for (int i = 0; i < times.length; i++) {
+                    sample.setTime(times[i]);
+                    sample.setValue(RRD4jPersistenceService.DATASOURCE_STATE, values[i]);
+                    sample.update();
+                    logger.debug("Stored '{}' as value '{}' with timestamp {} in rrd4j database", name, values[i],
+                            times[i]);
+                }
+            } catch (Exception e) {
+                logger.warn("Could not persist '{}' to rrd4j database: {}", name, e.getMessage());
+                // reopen the database with the next sample
+                openDatabases.remove(name);
+                close(name, db);
+            }
+            statistics.computeIfAbsent(name, n -> new WriteStatistics()).record(System.nanoTime() - timerStart);
+        }
+
+        private void closeAll() {
+            Iterator<Map.Entry<String, OpenDatabase>> iterator = openDatabases.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<String, OpenDatabase> entry = iterator.next();
+                iterator.remove();
+                close(entry.getKey(), entry.getValue().db());
+            }
+        }
+
+        private void close(String name, RrdDb db) {
+            try {
+                db.close();
+            } catch (IOException e) {
+                logger.debug("Error closing rrd4j database '{}': {}", name, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Write latency of a single database. Updated by one writer thread only.
+     */
+    public static class WriteStatistics {
+        private volatile long count;
+        private volatile long totalNanos;
+        private volatile long maxNanos;
+        private volatile long lastNanos;
+
+        private void record(long nanos) {
+            count++;
+            totalNanos += nanos;
+            lastNanos = nanos;
+            if (nanos > maxNanos) {
+                maxNanos = nanos;
+            }
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public double getAverageMillis() {
+            long count = this.count;
+            return count == 0 ? 0 : totalNanos / 1e6 / count;
+        }
+
+        public double getMaxMillis() {
+            return maxNanos / 1e6;
+        }
+
+        public double getLastMillis() {
+            return lastNanos / 1e6;
+        }
+    }
+}
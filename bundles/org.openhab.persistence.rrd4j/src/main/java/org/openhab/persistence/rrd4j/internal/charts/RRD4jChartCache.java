@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.rrd4j.internal.charts;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.imageio.ImageIO;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * Least recently used cache of rendered charts, bounded by the memory used by the images.
+ *
+ * A chart is only valid for the data version it was rendered for. The version is calculated by the
+ * {@link RRD4jChartServlet} from the last updates of the displayed databases.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+class RRD4jChartCache {
+
+    /**
+     * Everything except the time range that determines the rendered chart.
+     */
+    record Key(@Nullable String items, @Nullable String groups, @Nullable String theme, int width, int height,
+            @Nullable Integer dpi, @Nullable Boolean legend, long periodSeconds) {
+    }
+
+    /**
+     * A rendered chart. The PNG encoding is created when it is requested first.
+     */
+    static final class Chart {
+        private final BufferedImage image;
+        private final long dataVersion;
+        private final String etag;
+        private byte @Nullable [] png;
+
+        Chart(Key key, BufferedImage image, long dataVersion) {
+            this.image = image;
+            this.dataVersion = dataVersion;
+            this.etag = String.format("\"%08x-%x\"", key.hashCode(), dataVersion);
+        }
+
+        BufferedImage getImage() {
+            return image;
+        }
+
+        long getDataVersion() {
+            return dataVersion;
+        }
+
+        String getEtag() {
+            return etag;
+        }
+
+        synchronized byte[] getPng() throws IOException {
+            byte[] png = this.png;
+            if (png == null) {
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                ImageIO.write(image, "png", out);
+                png = out.toByteArray();
+                this.png = png;
+            }
+            return png;
+        }
+
+        long getWeight() {
+            // uncompressed raster, the PNG encoding is small compared to it
+            return 4L * image.getWidth() * image.getHeight();
+        }
+    }
+
+    private final long maxWeight;
+
+    // guarded by itself
+    private final LinkedHashMap<Key, Chart> charts = new LinkedHashMap<>(16, 0.75f, true);
+    private long weight;
+    private long hitCount;
+    private long missCount;
+
+    RRD4jChartCache(long maxWeight) {
+        this.maxWeight = maxWeight;
+    }
+
+    /**
+     * @return the cached chart, or null if there is none for the given data version
+     */
+    @Nullable
+    Chart get(Key key, long dataVersion) {
+        synchronized (charts) {
+            Chart chart = charts.get(key);
+            if (chart != null && chart.getDataVersion() == dataVersion) {
+                hitCount++;
+                return chart;
+            }
+            missCount++;
+            return null;
+        }
+    }
+
+    void put(Key key, Chart chart) {
+        if (chart.getWeight() > maxWeight) {
+            return;
+        }
+        synchronized (charts) {
+            Chart previous = charts.put(key, chart);
+            if (previous != null) {
+                weight -= previous.getWeight();
+            }
+            weight += chart.getWeight();
+            Iterator<Map.Entry<Key, Chart>> iterator = charts.entrySet().iterator();
+            while (weight > maxWeight && iterator.hasNext()) {
+                weight -= iterator.next().getValue().getWeight();
+                iterator.remove();
+            }
+        }
+    }
+
+    void clear() {
+        synchronized (charts) {
+            charts.clear();
+            weight = 0;
+        }
+    }
+
+    @Override
+    public String toString() {
+        synchronized (charts) {
+            return "RRD4jChartCache[charts=" + charts.size() + ", weight=" + weight + ", hits=" + hitCount + ", misses="
+                    + missCount + "]";
+        }
+    }
+}
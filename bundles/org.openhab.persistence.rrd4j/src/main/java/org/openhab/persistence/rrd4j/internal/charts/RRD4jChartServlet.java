@@ -20,16 +20,20 @@ import java.awt.image.BufferedImage;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.time.Duration;
+import java.time.Instant;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.Hashtable;
+import java.util.List;
 import java.util.Map;
 
-import javax.imageio.ImageIO;
 import javax.servlet.Servlet;
 import javax.servlet.ServletConfig;
 import javax.servlet.ServletException;
 import javax.servlet.ServletRequest;
 import javax.servlet.ServletResponse;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -50,8 +54,10 @@ import org.osgi.service.component.annotations.Reference;
 import org.osgi.service.http.HttpService;
 import org.osgi.service.http.NamespaceException;
 import org.rrd4j.ConsolFun;
+import org.rrd4j.core.ArcDef;
 import org.rrd4j.core.RrdDb;
 import org.rrd4j.core.RrdDb.Builder;
+import org.rrd4j.core.RrdDef;
 import org.rrd4j.graph.RrdGraph;
 import org.rrd4j.graph.RrdGraphConstants.FontTag;
 import org.rrd4j.graph.RrdGraphDef;
@@ -69,6 +75,9 @@ import org.slf4j.LoggerFactory;
  * <li>groups: A comma separated list of group names, whose members should be displayed
  * </ul>
  *
+ * Rendered charts are cached until one of the displayed databases or the end of the time span advances past a
+ * consolidation step. Responses carry an ETag, so that clients can revalidate a chart without downloading it again.
+ *
  * @author Kai Kreuzer - Initial contribution
  * @author Chris Jackson - a few improvements
  * @author Jan N. Klug - a few improvements
@@ -95,6 +104,10 @@ public class RRD4jChartServlet implements Servlet, ChartProvider {
 
     private static final Duration DEFAULT_PERIOD = Duration.ofDays(1);
 
+    // charts ending within this time from now are considered current and may be served from the cache
+    private static final Duration CURRENT_TOLERANCE = Duration.ofMinutes(1);
+    private static final long MAX_CACHE_BYTES = 32L * 1024 * 1024;
+
     private static final Map<String, Duration> PERIODS = Map.ofEntries( //
             entry("h", Duration.ofHours(1)), entry("4h", Duration.ofHours(4)), //
             entry("8h", Duration.ofHours(8)), entry("12h", Duration.ofHours(12)), //
@@ -109,6 +122,13 @@ public class RRD4jChartServlet implements Servlet, ChartProvider {
     private final ItemUIRegistry itemUIRegistry;
     private final TimeZoneProvider timeZoneProvider;
     private final PersistenceServiceConfigurationRegistry persistenceServiceConfigurationRegistry;
+    private final RRD4jChartCache cache = new RRD4jChartCache(MAX_CACHE_BYTES);
+
+    private record Series(Item item, @Nullable String alias) {
+        String rrdName() {
+            return RRD4jPersistenceService.getDatabasePath(alias != null ? alias : item.getName()).toString();
+        }
+    }
 
     @Activate
     public RRD4jChartServlet(final @Reference HttpService httpService, final @Reference ItemUIRegistry itemUIRegistry,
@@ -133,6 +153,8 @@ public class RRD4jChartServlet implements Servlet, ChartProvider {
     @Deactivate
     protected void deactivate() {
         httpService.unregister(SERVLET_NAME);
+        logger.debug("Stopping rrd chart servlet, {}", cache);
+        cache.clear();
     }
 
     @Override
@@ -149,11 +171,22 @@ public class RRD4jChartServlet implements Servlet, ChartProvider {
         ZonedDateTime timeBegin = timeEnd.minus(period);
 
         try {
-            BufferedImage chart = createChart(null, null, timeBegin, timeEnd, height, width, req.getParameter("items"),
+            RRD4jChartCache.Chart chart = getChart(null, timeBegin, timeEnd, height, width, req.getParameter("items"),
                     req.getParameter("groups"), null, null);
+            if (res instanceof HttpServletResponse httpResponse) {
+                httpResponse.setHeader("ETag", chart.getEtag());
+                httpResponse.setHeader("Cache-Control", "no-cache");
+                if (req instanceof HttpServletRequest httpRequest
+                        && matchesEtag(httpRequest.getHeader("If-None-Match"), chart.getEtag())) {
+                    httpResponse.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+                    return;
+                }
+            }
+            byte[] png = chart.getPng();
             // Set the content type to that provided by the chart provider
             res.setContentType("image/" + getChartType());
-            ImageIO.write(chart, getChartType().toString(), res.getOutputStream());
+            res.setContentLength(png.length);
+            res.getOutputStream().write(png);
         } catch (ItemNotFoundException e) {
             logger.debug("Item not found error while generating chart", e);
             throw new ServletException("Item not found error while generating chart: " + e.getMessage());
@@ -163,6 +196,19 @@ public class RRD4jChartServlet implements Servlet, ChartProvider {
         }
     }
 
+    static boolean matchesEtag(@Nullable String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String trimmed = candidate.trim();
+            if ("*".equals(trimmed) || etag.equals(trimmed.startsWith("W/") ? trimmed.substring(2) : trimmed)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private int parseInt(@Nullable String s, int defaultValue) {
         if (s == null) {
             return defaultValue;
@@ -247,27 +293,49 @@ public class RRD4jChartServlet implements Servlet, ChartProvider {
     public BufferedImage createChart(@Nullable String service, @Nullable String theme, ZonedDateTime startTime,
             ZonedDateTime endTime, int height, int width, @Nullable String items, @Nullable String groups,
             @Nullable Integer dpi, @Nullable Boolean legend) throws ItemNotFoundException {
-        RrdGraphDef graphDef = new RrdGraphDef(startTime.toEpochSecond(), endTime.toEpochSecond());
-        graphDef.setWidth(width);
-        graphDef.setHeight(height);
-        graphDef.setAntiAliasing(true);
-        graphDef.setImageFormat("PNG");
-        graphDef.setTextAntiAliasing(true);
-        graphDef.setFont(FontTag.TITLE, new Font("SansSerif", Font.PLAIN, 15));
-        graphDef.setFont(FontTag.DEFAULT, new Font("SansSerif", Font.PLAIN, 11));
+        return getChart(theme, startTime, endTime, height, width, items, groups, dpi, legend).getImage();
+    }
+
+    /**
+     * Returns the chart from the cache if it ends now and none of its databases has advanced past a consolidation
+     * step since it was rendered, otherwise renders it.
+     */
+    private RRD4jChartCache.Chart getChart(@Nullable String theme, ZonedDateTime startTime, ZonedDateTime endTime,
+            int height, int width, @Nullable String items, @Nullable String groups, @Nullable Integer dpi,
+            @Nullable Boolean legend) throws ItemNotFoundException {
+        List<Series> series = getSeries(items, groups);
+        long periodSeconds = Duration.between(startTime, endTime).getSeconds();
+        RRD4jChartCache.Key key = new RRD4jChartCache.Key(items, groups, theme, width, height, dpi, legend,
+                periodSeconds);
+        boolean current = Duration.between(endTime.toInstant(), Instant.now()).abs().compareTo(CURRENT_TOLERANCE) < 0;
+        // charts of past time spans are neither cached nor versioned
+        long dataVersion = current ? getDataVersion(series, periodSeconds) : 0;
+        if (current) {
+            RRD4jChartCache.Chart chart = cache.get(key, dataVersion);
+            if (chart != null) {
+                logger.trace("Serving chart from cache: {}", key);
+                return chart;
+            }
+        }
+        RRD4jChartCache.Chart chart = new RRD4jChartCache.Chart(key,
+                renderChart(series, startTime, endTime, height, width), dataVersion);
+        if (current) {
+            cache.put(key, chart);
+        }
+        return chart;
+    }
 
+    private List<Series> getSeries(@Nullable String items, @Nullable String groups) throws ItemNotFoundException {
         PersistenceServiceConfiguration config = persistenceServiceConfigurationRegistry
                 .get(RRD4jPersistenceService.SERVICE_ID);
-
-        int seriesCounter = 0;
+        List<Series> series = new ArrayList<>();
 
         // Loop through all the items
         if (items != null) {
             String[] itemNames = items.split(",");
             for (String itemName : itemNames) {
                 String alias = config != null ? config.getAliases().get(itemName) : null;
-                Item item = itemUIRegistry.getItem(itemName);
-                addLine(graphDef, item, alias, seriesCounter++);
+                series.add(new Series(itemUIRegistry.getItem(itemName), alias));
             }
         }
 
@@ -279,13 +347,97 @@ public class RRD4jChartServlet implements Servlet, ChartProvider {
                 if (item instanceof GroupItem groupItem) {
                     for (Item member : groupItem.getMembers()) {
                         String alias = config != null ? config.getAliases().get(member.getName()) : null;
-                        addLine(graphDef, member, alias, seriesCounter++);
+                        series.add(new Series(member, alias));
                     }
                 } else {
                     throw new ItemNotFoundException("Item '" + item.getName() + "' defined in groups is not a group.");
                 }
             }
         }
+        return series;
+    }
+
+    /**
+     * Calculates a version of the data displayed in a chart. The version changes when the last update of one of the
+     * databases or the current time advances past the consolidation step of the archive used for the period.
+     *
+     * @param series the displayed series
+     * @param periodSeconds the displayed period
+     * @return the data version
+     */
+    private long getDataVersion(List<Series> series, long periodSeconds) {
+        long[] lastUpdateTimes = new long[series.size()];
+        long[] steps = new long[series.size()];
+        for (int i = 0; i < series.size(); i++) {
+            try {
+                Builder builder = RrdDb.getBuilder();
+                builder.setPool(RRD4jPersistenceService.getDatabasePool());
+                builder.setPath(series.get(i).rrdName());
+                try (RrdDb db = builder.build()) {
+                    steps[i] = getConsolidationStep(db.getRrdDef(), periodSeconds);
+                    lastUpdateTimes[i] = db.getLastUpdateTime();
+                }
+            } catch (IOException e) {
+                // a missing database is marked by step 0
+                steps[i] = 0;
+            }
+        }
+        return getDataVersion(lastUpdateTimes, steps, Instant.now().getEpochSecond());
+    }
+
+    /**
+     * @param lastUpdateTimes the last update times of the databases in seconds
+     * @param steps the consolidation steps of the databases in seconds, 0 if a database can't be opened
+     * @param now the current time in seconds
+     * @return the data version
+     */
+    static long getDataVersion(long[] lastUpdateTimes, long[] steps, long now) {
+        long version = 1;
+        long minStep = Long.MAX_VALUE;
+        for (int i = 0; i < steps.length; i++) {
+            long lastUpdateStep = -1;
+            if (steps[i] > 0) {
+                minStep = Math.min(minStep, steps[i]);
+                lastUpdateStep = lastUpdateTimes[i] / steps[i];
+            }
+            version = 31 * version + lastUpdateStep;
+        }
+        // advance with the time axis even if no database is updated
+        long nowStep = now / (minStep == Long.MAX_VALUE ? 60 : minStep);
+        return 31 * version + nowStep;
+    }
+
+    /**
+     * @return the step in seconds of the finest archive covering the period
+     */
+    static long getConsolidationStep(RrdDef rrdDef, long periodSeconds) {
+        long finest = Long.MAX_VALUE;
+        long coarsest = rrdDef.getStep();
+        for (ArcDef arcDef : rrdDef.getArcDefs()) {
+            long step = rrdDef.getStep() * arcDef.getSteps();
+            if (step * arcDef.getRows() >= periodSeconds) {
+                finest = Math.min(finest, step);
+            }
+            coarsest = Math.max(coarsest, step);
+        }
+        return finest == Long.MAX_VALUE ? coarsest : finest;
+    }
+
+    private BufferedImage renderChart(List<Series> series, ZonedDateTime startTime, ZonedDateTime endTime,
+            int height, int width) {
+        RrdGraphDef graphDef = new RrdGraphDef(startTime.toEpochSecond(), endTime.toEpochSecond());
+        graphDef.setWidth(width);
+        graphDef.setHeight(height);
+        graphDef.setAntiAliasing(true);
+        graphDef.setImageFormat("PNG");
+        graphDef.setTextAntiAliasing(true);
+        graphDef.setFont(FontTag.TITLE, new Font("SansSerif", Font.PLAIN, 15));
+        graphDef.setFont(FontTag.DEFAULT, new Font("SansSerif", Font.PLAIN, 11));
+
+        int seriesCounter = 0;
+        for (Series s : series) {
+            addLine(graphDef, s.item(), s.alias(), seriesCounter++);
+        }
 
         // Write the chart as a PNG image
         try {
@@ -36,6 +36,7 @@ import org.openhab.core.persistence.PersistenceServiceRegistry;
 import org.openhab.core.persistence.registry.PersistenceServiceConfiguration;
 import org.openhab.core.persistence.registry.PersistenceServiceConfigurationRegistry;
 import org.openhab.persistence.rrd4j.internal.RRD4jPersistenceService;
+import org.openhab.persistence.rrd4j.internal.RRD4jWriter.WriteStatistics;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
@@ -52,8 +53,9 @@ public class RRD4jCommandExtension extends AbstractConsoleCommandExtension imple
     private static final String CMD_LIST = "list";
     private static final String CMD_CHECK = "check";
     private static final String CMD_CLEAN = "clean";
-    private static final StringsCompleter CMD_COMPLETER = new StringsCompleter(List.of(CMD_LIST, CMD_CHECK, CMD_CLEAN),
-            false);
+    private static final String CMD_STATS = "stats";
+    private static final StringsCompleter CMD_COMPLETER = new StringsCompleter(
+            List.of(CMD_LIST, CMD_CHECK, CMD_CLEAN, CMD_STATS), false);
 
     private final PersistenceServiceRegistry persistenceServiceRegistry;
     private final PersistenceServiceConfigurationRegistry persistenceServiceConfigurationRegistry;
@@ -89,6 +91,9 @@ public class RRD4jCommandExtension extends AbstractConsoleCommandExtension imple
         } else if (args.length >= 1 && args.length <= 2 && CMD_CLEAN.equalsIgnoreCase(args[0])) {
             checkAndClean(persistenceService, console, args.length == 2 ? args[1] : null, false);
             return;
+        } else if (args.length == 1 && CMD_STATS.equalsIgnoreCase(args[0])) {
+            showWriteStatistics(persistenceService, console);
+            return;
         }
         printUsage(console);
     }
@@ -152,11 +157,30 @@ public class RRD4jCommandExtension extends AbstractConsoleCommandExtension imple
         console.println(nb + " files " + (checkOnly ? "to delete." : "deleted."));
     }
 
+    private void showWriteStatistics(RRD4jPersistenceService persistenceService, Console console) {
+        List<Entry<String, WriteStatistics>> statistics = persistenceService.getWriteStatistics().entrySet().stream()
+                .sorted(Comparator.comparingDouble((Entry<String, WriteStatistics> e) -> e.getValue().getMaxMillis())
+                        .reversed())
+                .collect(Collectors.toList());
+        int nameMaxLength = Math.max(statistics.stream().map(e -> e.getKey().length()).max(Integer::compare).orElse(0),
+                4);
+        console.println(String.format("%1$-" + (nameMaxLength + 2) + "s%2$10s%3$12s%4$12s%5$12s", "Name", "Writes",
+                "Avg (ms)", "Max (ms)", "Last (ms)"));
+        for (Entry<String, WriteStatistics> entry : statistics) {
+            WriteStatistics stats = entry.getValue();
+            console.println(String.format("%1$-" + (nameMaxLength + 2) + "s%2$10d%3$12.2f%4$12.2f%5$12.2f",
+                    entry.getKey(), stats.getCount(), stats.getAverageMillis(), stats.getMaxMillis(),
+                    stats.getLastMillis()));
+        }
+        console.println(statistics.size() + " databases written.");
+    }
+
     @Override
     public List<String> getUsages() {
         return List.of(buildCommandUsage(CMD_LIST, "list Round Robin Database files"),
                 buildCommandUsage(CMD_CHECK, "check for RRD files without existing item"),
-                buildCommandUsage(CMD_CLEAN + " [<itemName>]", "delete RRD files without existing item"));
+                buildCommandUsage(CMD_CLEAN + " [<itemName>]", "delete RRD files without existing item"),
+                buildCommandUsage(CMD_STATS, "show write latency per RRD file"));
     }
 
     @Override
@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.rrd4j.internal.charts;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.awt.image.BufferedImage;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the {@link RRD4jChartCache}.
+ *
+ * The weight of a chart is 4 bytes per pixel, so a chart of 10 by 10 pixels weighs 400.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class RRD4jChartCacheTest {
+    private static final long VERSION = 42;
+
+    private static RRD4jChartCache.Key key(String items) {
+        return new RRD4jChartCache.Key(items, null, null, 480, 240, null, null, 86400);
+    }
+
+    private static RRD4jChartCache.Chart chart(RRD4jChartCache.Key key, int width, int height) {
+        return new RRD4jChartCache.Chart(key, new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), VERSION);
+    }
+
+    @Test
+    public void chartIsCachedForItsDataVersion() {
+        RRD4jChartCache cache = new RRD4jChartCache(1000);
+        RRD4jChartCache.Chart chart = chart(key("a"), 10, 10);
+
+        cache.put(key("a"), chart);
+
+        assertSame(chart, cache.get(key("a"), VERSION));
+        assertNull(cache.get(key("a"), VERSION + 1));
+        assertNull(cache.get(key("b"), VERSION));
+    }
+
+    @Test
+    public void leastRecentlyUsedChartIsEvictedByWeight() {
+        RRD4jChartCache cache = new RRD4jChartCache(1000);
+        cache.put(key("a"), chart(key("a"), 10, 10));
+        cache.put(key("b"), chart(key("b"), 10, 10));
+        // a is used more recently than b
+        assertNotNull(cache.get(key("a"), VERSION));
+
+        cache.put(key("c"), chart(key("c"), 10, 10));
+
+        assertNotNull(cache.get(key("a"), VERSION));
+        assertNull(cache.get(key("b"), VERSION));
+        assertNotNull(cache.get(key("c"), VERSION));
+    }
+
+    @Test
+    public void replacedChartIsNotCountedTwice() {
+        RRD4jChartCache cache = new RRD4jChartCache(1000);
+        cache.put(key("a"), chart(key("a"), 10, 10));
+        cache.put(key("b"), chart(key("b"), 10, 10));
+
+        // 100 + 400 + 480 fit, 400 + 400 + 480 would not
+        cache.put(key("a"), chart(key("a"), 5, 5));
+        cache.put(key("c"), chart(key("c"), 10, 12));
+
+        assertNotNull(cache.get(key("a"), VERSION));
+        assertNotNull(cache.get(key("b"), VERSION));
+        assertNotNull(cache.get(key("c"), VERSION));
+    }
+
+    @Test
+    public void replacingWithHeavierChartEvicts() {
+        RRD4jChartCache cache = new RRD4jChartCache(1000);
+        cache.put(key("a"), chart(key("a"), 10, 10));
+        cache.put(key("b"), chart(key("b"), 10, 10));
+
+        // 400 + 800 exceed the maximum, the least recently used chart is evicted
+        cache.put(key("b"), chart(key("b"), 20, 10));
+
+        assertNull(cache.get(key("a"), VERSION));
+        assertNotNull(cache.get(key("b"), VERSION));
+    }
+
+    @Test
+    public void chartHeavierThanCacheIsNotCached() {
+        RRD4jChartCache cache = new RRD4jChartCache(1000);
+        cache.put(key("a"), chart(key("a"), 10, 10));
+
+        cache.put(key("b"), chart(key("b"), 20, 20));
+
+        assertNotNull(cache.get(key("a"), VERSION));
+        assertNull(cache.get(key("b"), VERSION));
+    }
+
+    @Test
+    public void clearRemovesAllCharts() {
+        RRD4jChartCache cache = new RRD4jChartCache(1000);
+        cache.put(key("a"), chart(key("a"), 10, 10));
+
+        cache.clear();
+
+        assertNull(cache.get(key("a"), VERSION));
+        // the weight is reset as well
+        cache.put(key("b"), chart(key("b"), 10, 10));
+        cache.put(key("c"), chart(key("c"), 10, 10));
+        assertNotNull(cache.get(key("b"), VERSION));
+        assertNotNull(cache.get(key("c"), VERSION));
+    }
+
+    @Test
+    public void keyChangesWithChartSettings() {
+        RRD4jChartCache.Key key = key("a");
+
+        assertEquals(key, key("a"));
+        assertNotEquals(key, key("b"));
+        assertNotEquals(key, new RRD4jChartCache.Key("a", "g", null, 480, 240, null, null, 86400));
+        assertNotEquals(key, new RRD4jChartCache.Key("a", null, "dark", 480, 240, null, null, 86400));
+        assertNotEquals(key, new RRD4jChartCache.Key("a", null, null, 800, 240, null, null, 86400));
+        assertNotEquals(key, new RRD4jChartCache.Key("a", null, null, 480, 600, null, null, 86400));
+        assertNotEquals(key, new RRD4jChartCache.Key("a", null, null, 480, 240, 96, null, 86400));
+        assertNotEquals(key, new RRD4jChartCache.Key("a", null, null, 480, 240, null, true, 86400));
+        assertNotEquals(key, new RRD4jChartCache.Key("a", null, null, 480, 240, null, null, 3600));
+    }
+
+    @Test
+    public void etagChangesWithKeyAndDataVersion() {
+        BufferedImage image = new BufferedImage(10, 10, BufferedImage.TYPE_INT_RGB);
+        String etag = new RRD4jChartCache.Chart(key("a"), image, VERSION).getEtag();
+
+        assertEquals(etag, new RRD4jChartCache.Chart(key("a"), image, VERSION).getEtag());
+        assertNotEquals(etag, new RRD4jChartCache.Chart(key("b"), image, VERSION).getEtag());
+        assertNotEquals(etag, new RRD4jChartCache.Chart(key("a"), image, VERSION + 1).getEtag());
+        assertTrue(etag.startsWith("\"") && etag.endsWith("\""));
+    }
+}
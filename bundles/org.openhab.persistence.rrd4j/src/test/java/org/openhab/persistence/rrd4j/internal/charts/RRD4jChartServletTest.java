@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.rrd4j.internal.charts;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.rrd4j.ConsolFun;
+import org.rrd4j.core.RrdDef;
+
+/**
+ * Tests the ETag and data version handling of the {@link RRD4jChartServlet}.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class RRD4jChartServletTest {
+    private static final String ETAG = "\"0000abcd-2a\"";
+
+    @Test
+    public void etagMatchesIfNoneMatch() {
+        assertFalse(RRD4jChartServlet.matchesEtag(null, ETAG));
+        assertTrue(RRD4jChartServlet.matchesEtag(ETAG, ETAG));
+        assertFalse(RRD4jChartServlet.matchesEtag("\"0000abcd-2b\"", ETAG));
+        assertFalse(RRD4jChartServlet.matchesEtag("", ETAG));
+    }
+
+    @Test
+    public void etagMatchesList() {
+        assertTrue(RRD4jChartServlet.matchesEtag("\"other\", " + ETAG, ETAG));
+        assertTrue(RRD4jChartServlet.matchesEtag(ETAG + ",\"other\"", ETAG));
+        assertFalse(RRD4jChartServlet.matchesEtag("\"other\", \"another\"", ETAG));
+    }
+
+    @Test
+    public void etagMatchesWildcard() {
+        assertTrue(RRD4jChartServlet.matchesEtag("*", ETAG));
+        assertTrue(RRD4jChartServlet.matchesEtag(" * ", ETAG));
+    }
+
+    @Test
+    public void etagMatchesWeakTag() {
+        assertTrue(RRD4jChartServlet.matchesEtag("W/" + ETAG, ETAG));
+        assertTrue(RRD4jChartServlet.matchesEtag("\"other\", W/" + ETAG, ETAG));
+        assertFalse(RRD4jChartServlet.matchesEtag("W/\"other\"", ETAG));
+    }
+
+    private static RrdDef createRrdDef() {
+        // 1 minute for 8 hours, 5 minutes for 2 days, 1 hour for 30 days
+        RrdDef rrdDef = new RrdDef("test", 60);
+        rrdDef.addArchive(ConsolFun.AVERAGE, 0.5, 1, 480);
+        rrdDef.addArchive(ConsolFun.AVERAGE, 0.5, 5, 576);
+        rrdDef.addArchive(ConsolFun.AVERAGE, 0.5, 60, 720);
+        return rrdDef;
+    }
+
+    @Test
+    public void consolidationStepOfFinestArchiveCoveringPeriod() {
+        RrdDef rrdDef = createRrdDef();
+
+        assertEquals(60, RRD4jChartServlet.getConsolidationStep(rrdDef, 3600));
+        assertEquals(60, RRD4jChartServlet.getConsolidationStep(rrdDef, 8 * 3600));
+        assertEquals(300, RRD4jChartServlet.getConsolidationStep(rrdDef, 8 * 3600 + 1));
+        assertEquals(300, RRD4jChartServlet.getConsolidationStep(rrdDef, 2 * 86400));
+        assertEquals(3600, RRD4jChartServlet.getConsolidationStep(rrdDef, 7 * 86400));
+    }
+
+    @Test
+    public void consolidationStepOfCoarsestArchiveIfNoneCoversPeriod() {
+        assertEquals(3600, RRD4jChartServlet.getConsolidationStep(createRrdDef(), 365 * 86400));
+    }
+
+    @Test
+    public void dataVersionChangesWithNewestData() {
+        long now = 1_000_000;
+        long version = RRD4jChartServlet.getDataVersion(new long[] { 600, 900 }, new long[] { 300, 60 }, now);
+
+        // updates within the consolidation step are not visible in the chart
+        assertEquals(version, RRD4jChartServlet.getDataVersion(new long[] { 899, 959 }, new long[] { 300, 60 }, now));
+        assertNotEquals(version,
+                RRD4jChartServlet.getDataVersion(new long[] { 900, 900 }, new long[] { 300, 60 }, now));
+        assertNotEquals(version,
+                RRD4jChartServlet.getDataVersion(new long[] { 600, 960 }, new long[] { 300, 60 }, now));
+    }
+
+    @Test
+    public void dataVersionChangesWithTime() {
+        long version = RRD4jChartServlet.getDataVersion(new long[] { 600 }, new long[] { 300 }, 1_000_200);
+
+        assertEquals(version, RRD4jChartServlet.getDataVersion(new long[] { 600 }, new long[] { 300 }, 1_000_499));
+        assertNotEquals(version,
+                RRD4jChartServlet.getDataVersion(new long[] { 600 }, new long[] { 300 }, 1_000_500));
+    }
+
+    @Test
+    public void dataVersionOfMissingDatabase() {
+        long version = RRD4jChartServlet.getDataVersion(new long[] { 0 }, new long[] { 0 }, 1_000_000);
+
+        // without a database the version advances every minute
+        assertEquals(version, RRD4jChartServlet.getDataVersion(new long[] { 0 }, new long[] { 0 }, 1_000_019));
+        assertNotEquals(version, RRD4jChartServlet.getDataVersion(new long[] { 0 }, new long[] { 0 }, 1_000_020));
+        assertNotEquals(version, RRD4jChartServlet.getDataVersion(new long[] { 600 }, new long[] { 300 }, 1_000_000));
+    }
+}
@@ -0,0 +1,232 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.transform.basicprofiles.internal.profiles;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.util.Statistics;
+
+/**
+ * The most recent values of a series in a ring buffer, with statistics over windows of the latest values.
+ *
+ * The statistics of each window are updated when a value is added, instead of being calculated from all values of
+ * the window when they are requested. Sums are kept exactly, so the results are the same as if they were calculated
+ * from the values of the window.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+class RollingStatistics {
+    private static final BigDecimal TWO = BigDecimal.valueOf(2);
+
+    private final @Nullable BigDecimal[] values;
+    private long count;
+    private final Map<Integer, Window> windows = new HashMap<>();
+
+    /**
+     * @param capacity the number of values to keep, which is the maximum window size
+     */
+    RollingStatistics(int capacity) {
+        values = new BigDecimal[capacity];
+    }
+
+    /**
+     * Adds a value, removing the oldest value if the capacity is reached.
+     */
+    void add(BigDecimal value) {
+        for (Window window : windows.values()) {
+            window.add(value, window.size > 0 && count >= window.size ? get(count - window.size) : null);
+        }
+        values[(int) (count % values.length)] = value;
+        count++;
+    }
+
+    private BigDecimal get(long index) {
+        BigDecimal value = values[(int) (index % values.length)];
+        if (value == null) {
+            throw new IllegalStateException("Value " + index + " is not available");
+        }
+        return value;
+    }
+
+    /**
+     * Returns the statistics of the latest values. The first call for a window size collects the values kept so far,
+     * later calls are answered from the incrementally updated statistics.
+     *
+     * @param size the number of values, or null for all kept values
+     * @return the statistics of the window
+     */
+    Window getWindow(@Nullable Integer size) {
+        int windowSize = size == null ? values.length : Math.max(0, Math.min(size, values.length));
+        Window window = windows.get(windowSize);
+        if (window == null) {
+            window = new Window(windowSize);
+            for (long i = Math.max(0, count - windowSize); i < count; i++) {
+                window.add(get(i), null);
+            }
+            windows.put(windowSize, window);
+        }
+        return window;
+    }
+
+    /**
+     * Statistics of a fixed number of the latest values.
+     */
+    static class Window {
+        private final int size;
+        private int count;
+        private BigDecimal sum = BigDecimal.ZERO;
+        private BigDecimal sumOfSquares = BigDecimal.ZERO;
+        // values in ascending order, ties in the order they were added
+        private final @Nullable BigDecimal[] sorted;
+        // candidates for the minimum and maximum, the oldest first
+        private final Deque<BigDecimal> minimums = new ArrayDeque<>();
+        private final Deque<BigDecimal> maximums = new ArrayDeque<>();
+
+        private Window(int size) {
+            this.size = size;
+            this.sorted = new BigDecimal[size];
+        }
+
+        private void add(BigDecimal value, @Nullable BigDecimal removed) {
+            if (size == 0) {
+                return;
+            }
+            if (removed != null) {
+                remove(removed);
+            }
+            count++;
+            sum = sum.add(value);
+            sumOfSquares = sumOfSquares.add(value.multiply(value));
+
+            int index = upperBound(value);
+            System.arraycopy(sorted, index, sorted, index + 1, count - 1 - index);
+            sorted[index] = value;
+
+            while (minimums.peekLast() instanceof BigDecimal last && last.compareTo(value) > 0) {
+                minimums.pollLast();
+            }
+            minimums.addLast(value);
+            while (maximums.peekLast() instanceof BigDecimal last && last.compareTo(value) < 0) {
+                maximums.pollLast();
+            }
+            maximums.addLast(value);
+        }
+
+        private void remove(BigDecimal value) {
+            sum = sum.subtract(value);
+            sumOfSquares = sumOfSquares.subtract(value.multiply(value));
+
+            // the oldest of equal values is removed, which is the first one
+            int index = lowerBound(value);
+            System.arraycopy(sorted, index + 1, sorted, index, count - index - 1);
+            count--;
+            sorted[count] = null;
+
+            if (minimums.peekFirst() instanceof BigDecimal minimum && minimum.compareTo(value) == 0) {
+                minimums.pollFirst();
+            }
+            if (maximums.peekFirst() instanceof BigDecimal maximum && maximum.compareTo(value) == 0) {
+                maximums.pollFirst();
+            }
+        }
+
+        private int lowerBound(BigDecimal value) {
+            int low = 0;
+            int high = count;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (valueAt(middle).compareTo(value) < 0) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+
+        private int upperBound(BigDecimal value) {
+            int low = 0;
+            int high = count - 1;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (valueAt(middle).compareTo(value) <= 0) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+
+        private BigDecimal valueAt(int index) {
+            BigDecimal value = sorted[index];
+            if (value == null) {
+                throw new IllegalStateException("Value " + index + " is not available");
+            }
+            return value;
+        }
+
+        boolean isEmpty() {
+            return count == 0;
+        }
+
+        BigDecimal getAverage() {
+            return sum.divide(BigDecimal.valueOf(count), MathContext.DECIMAL32);
+        }
+
+        /**
+         * @return the population standard deviation, with deviations taken from the average rounded to two decimals
+         */
+        BigDecimal getStandardDeviation() {
+            BigDecimal n = BigDecimal.valueOf(count);
+            BigDecimal average = sum.divide(n, 2, RoundingMode.HALF_EVEN);
+            // sum of (value - average)² expanded, which is exact in decimal arithmetic
+            BigDecimal squaredDeviations = sumOfSquares.subtract(TWO.multiply(average).multiply(sum))
+                    .add(n.multiply(average).multiply(average));
+            return squaredDeviations.divide(n, MathContext.DECIMAL32).sqrt(MathContext.DECIMAL32);
+        }
+
+        @Nullable
+        BigDecimal getMedian() {
+            int middle = count / 2;
+            return Statistics.median(count % 2 == 1 ? List.of(valueAt(middle))
+                    : List.of(valueAt(middle - 1), valueAt(middle)));
+        }
+
+        BigDecimal getMin() {
+            BigDecimal minimum = minimums.peekFirst();
+            if (minimum == null) {
+                throw new IllegalStateException("Window is empty");
+            }
+            return minimum;
+        }
+
+        BigDecimal getMax() {
+            BigDecimal maximum = maximums.peekFirst();
+            if (maximum == null) {
+                throw new IllegalStateException("Window is empty");
+            }
+            return maximum;
+        }
+    }
+}
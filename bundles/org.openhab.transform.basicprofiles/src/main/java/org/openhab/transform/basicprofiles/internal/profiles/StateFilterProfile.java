@@ -17,10 +17,8 @@ import static org.openhab.transform.basicprofiles.internal.factory.BasicProfiles
 
 import java.math.BigDecimal;
 import java.math.MathContext;
-import java.math.RoundingMode;
 import java.util.ArrayList;
 import java.util.Comparator;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Objects;
@@ -49,7 +47,6 @@ import org.openhab.core.types.Command;
 import org.openhab.core.types.State;
 import org.openhab.core.types.TypeParser;
 import org.openhab.core.types.UnDefType;
-import org.openhab.core.util.Statistics;
 import org.openhab.transform.basicprofiles.internal.config.StateFilterProfileConfig;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -109,10 +106,8 @@ public class StateFilterProfile implements StateProfile {
     // single cached numeric state for use in conjunction with DELTA and DELTA_PERCENT functions
     private Optional<State> acceptedState = Optional.empty();
 
-    // cached list of prior numeric states for use in conjunction with AVG, MEDIAN, STDDEV, MIN, MAX functions
-    private final List<State> previousStates = new LinkedList<>();
-
-    private final int windowSize;
+    // prior numeric values for use in conjunction with AVG, MEDIAN, STDDEV, MIN, MAX functions
+    private final @Nullable RollingStatistics previousValues;
 
     // reference (zero based) system unit for conversions
     private @Nullable Unit<?> systemUnit = null;
@@ -147,7 +142,7 @@ public class StateFilterProfile implements StateProfile {
             }
         }
 
-        windowSize = maxWindowSize;
+        previousValues = maxWindowSize > 0 ? new RollingStatistics(maxWindowSize) : null;
         configMismatchState = parseState(config.mismatchState, context.getAcceptedDataTypes());
     }
 
@@ -220,11 +215,9 @@ public class StateFilterProfile implements StateProfile {
         } else {
             logger.debug("Received state update from handler: {}, not forwarded to item", state);
         }
-        if (windowSize > 0 && isCacheable(state)) {
-            previousStates.add(state);
-            if (previousStates.size() > windowSize) {
-                previousStates.removeFirst();
-            }
+        RollingStatistics previousValues = this.previousValues;
+        if (previousValues != null && isCacheable(state) && toBigDecimal(state) instanceof BigDecimal value) {
+            previousValues.add(value);
         }
     }
 
@@ -571,20 +564,20 @@ public class StateFilterProfile implements StateProfile {
                 case DELTA -> result = calculateDelta();
                 case DELTA_PERCENT -> result = calculateDeltaPercent();
                 default -> {
-                    int size = previousStates.size();
-                    Integer start = windowSize.map(w -> size - w).orElse(0);
-                    List<BigDecimal> values = toBigDecimals(
-                            start == null || start <= 0 ? previousStates : previousStates.subList(start, size));
-                    if (values.isEmpty()) {
+                    RollingStatistics previousValues = StateFilterProfile.this.previousValues;
+                    RollingStatistics.Window values = previousValues == null ? null
+                            : previousValues.getWindow(windowSize.orElse(null));
+                    if (values == null || values.isEmpty()) {
                         logger.debug("Not enough states to calculate {}", type);
                         result = null;
                     } else {
                         switch (type) {
-                            case AVG, AVERAGE -> result = calculateAverage(values);
-                            case MEDIAN -> result = calculateMedian(values);
-                            case STDDEV -> result = calculateStdDev(values);
-                            case MIN -> result = calculateMin(values);
-                            case MAX -> result = calculateMax(values);
+                            case AVG, AVERAGE -> result = toState(values.getAverage());
+                            case MEDIAN -> result = Optional.ofNullable(values.getMedian()).map(o -> toState(o))
+                                    .orElse(null);
+                            case STDDEV -> result = toState(values.getStandardDeviation());
+                            case MIN -> result = toState(values.getMin());
+                            case MAX -> result = toState(values.getMax());
                             default -> result = null;
                         }
                     }
@@ -651,40 +644,6 @@ public class StateFilterProfile implements StateProfile {
             return toFullString();
         }
 
-        private @Nullable State calculateAverage(List<BigDecimal> values) {
-            return Optional
-                    .ofNullable(values.stream().reduce(BigDecimal.ZERO, BigDecimal::add)
-                            .divide(BigDecimal.valueOf(values.size()), MathContext.DECIMAL32))
-                    .map(o -> toState(o)).orElse(null);
-        }
-
-        private @Nullable State calculateMedian(List<BigDecimal> values) {
-            return Optional.ofNullable(Statistics.median(values)).map(o -> toState(o)).orElse(null);
-        }
-
-        private @Nullable State calculateStdDev(List<BigDecimal> values) {
-            BigDecimal average = values.stream().reduce(BigDecimal.ZERO, BigDecimal::add)
-                    .divide(BigDecimal.valueOf(values.size()), 2, RoundingMode.HALF_EVEN);
-
-            BigDecimal variance = values.stream().map(value -> {
-                BigDecimal delta = value.subtract(average);
-                return delta.multiply(delta);
-            }).reduce(BigDecimal.ZERO, BigDecimal::add).divide(BigDecimal.valueOf(values.size()),
-                    MathContext.DECIMAL32);
-
-            return toState(variance.sqrt(MathContext.DECIMAL32));
-        }
-
-        private @Nullable State calculateMin(List<BigDecimal> values) {
-            return Optional.ofNullable(values.stream().min(BigDecimal::compareTo).orElse(null)).map(o -> toState(o))
-                    .orElse(null);
-        }
-
-        private @Nullable State calculateMax(List<BigDecimal> values) {
-            return Optional.ofNullable(values.stream().max(BigDecimal::compareTo).orElse(null)).map(o -> toState(o))
-                    .orElse(null);
-        }
-
         private @Nullable State calculateDelta() {
             return acceptedState.isPresent() //
                     && toBigDecimal(acceptedState.get()) instanceof BigDecimal acceptedValue
@@ -744,16 +703,6 @@ public class StateFilterProfile implements StateProfile {
                 : null;
     }
 
-    /**
-     * Convert a list of {@link State} to a list of {@link BigDecimal} values.
-     *
-     * @param states list of {@link State} values.
-     * @return list of {@link BigDecimal} values.
-     */
-    protected List<BigDecimal> toBigDecimals(List<? extends State> states) {
-        return states.stream().map(s -> toBigDecimal(s)).filter(Objects::nonNull).toList();
-    }
-
     /**
      * Create a new {@link State} from the given {@link BigDecimal} value. If there is a 'systemUnit' it creates a
      * {@link QuantityType} based on that unit. Otherwise it creates a {@link DecimalType}.
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.transform.basicprofiles.internal.profiles;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Basic unit tests for {@link RollingStatistics}.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class RollingStatisticsTest {
+
+    private static void add(RollingStatistics statistics, String... values) {
+        for (String value : values) {
+            statistics.add(new BigDecimal(value));
+        }
+    }
+
+    private static void assertValue(String expected, BigDecimal actual) {
+        assertEquals(0, new BigDecimal(expected).compareTo(actual), () -> "expected " + expected + " but was " + actual);
+    }
+
+    @Test
+    public void testEmptyWindow() {
+        RollingStatistics statistics = new RollingStatistics(3);
+
+        assertTrue(statistics.getWindow(2).isEmpty());
+        assertTrue(statistics.getWindow(null).isEmpty());
+    }
+
+    @Test
+    public void testWindowSlides() {
+        RollingStatistics statistics = new RollingStatistics(4);
+        RollingStatistics.Window window = statistics.getWindow(3);
+
+        add(statistics, "5", "1", "3");
+        assertValue("3", window.getAverage());
+        assertValue("3", window.getMedian());
+        assertValue("1", window.getMin());
+        assertValue("5", window.getMax());
+
+        add(statistics, "2", "2");
+        assertValue("2.333333", window.getAverage());
+        assertValue("2", window.getMedian());
+        assertValue("2", window.getMin());
+        assertValue("3", window.getMax());
+    }
+
+    @Test
+    public void testWindowCreatedAfterValues() {
+        RollingStatistics statistics = new RollingStatistics(4);
+        add(statistics, "9", "1", "2", "3", "4");
+
+        RollingStatistics.Window window = statistics.getWindow(2);
+        assertValue("3.5", window.getAverage());
+        assertValue("3.5", window.getMedian());
+
+        RollingStatistics.Window all = statistics.getWindow(null);
+        assertValue("2.5", all.getAverage());
+        assertValue("1", all.getMin());
+        assertValue("4", all.getMax());
+    }
+
+    @Test
+    public void testStandardDeviation() {
+        RollingStatistics statistics = new RollingStatistics(8);
+        add(statistics, "2", "4", "4", "4", "5", "5", "7", "9");
+
+        assertValue("2", statistics.getWindow(8).getStandardDeviation());
+
+        add(statistics, "10", "10");
+        assertValue("2.436699", statistics.getWindow(8).getStandardDeviation());
+    }
+}
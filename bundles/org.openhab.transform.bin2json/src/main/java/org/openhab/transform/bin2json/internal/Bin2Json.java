@@ -66,6 +66,9 @@ import com.igormaznitsa.jbbp.model.JBBPFieldUShort;
  * json.toString() = {"a":3,"b":-6,"c":255}}
  * </pre>
  *
+ * <p>
+ * Instances are thread safe and can be used for any number of conversions.
+ *
  * @author Pauli Anttila - Initial contribution
  *
  */
@@ -73,7 +76,7 @@ public class Bin2Json {
 
     private final Logger logger = LoggerFactory.getLogger(Bin2Json.class);
 
-    private JBBPParser parser;
+    private final JBBPParser parser;
 
     /**
      *
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.transform.bin2json.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.transform.TransformationException;
+
+/**
+ * Tests the {@link Bin2JsonTransformationService} and its cache of prepared parsers.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class Bin2JsonTransformationServiceTest {
+    private static final String SYNTAX = "byte a; byte b; ubyte c;";
+
+    private final Bin2JsonTransformationService service = new Bin2JsonTransformationService();
+
+    @Test
+    public void transform() throws TransformationException {
+        assertEquals("{\"a\":3,\"b\":-6,\"c\":255}", service.transform(SYNTAX, "03FAFF"));
+    }
+
+    @Test
+    public void repeatedTransformsWithSameSyntax() throws TransformationException {
+        assertEquals("{\"a\":3,\"b\":-6,\"c\":255}", service.transform(SYNTAX, "03FAFF"));
+        assertEquals("{\"a\":1,\"b\":2,\"c\":3}", service.transform(SYNTAX, "010203"));
+        assertEquals("{\"a\":3,\"b\":-6,\"c\":255}", service.transform(SYNTAX, "03FAFF"));
+    }
+
+    @Test
+    public void differentSyntaxesDoNotCollide() throws TransformationException {
+        assertEquals("{\"a\":3,\"b\":-6,\"c\":255}", service.transform(SYNTAX, "03FAFF"));
+        assertEquals("{\"a\":1018,\"c\":255}", service.transform("short a; ubyte c;", "03FAFF"));
+        assertEquals("{\"x\":3,\"y\":250,\"z\":255}", service.transform("ubyte x; ubyte y; ubyte z;", "03FAFF"));
+        assertEquals("{\"a\":3,\"b\":-6,\"c\":255}", service.transform(SYNTAX, "03FAFF"));
+    }
+
+    private @Nullable String transformField(int i) throws TransformationException {
+        return service.transform("ubyte f" + i + ";", String.format("%02X", i));
+    }
+
+    @Test
+    public void syntaxesBeyondCacheSizeStillWork() throws TransformationException {
+        // the cache holds 64 parsers and is cleared when it is full
+        for (int i = 0; i < 65; i++) {
+            assertEquals("{\"f" + i + "\":" + i + "}", transformField(i));
+        }
+        for (int i = 0; i < 65; i++) {
+            assertEquals("{\"f" + i + "\":" + i + "}", transformField(i));
+        }
+    }
+
+    @Test
+    public void concurrentTransformsWithSameSyntax() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                String source = String.format("%02X%02X%02X", i % 128, 127 - i % 128, i);
+                results.add(executor.submit(() -> String.valueOf(service.transform(SYNTAX, source))));
+            }
+            for (int i = 0; i < 200; i++) {
+                assertEquals("{\"a\":" + i % 128 + ",\"b\":" + (127 - i % 128) + ",\"c\":" + i + "}",
+                        results.get(i).get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void invalidSyntaxIsRejected() {
+        assertThrows(TransformationException.class, () -> service.transform("unknown a;", "03FAFF"));
+        assertThrows(TransformationException.class, () -> service.transform(SYNTAX, "03FA"));
+    }
+}
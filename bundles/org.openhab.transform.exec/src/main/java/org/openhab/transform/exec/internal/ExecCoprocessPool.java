@@ -0,0 +1,231 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.transform.exec.internal;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.core.transform.TransformationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A pool of long-running processes of one command, that transform values sent to them line by line.
+ *
+ * Each request is written as a single line to the standard input of an idle process, and the next line on its
+ * standard output is the result. Lines that were written after the answer of the previous request are discarded.
+ * Processes are started when they are needed. A process that does not answer in time or that terminated is stopped,
+ * and killed if it does not stop, and replaced by a new one for the next request.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class ExecCoprocessPool {
+    private static final Duration STOP_TIMEOUT = Duration.ofSeconds(1);
+
+    private final Logger logger = LoggerFactory.getLogger(ExecCoprocessPool.class);
+
+    private final String[] command;
+    private final Duration timeout;
+    private final Semaphore permits;
+    private final BlockingQueue<Coprocess> idle;
+    // guarded by idle
+    private final List<Coprocess> started = new ArrayList<>();
+    private volatile boolean closed;
+
+    /**
+     * @param command the command and its arguments
+     * @param size maximum number of processes
+     * @param timeout maximum time to wait for a free process and for its answer
+     */
+    public ExecCoprocessPool(String[] command, int size, Duration timeout) {
+        this.command = command;
+        this.timeout = timeout;
+        this.permits = new Semaphore(size, true);
+        this.idle = new ArrayBlockingQueue<>(size);
+    }
+
+    /**
+     * Sends a value to one of the processes and waits for its answer.
+     *
+     * @param source the value, it must not contain line breaks
+     * @return the answer of the process
+     * @throws TransformationException if the process could not be started, failed or did not answer in time
+     */
+    public String transform(String source) throws TransformationException {
+        if (source.indexOf('\n') >= 0 || source.indexOf('\r') >= 0) {
+            throw new TransformationException("Values sent to a coprocess must not contain line breaks");
+        }
+        try {
+            if (!permits.tryAcquire(timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new TransformationException("No coprocess available for '" + String.join(" ", command) + "'");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TransformationException("Interrupted while waiting for a coprocess");
+        }
+        try {
+            Coprocess coprocess = idle.poll();
+            if (coprocess == null || !coprocess.isAlive()) {
+                if (coprocess != null) {
+                    coprocess.stop();
+                }
+                coprocess = start();
+            }
+            String result = coprocess.request(source);
+            if (coprocess.isAlive()) {
+                idle.offer(coprocess);
+            }
+            return result;
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * Stops all processes. Requests that are running are answered with an error.
+     */
+    public void close() {
+        closed = true;
+        synchronized (idle) {
+            started.forEach(Coprocess::stop);
+            started.clear();
+            idle.clear();
+        }
+    }
+
+    private Coprocess start() throws TransformationException {
+        synchronized (idle) {
+            if (closed) {
+                throw new TransformationException("Coprocess pool for '" + String.join(" ", command) + "' is closed");
+            }
+            try {
+                Coprocess coprocess = new Coprocess(new ProcessBuilder(command)
+                        .redirectError(ProcessBuilder.Redirect.DISCARD).start());
+                started.removeIf(c -> !c.isAlive());
+                started.add(coprocess);
+                logger.debug("Started coprocess '{}'", String.join(" ", command));
+                return coprocess;
+            } catch (IOException e) {
+                throw new TransformationException("Failed to start coprocess '" + String.join(" ", command) + "': "
+                        + e.getMessage(), e);
+            }
+        }
+    }
+
+    private class Coprocess {
+        private final Process process;
+        private final BufferedWriter writer;
+        // lines of the standard output, empty when the process terminated
+        private final BlockingQueue<Optional<String>> lines = new LinkedBlockingQueue<>();
+
+        Coprocess(Process process) {
+            this.process = process;
+            this.writer = new BufferedWriter(new OutputStreamWriter(process.getOutputStream(), StandardCharsets.UTF_8));
+            Thread reader = new Thread(this::read, "OH-transform-exec-coprocess-" + process.pid());
+            reader.setDaemon(true);
+            reader.start();
+        }
+
+        private void read() {
+            try (BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    lines.add(Optional.of(line));
+                }
+            } catch (IOException e) {
+                // the process was stopped
+            }
+            lines.add(Optional.empty());
+        }
+
+        String request(String source) throws TransformationException {
+            discardStaleLines();
+            try {
+                writer.write(source);
+                writer.newLine();
+                writer.flush();
+                Optional<String> result = lines.poll(timeout.toMillis(), TimeUnit.MILLISECONDS);
+                if (result == null) {
+                    stop();
+                    throw new TransformationException(
+                            "Coprocess '" + String.join(" ", command) + "' did not answer in time");
+                } else if (result.isEmpty()) {
+                    stop();
+                    throw new TransformationException("Coprocess '" + String.join(" ", command) + "' terminated");
+                }
+                return result.get();
+            } catch (IOException e) {
+                stop();
+                throw new TransformationException("Coprocess '" + String.join(" ", command) + "' failed: "
+                        + e.getMessage(), e);
+            } catch (InterruptedException e) {
+                stop();
+                Thread.currentThread().interrupt();
+                throw new TransformationException("Interrupted while waiting for coprocess");
+            }
+        }
+
+        /**
+         * Discards the lines that were not read as answer of an earlier request, e.g. because the process wrote more
+         * than one line for it, so that the next line is the answer of the next request.
+         */
+        private void discardStaleLines() throws TransformationException {
+            List<Optional<String>> stale = new ArrayList<>();
+            lines.drainTo(stale);
+            if (stale.isEmpty()) {
+                return;
+            }
+            logger.debug("Discarding {} unexpected lines of coprocess '{}'", stale.size(), String.join(" ", command));
+            if (stale.stream().anyMatch(Optional::isEmpty)) {
+                stop();
+                throw new TransformationException("Coprocess '" + String.join(" ", command) + "' terminated");
+            }
+        }
+
+        boolean isAlive() {
+            return process.isAlive();
+        }
+
+        void stop() {
+            if (process.isAlive()) {
+                logger.debug("Stopping coprocess '{}'", String.join(" ", command));
+            }
+            process.destroy();
+            try {
+                if (!process.waitFor(STOP_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+                    logger.debug("Coprocess '{}' did not stop, killing it", String.join(" ", command));
+                    process.destroyForcibly();
+                }
+            } catch (InterruptedException e) {
+                process.destroyForcibly();
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -13,6 +13,8 @@
 package org.openhab.transform.exec.internal;
 
 import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -22,6 +24,7 @@ import org.openhab.core.transform.TransformationException;
 import org.openhab.core.transform.TransformationService;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Reference;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -30,6 +33,9 @@ import org.slf4j.LoggerFactory;
  * The implementation of {@link TransformationService} which transforms the
  * input by command line.
  *
+ * Command lines starting with <code>coprocess:</code> are started once and kept running. The values are sent to
+ * their standard input line by line, see {@link ExecCoprocessPool}.
+ *
  * @author Pauli Anttila - Initial contribution
  * @author Jan N. Klug - added command whitelist service
  */
@@ -37,13 +43,27 @@ import org.slf4j.LoggerFactory;
 @Component(property = { "openhab.transform=EXEC" })
 public class ExecTransformationService implements TransformationService {
     private static final Pattern SPLIT_ON_SPACE = Pattern.compile("(['])((?:\\\\\\1|.)+?)\\1|([^\\s']+)");
+    private static final String COPROCESS_PREFIX = "coprocess:";
+    private static final int COPROCESS_POOL_SIZE = 2;
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
     private final Logger logger = LoggerFactory.getLogger(ExecTransformationService.class);
     private final ExecTransformationWhitelistWatchService execTransformationWhitelistWatchService;
+    private final Map<String, ExecCoprocessPool> coprocessPools = new ConcurrentHashMap<>();
+    private final Runnable whitelistChangeListener = this::closeCoprocessPoolsNotWhitelisted;
 
     @Activate
     public ExecTransformationService(
             @Reference ExecTransformationWhitelistWatchService execTransformationWhitelistWatchService) {
         this.execTransformationWhitelistWatchService = execTransformationWhitelistWatchService;
+        execTransformationWhitelistWatchService.addChangeListener(whitelistChangeListener);
+    }
+
+    @Deactivate
+    public void deactivate() {
+        execTransformationWhitelistWatchService.removeChangeListener(whitelistChangeListener);
+        coprocessPools.values().forEach(ExecCoprocessPool::close);
+        coprocessPools.clear();
     }
 
     /**
@@ -61,18 +81,46 @@ public class ExecTransformationService implements TransformationService {
 
         if (!execTransformationWhitelistWatchService.isWhitelisted(commandLine)) {
             logger.warn("Tried to execute '{}', but it is not contained in whitelist.", commandLine);
+            ExecCoprocessPool pool = coprocessPools.remove(commandLine);
+            if (pool != null) {
+                pool.close();
+            }
             return null;
         }
         logger.debug("about to transform '{}' by the commandline '{}'", source, commandLine);
 
         long startTime = System.currentTimeMillis();
 
-        String formattedCommandLine = String.format(commandLine, source);
-        String[] cmdLineParts = SPLIT_ON_SPACE.matcher(formattedCommandLine).results()
-                .map(mr -> mr.group(2) == null ? mr.group() : mr.group(2)).toArray(String[]::new);
-        String result = ExecUtil.executeCommandLineAndWaitResponse(Duration.ofSeconds(5), cmdLineParts);
+        String result;
+        if (commandLine.startsWith(COPROCESS_PREFIX)) {
+            ExecCoprocessPool pool = coprocessPools.computeIfAbsent(commandLine, c -> new ExecCoprocessPool(
+                    split(c.substring(COPROCESS_PREFIX.length())), COPROCESS_POOL_SIZE, TIMEOUT));
+            result = pool.transform(source);
+        } else {
+            String formattedCommandLine = String.format(commandLine, source);
+            result = ExecUtil.executeCommandLineAndWaitResponse(TIMEOUT, split(formattedCommandLine));
+        }
         logger.trace("command line execution elapsed {} ms", System.currentTimeMillis() - startTime);
 
         return result;
     }
+
+    /**
+     * Stops the coprocesses of command lines that were removed from the whitelist
+     */
+    private void closeCoprocessPoolsNotWhitelisted() {
+        coprocessPools.entrySet().removeIf(entry -> {
+            if (execTransformationWhitelistWatchService.isWhitelisted(entry.getKey())) {
+                return false;
+            }
+            logger.debug("Stopping coprocesses of '{}', it was removed from the whitelist", entry.getKey());
+            entry.getValue().close();
+            return true;
+        });
+    }
+
+    private static String[] split(String commandLine) {
+        return SPLIT_ON_SPACE.matcher(commandLine).results().map(mr -> mr.group(2) == null ? mr.group() : mr.group(2))
+                .toArray(String[]::new);
+    }
 }
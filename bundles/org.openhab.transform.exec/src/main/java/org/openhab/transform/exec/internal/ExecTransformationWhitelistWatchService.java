@@ -17,6 +17,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.stream.Stream;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -40,6 +41,7 @@ public class ExecTransformationWhitelistWatchService implements WatchService.Wat
 
     private final Logger logger = LoggerFactory.getLogger(ExecTransformationWhitelistWatchService.class);
     private final Set<String> commandWhitelist = new HashSet<>();
+    private final Set<Runnable> changeListeners = new CopyOnWriteArraySet<>();
     private final WatchService watchService;
     private final Path watchFile;
 
@@ -70,6 +72,25 @@ public class ExecTransformationWhitelistWatchService implements WatchService.Wat
                 logger.warn("Cannot read whitelist file, exec transformations won't be processed: {}", e.getMessage());
             }
         }
+        changeListeners.forEach(Runnable::run);
+    }
+
+    /**
+     * Add a listener that is called after the whitelist changed
+     *
+     * @param listener the listener
+     */
+    public void addChangeListener(Runnable listener) {
+        changeListeners.add(listener);
+    }
+
+    /**
+     * Remove a listener added by {@link #addChangeListener(Runnable)}
+     *
+     * @param listener the listener
+     */
+    public void removeChangeListener(Runnable listener) {
+        changeListeners.remove(listener);
     }
 
     /**
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.transform.exec.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+import org.openhab.core.transform.TransformationException;
+
+/**
+ * Tests for {@link ExecCoprocessPool}
+ *
+ * The coprocess answers every line with its process id and the line. It sleeps before answering "sleep", ignoring
+ * the request to stop, and answers "twice" with two lines.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+@DisabledOnOs(OS.WINDOWS)
+public class ExecCoprocessPoolTest {
+    private static final String SCRIPT = "trap '' TERM; while read l; do " //
+            + "if [ \"$l\" = sleep ]; then sleep 10; fi; " //
+            + "echo $$ $l; " //
+            + "if [ \"$l\" = twice ]; then echo $$ $l; fi; " //
+            + "done";
+
+    private @Nullable ExecCoprocessPool pool;
+
+    private ExecCoprocessPool createPool() {
+        ExecCoprocessPool pool = new ExecCoprocessPool(new String[] { "/bin/sh", "-c", SCRIPT }, 1,
+                Duration.ofMillis(500));
+        this.pool = pool;
+        return pool;
+    }
+
+    @AfterEach
+    public void tearDown() {
+        ExecCoprocessPool pool = this.pool;
+        if (pool != null) {
+            pool.close();
+        }
+    }
+
+    private static long pid(String answer) {
+        return Long.parseLong(answer.substring(0, answer.indexOf(' ')));
+    }
+
+    private static String value(String answer) {
+        return answer.substring(answer.indexOf(' ') + 1);
+    }
+
+    private static void assertTerminated(long pid) throws Exception {
+        ProcessHandle process = ProcessHandle.of(pid).orElse(null);
+        if (process != null) {
+            process.onExit().get(5, TimeUnit.SECONDS);
+            assertFalse(process.isAlive());
+        }
+    }
+
+    @Test
+    public void processIsReused() throws TransformationException {
+        ExecCoprocessPool pool = createPool();
+
+        String first = pool.transform("a");
+        String second = pool.transform("b");
+
+        assertEquals("a", value(first));
+        assertEquals("b", value(second));
+        assertEquals(pid(first), pid(second));
+    }
+
+    @Test
+    public void processIsKilledAfterTimeout() throws Exception {
+        ExecCoprocessPool pool = createPool();
+        String first = pool.transform("a");
+
+        assertThrows(TransformationException.class, () -> pool.transform("sleep"));
+        assertTerminated(pid(first));
+
+        String second = pool.transform("b");
+        assertEquals("b", value(second));
+        assertNotEquals(pid(first), pid(second));
+    }
+
+    @Test
+    public void staleLinesAreDiscarded() throws Exception {
+        ExecCoprocessPool pool = createPool();
+
+        assertEquals("twice", value(pool.transform("twice")));
+        // give the process time to write the second line
+        Thread.sleep(200);
+
+        String answer = pool.transform("a");
+        assertEquals("a", value(answer));
+        assertEquals("b", value(pool.transform("b")));
+        assertEquals(pid(answer), pid(pool.transform("c")));
+    }
+
+    @Test
+    public void closeStopsProcesses() throws Exception {
+        ExecCoprocessPool pool = createPool();
+        long pid = pid(pool.transform("a"));
+
+        pool.close();
+
+        assertTerminated(pid);
+        assertThrows(TransformationException.class, () -> pool.transform("b"));
+    }
+}
@@ -19,6 +19,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.function.Supplier;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -32,6 +33,7 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.hubspot.jinjava.Jinjava;
 import com.hubspot.jinjava.interpret.FatalTemplateErrorsException;
+import com.hubspot.jinjava.interpret.LazyExpression;
 
 /**
  * <p>
@@ -46,7 +48,10 @@ public class JinjaTransformationService implements TransformationService {
 
     private final Logger logger = LoggerFactory.getLogger(JinjaTransformationService.class);
 
-    private final Jinjava jinjava = new Jinjava();
+    private static final int MAX_CACHED_TEMPLATES = 256;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Jinjava jinjava = new TemplateCachingInterpreterFactory(MAX_CACHED_TEMPLATES).createJinjava();
 
     /**
      * Transforms the input <code>value</code> by Jinja template.
@@ -64,12 +69,25 @@ public class JinjaTransformationService implements TransformationService {
 
         bindings.put("value", value);
 
-        try {
-            JsonNode tree = new ObjectMapper().readTree(value);
-            bindings.put("value_json", toObject(tree));
-        } catch (IOException e) {
-            // ok, then value_json is null...
-        }
+        // the value is only parsed when the template uses value_json
+        bindings.put("value_json", LazyExpression.of(new Supplier<@Nullable Object>() {
+            private boolean parsed;
+            private @Nullable Object valueJson;
+
+            @Override
+            public @Nullable Object get() {
+                if (!parsed) {
+                    parsed = true;
+                    try {
+                        JsonNode tree = objectMapper.readTree(value);
+                        valueJson = toObject(tree);
+                    } catch (IOException e) {
+                        // ok, then value_json is null...
+                    }
+                }
+                return valueJson;
+            }
+        }, "value_json"));
 
         try {
             transformationResult = jinjava.render(template, bindings);
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.transform.jinja.internal;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+import com.hubspot.jinjava.Jinjava;
+import com.hubspot.jinjava.JinjavaConfig;
+import com.hubspot.jinjava.interpret.Context;
+import com.hubspot.jinjava.interpret.InterpreterFactory;
+import com.hubspot.jinjava.interpret.JinjavaInterpreter;
+import com.hubspot.jinjava.tree.Node;
+
+/**
+ * Creates Jinjava interpreters that keep the parsed trees of templates in a least recently used cache, so that a
+ * template is only parsed once instead of on every transformation.
+ *
+ * Templates that could not be parsed without errors are not cached, so their errors are reported on every render.
+ *
+ * This class is also compiled into the MQTT Home Assistant binding for its value templates.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+public class TemplateCachingInterpreterFactory implements InterpreterFactory {
+    private final int maxTemplates;
+
+    // guarded by itself
+    private final Map<String, Node> templates = new LinkedHashMap<>(16, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.@Nullable Entry<String, Node> eldest) {
+            return size() > maxTemplates;
+        }
+    };
+
+    /**
+     * @param maxTemplates maximum number of cached templates
+     */
+    public TemplateCachingInterpreterFactory(int maxTemplates) {
+        this.maxTemplates = maxTemplates;
+    }
+
+    /**
+     * Creates a Jinjava instance using this factory.
+     */
+    public Jinjava createJinjava() {
+        return new Jinjava(JinjavaConfig.newBuilder().withInterpreterFactory(this).build());
+    }
+
+    @Override
+    public JinjavaInterpreter newInstance(JinjavaInterpreter orig) {
+        return new TemplateCachingInterpreter(orig);
+    }
+
+    @Override
+    public JinjavaInterpreter newInstance(Jinjava application, Context context, JinjavaConfig renderConfig) {
+        return new TemplateCachingInterpreter(application, context, renderConfig);
+    }
+
+    private class TemplateCachingInterpreter extends JinjavaInterpreter {
+        TemplateCachingInterpreter(JinjavaInterpreter orig) {
+            super(orig);
+        }
+
+        TemplateCachingInterpreter(Jinjava application, Context context, JinjavaConfig renderConfig) {
+            super(application, context, renderConfig);
+        }
+
+        @Override
+        public Node parse(@Nullable String template) {
+            if (template == null) {
+                return super.parse(template);
+            }
+            synchronized (templates) {
+                Node root = templates.get(template);
+                if (root != null) {
+                    return root;
+                }
+            }
+            int errors = getErrorsCopy().size();
+            Node root = super.parse(template);
+            if (getErrorsCopy().size() == errors) {
+                synchronized (templates) {
+                    templates.put(template, root);
+                }
+            }
+            return root;
+        }
+    }
+}
@@ -75,6 +75,30 @@ public class JinjaTransformationServiceTest {
                 () -> processor.transform("Hello {{{ value_json.string }}!", "{\"string\": \"world\"}"));
     }
 
+    @Test
+    public void testTemplateIsReused() throws TransformationException {
+        String template = "{% if value_json.state == 'on' %}ON{% else %}OFF{% endif %}";
+
+        assertEquals("ON", processor.transform(template, "{\"state\": \"on\"}"));
+        assertEquals("OFF", processor.transform(template, "{\"state\": \"off\"}"));
+    }
+
+    @Test
+    public void testValueJsonIsParsedOnlyWhenUsed() throws TransformationException {
+        assertEquals("Hello {world!", processor.transform("Hello {{ value }}!", "{world"));
+        assertEquals("TEXT", processor.transform("{% if value_json %}JSON{% else %}TEXT{% endif %}", "{world"));
+        assertEquals("world world", processor.transform("{{ value_json.string }} {{ value_json['string'] }}",
+                "{\"string\": \"world\"}"));
+    }
+
+    @Test
+    public void testTemplateErrorIsRepeated() {
+        assertThrows(TransformationException.class,
+                () -> processor.transform("Hello {{{ value_json.string }}!", "{\"string\": \"world\"}"));
+        assertThrows(TransformationException.class,
+                () -> processor.transform("Hello {{{ value_json.string }}!", "{\"string\": \"world\"}"));
+    }
+
     @Test
     public void testMissingVariableError() throws TransformationException {
         assertEquals("Hello !", processor.transform("Hello {{ missing }}!", "{\"string\": \"world\"}"));
@@ -12,7 +12,10 @@
  */
 package org.openhab.transform.jsonpath.internal;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -24,6 +27,7 @@ import org.osgi.service.component.annotations.Component;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.jayway.jsonpath.DocumentContext;
 import com.jayway.jsonpath.InvalidJsonException;
 import com.jayway.jsonpath.InvalidPathException;
 import com.jayway.jsonpath.JsonPath;
@@ -32,6 +36,9 @@ import com.jayway.jsonpath.PathNotFoundException;
 /**
  * The implementation of a {@link TransformationService} which transforms the input by JSonPath Expressions.
  *
+ * Often several channels extract values from the same document, so parsed documents are kept for a short time and
+ * reused for further expressions on an equal source. Compiled expressions are cached as well.
+ *
  * @author Gaël L'hopital - Initial contribution
  * @author Sebastian Janzen - Initial contribution
  */
@@ -39,8 +46,27 @@ import com.jayway.jsonpath.PathNotFoundException;
 @Component(property = { "openhab.transform=JSONPATH" })
 public class JSonPathTransformationService implements TransformationService {
 
+    private static final int MAX_CACHED_PATHS = 256;
+    private static final int MAX_CACHED_DOCUMENTS = 8;
+    private static final long DOCUMENT_CACHE_NANOS = 2_000_000_000L;
+
     private final Logger logger = LoggerFactory.getLogger(JSonPathTransformationService.class);
 
+    private final Map<String, JsonPath> paths = new ConcurrentHashMap<>();
+
+    // parsed documents by source, guarded by itself
+    private final Map<String, ParsedDocument> documents = new LinkedHashMap<>(16, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.@Nullable Entry<String, ParsedDocument> eldest) {
+            return size() > MAX_CACHED_DOCUMENTS;
+        }
+    };
+
+    private record ParsedDocument(DocumentContext context, long parsedAt) {
+    }
+
     /**
      * Transforms the input <code>source</code> by JSonPath expression.
      *
@@ -62,7 +88,7 @@ public class JSonPathTransformationService implements TransformationService {
             return null;
         }
         try {
-            Object transformationResult = JsonPath.read(source, jsonPathExpression);
+            Object transformationResult = parse(source).read(compile(jsonPathExpression));
             logger.debug("transformation resulted in '{}'", transformationResult);
             if (transformationResult == null) {
                 return null;
@@ -78,6 +104,33 @@ public class JSonPathTransformationService implements TransformationService {
         }
     }
 
+    private JsonPath compile(String jsonPathExpression) {
+        JsonPath path = paths.get(jsonPathExpression);
+        if (path == null) {
+            path = JsonPath.compile(jsonPathExpression);
+            if (paths.size() >= MAX_CACHED_PATHS) {
+                paths.clear();
+            }
+            paths.put(jsonPathExpression, path);
+        }
+        return path;
+    }
+
+    private DocumentContext parse(String source) {
+        long now = System.nanoTime();
+        synchronized (documents) {
+            ParsedDocument document = documents.get(source);
+            if (document != null && now - document.parsedAt() < DOCUMENT_CACHE_NANOS) {
+                return document.context();
+            }
+        }
+        DocumentContext context = JsonPath.parse(source);
+        synchronized (documents) {
+            documents.put(source, new ParsedDocument(context, now));
+        }
+        return context;
+    }
+
     private String flattenList(List<?> list) {
         if (list.size() == 1) {
             return list.get(0).toString();
@@ -59,6 +59,20 @@ public class JSonPathTransformationServiceTest {
         assertEquals("2", transformedResponse);
     }
 
+    @Test
+    public void testSeveralPathsOnSameSource() throws TransformationException {
+        String source = new String(JSON_ARRAY);
+        assertEquals("bob", processor.transform("$[0].name", JSON_ARRAY));
+        assertEquals("alice", processor.transform("$[1].name", source));
+        assertEquals("2", processor.transform("$[1].id", source));
+    }
+
+    @Test
+    public void testChangedSourceIsParsedAgain() throws TransformationException {
+        assertEquals("bob", processor.transform("$[0].name", JSON_ARRAY));
+        assertEquals("carol", processor.transform("$[0].name", JSON_ARRAY.replace("bob", "carol")));
+    }
+
     @Test
     public void testInvalidPathThrowsException() {
         assertThrows(TransformationException.class, () -> processor.transform("$$", JSON_ARRAY));
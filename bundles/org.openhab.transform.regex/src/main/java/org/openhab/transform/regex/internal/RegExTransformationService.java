@@ -12,6 +12,8 @@
  */
 package org.openhab.transform.regex.internal;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -30,6 +32,10 @@ import org.slf4j.LoggerFactory;
  * <p>
  * <b>Note:</b> the given Regular Expression must contain exactly one group!
  *
+ * <p>
+ * Compiled expressions are kept in a least recently used cache, as the same expressions are applied to every update
+ * of a channel.
+ *
  * @author Thomas.Eichstaedt-Engelen - Initial contribution
  */
 @NonNullByDefault
@@ -40,6 +46,26 @@ public class RegExTransformationService implements TransformationService {
 
     private static final Pattern SUBSTR_PATTERN = Pattern.compile("^s/(.*?[^\\\\])/(.*?[^\\\\])/(.*)$");
 
+    private static final int MAX_CACHED_EXPRESSIONS = 128;
+
+    /**
+     * A compiled expression, either a substitution or a pattern the whole source has to match.
+     */
+    private record CompiledExpression(Pattern pattern, @Nullable String substitution, boolean global) {
+    }
+
+    // guarded by itself
+    private final Map<String, CompiledExpression> expressions = new LinkedHashMap<>(16, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.@Nullable Entry<String, CompiledExpression> eldest) {
+            return size() > MAX_CACHED_EXPRESSIONS;
+        }
+    };
+    private long hitCount;
+    private long missCount;
+
     @Override
     public @Nullable String transform(String regExpression, String source) throws TransformationException {
         if (regExpression == null || source == null) {
@@ -50,23 +76,19 @@ public class RegExTransformationService implements TransformationService {
 
         String result = "";
 
-        Matcher substMatcher = SUBSTR_PATTERN.matcher(regExpression);
-        if (substMatcher.matches()) {
+        CompiledExpression expression = compile(regExpression);
+        String substitution = expression.substitution();
+        if (substitution != null) {
             logger.debug("Using substitution form of regex transformation");
-            String regex = substMatcher.group(1);
-            String substitution = substMatcher.group(2);
-            String options = substMatcher.group(3);
-            if ("g".equals(options)) {
-                result = source.trim().replaceAll(regex, substitution);
+            Matcher substMatcher = expression.pattern().matcher(source.trim());
+            if (expression.global()) {
+                return substMatcher.replaceAll(substitution);
             } else {
-                result = source.trim().replaceFirst(regex, substitution);
-            }
-            if (result != null) {
-                return result;
+                return substMatcher.replaceFirst(substitution);
             }
         }
 
-        Matcher matcher = Pattern.compile("^" + regExpression + "$", Pattern.DOTALL).matcher(source.trim());
+        Matcher matcher = expression.pattern().matcher(source.trim());
         if (!matcher.matches()) {
             logger.debug(
                     "the given regex '^{}$' doesn't match the given content '{}' -> couldn't compute transformation",
@@ -94,4 +116,46 @@ public class RegExTransformationService implements TransformationService {
 
         return result;
     }
+
+    private CompiledExpression compile(String regExpression) {
+        synchronized (expressions) {
+            CompiledExpression expression = expressions.get(regExpression);
+            if (expression != null) {
+                hitCount++;
+                return expression;
+            }
+            missCount++;
+        }
+        CompiledExpression expression;
+        Matcher substMatcher = SUBSTR_PATTERN.matcher(regExpression);
+        if (substMatcher.matches()) {
+            expression = new CompiledExpression(Pattern.compile(substMatcher.group(1)), substMatcher.group(2),
+                    "g".equals(substMatcher.group(3)));
+        } else {
+            expression = new CompiledExpression(Pattern.compile("^" + regExpression + "$", Pattern.DOTALL), null,
+                    false);
+        }
+        synchronized (expressions) {
+            expressions.put(regExpression, expression);
+        }
+        return expression;
+    }
+
+    /**
+     * @return number of transformations that used an already compiled expression
+     */
+    long getCacheHitCount() {
+        synchronized (expressions) {
+            return hitCount;
+        }
+    }
+
+    /**
+     * @return number of transformations that had to compile their expression
+     */
+    long getCacheMissCount() {
+        synchronized (expressions) {
+            return missCount;
+        }
+    }
 }
@@ -75,4 +75,15 @@ public class RegExTransformationServiceTest extends AbstractTransformationServic
         // Asserts
         assertEquals("varX=12 varY=54 ", transformedResponse);
     }
+
+    @Test
+    public void testTransformByRegex_compiledExpressionIsReused() throws TransformationException {
+        assertEquals("SetMode(42)", processor.transform("s/^OP:(.*?),ARG:(.*)$/$1($2)/", "OP:SetMode,ARG:42"));
+        assertEquals("Reset(0)", processor.transform("s/^OP:(.*?),ARG:(.*)$/$1($2)/", "OP:Reset,ARG:0"));
+        assertEquals("21.5", processor.transform("TEMP=(.*)C", "TEMP=21.5C"));
+        assertNull(processor.transform("TEMP=(.*)C", "HUM=40%"));
+
+        assertEquals(2, processor.getCacheHitCount());
+        assertEquals(2, processor.getCacheMissCount());
+    }
 }
@@ -110,4 +110,16 @@ public class Range {
 
         return true;
     }
+
+    /**
+     * Checks whether all values strictly between the given bounds are contained in this range.
+     *
+     * @param lower the lower bound or null if unbounded
+     * @param upper the upper bound or null if unbounded
+     */
+    public boolean containsBetween(final BigDecimal lower, final BigDecimal upper) {
+        final boolean minMatch = min == null || (lower != null && min.compareTo(lower) <= 0);
+        final boolean maxMatch = max == null || (upper != null && max.compareTo(upper) >= 0);
+        return minMatch && maxMatch;
+    }
 }
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.transform.scale.internal;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeSet;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * A parsed scale definition, indexed for lookups by binary search.
+ *
+ * The limits of all ranges split the number line into segments: the limits themselves and the open intervals between
+ * them. Each range either contains a segment completely or not at all, so the label of the first range containing a
+ * segment can be determined when the scale is loaded. Overlapping ranges therefore keep the order of the scale file.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+final class Scale {
+    private final String format;
+    private final @Nullable String nonNumeric;
+
+    // sorted distinct limits of all ranges
+    private final BigDecimal[] limits;
+    // label of each segment, even indices are the open intervals, odd indices the limits
+    private final @Nullable String[] labels;
+
+    /**
+     * @param ranges the ranges and their labels in the order of the scale file
+     * @param format the presentation format
+     * @param nonNumeric the label for non numeric values, or null if there is none
+     */
+    Scale(Map<Range, String> ranges, String format, @Nullable String nonNumeric) {
+        this.format = format;
+        this.nonNumeric = nonNumeric;
+
+        TreeSet<BigDecimal> limitSet = new TreeSet<>();
+        for (Range range : ranges.keySet()) {
+            if (range.min != null) {
+                limitSet.add(range.min);
+            }
+            if (range.max != null) {
+                limitSet.add(range.max);
+            }
+        }
+        limits = limitSet.toArray(BigDecimal[]::new);
+        labels = new String[2 * limits.length + 1];
+        for (int i = 0; i < labels.length; i++) {
+            for (Map.Entry<Range, String> entry : ranges.entrySet()) {
+                if (contains(entry.getKey(), i)) {
+                    labels[i] = entry.getValue();
+                    break;
+                }
+            }
+        }
+    }
+
+    private boolean contains(Range range, int segment) {
+        if (segment % 2 == 1) {
+            return range.contains(limits[segment / 2]);
+        }
+        BigDecimal lower = segment == 0 ? null : limits[segment / 2 - 1];
+        BigDecimal upper = segment == labels.length - 1 ? null : limits[segment / 2];
+        return range.containsBetween(lower, upper);
+    }
+
+    String getFormat() {
+        return format;
+    }
+
+    @Nullable
+    String getNonNumeric() {
+        return nonNumeric;
+    }
+
+    /**
+     * @return the label of the first range containing the value, or null if there is none
+     */
+    @Nullable
+    String getLabel(BigDecimal value) {
+        int index = Arrays.binarySearch(limits, value);
+        return labels[index >= 0 ? 2 * index + 1 : -2 * (index + 1)];
+    }
+}
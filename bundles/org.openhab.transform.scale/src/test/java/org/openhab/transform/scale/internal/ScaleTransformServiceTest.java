@@ -154,6 +154,17 @@ public class ScaleTransformServiceTest {
         assertEquals("first", transformedResponse);
     }
 
+    @Test
+    public void testEvaluationOrderAtLimits() throws TransformationException {
+        String evaluationOrder = "scale" + File.separator + "evaluationorder.scale";
+
+        assertEquals("first", processor.transform(evaluationOrder, "10"));
+        assertEquals("second", processor.transform(evaluationOrder, "15"));
+        assertEquals("second", processor.transform(evaluationOrder, "16.99"));
+        assertEquals("last", processor.transform(evaluationOrder, "17"));
+        assertEquals("first", processor.transform(evaluationOrder, "-1E9"));
+    }
+
     @Test
     public void testTransformQuantityType() throws TransformationException {
         QuantityType<Dimensionless> airQuality = new QuantityType<>("992 ppm");
@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2010-2025 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.transform.xpath.internal;
+
+import java.io.StringReader;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * An absolute location path consisting of child steps with plain names only, optionally followed by an attribute or
+ * a <code>text()</code> step, like <code>/PTZStatus/AbsoluteHigh/azimuth/text()</code>.
+ *
+ * Such paths are evaluated on a stream of parser events, without building a DOM. The result is the same as the
+ * string value of the XPath expression: the value of the first selected node in document order, or an empty string
+ * if no node is selected. Evaluation stops as soon as the value is known, so errors in the remaining document are not
+ * detected.
+ *
+ * @author openHAB Contributors - Initial contribution
+ */
+@NonNullByDefault
+final class SimpleLocationPath {
+    private static final String NAME = "[A-Za-z_][A-Za-z0-9_.\\-]*";
+    private static final Pattern PATTERN = Pattern.compile("(/" + NAME + ")+(/@" + NAME + "|/text\\(\\))?");
+
+    private enum Target {
+        ELEMENT,
+        ATTRIBUTE,
+        TEXT
+    }
+
+    private final List<String> steps;
+    private final Target target;
+    private final @Nullable String attribute;
+
+    private SimpleLocationPath(List<String> steps, Target target, @Nullable String attribute) {
+        this.steps = steps;
+        this.target = target;
+        this.attribute = attribute;
+    }
+
+    /**
+     * @param expression an XPath expression
+     * @return the location path or null if the expression is not a simple location path
+     */
+    static @Nullable SimpleLocationPath parse(String expression) {
+        String trimmed = expression.trim();
+        if (!PATTERN.matcher(trimmed).matches()) {
+            return null;
+        }
+        List<String> steps = List.of(trimmed.substring(1).split("/"));
+        String last = steps.get(steps.size() - 1);
+        if (last.startsWith("@")) {
+            return new SimpleLocationPath(steps.subList(0, steps.size() - 1), Target.ATTRIBUTE, last.substring(1));
+        } else if ("text()".equals(last)) {
+            return new SimpleLocationPath(steps.subList(0, steps.size() - 1), Target.TEXT, null);
+        }
+        return new SimpleLocationPath(steps, Target.ELEMENT, null);
+    }
+
+    /**
+     * Evaluates the location path.
+     *
+     * @param inputFactory factory to create the stream reader, must be coalescing
+     * @param source the XML document
+     * @return the string value of the selected nodes
+     * @throws XMLStreamException if the document could not be parsed
+     */
+    String evaluate(XMLInputFactory inputFactory, String source) throws XMLStreamException {
+        XMLStreamReader reader = inputFactory.createXMLStreamReader(new StringReader(source));
+        try {
+            return evaluate(reader);
+        } finally {
+            reader.close();
+        }
+    }
+
+    private String evaluate(XMLStreamReader reader) throws XMLStreamException {
+        int depth = 0;
+        // number of steps matched by the current element and its ancestors
+        int matched = 0;
+        StringBuilder elementText = null;
+        while (reader.hasNext()) {
+            switch (reader.next()) {
+                case XMLStreamConstants.START_ELEMENT:
+                    depth++;
+                    if (elementText == null && matched == depth - 1 && depth <= steps.size()
+                            && steps.get(depth - 1).equals(reader.getLocalName())
+                            && isEmpty(reader.getNamespaceURI())) {
+                        matched = depth;
+                        if (matched == steps.size()) {
+                            if (target == Target.ATTRIBUTE) {
+                                String value = getAttribute(reader);
+                                if (value != null) {
+                                    return value;
+                                }
+                            } else if (target == Target.ELEMENT) {
+                                elementText = new StringBuilder();
+                            }
+                        }
+                    }
+                    break;
+                case XMLStreamConstants.END_ELEMENT:
+                    if (matched == depth) {
+                        if (elementText != null) {
+                            return elementText.toString();
+                        }
+                        matched--;
+                    }
+                    depth--;
+                    break;
+                case XMLStreamConstants.CHARACTERS:
+                case XMLStreamConstants.CDATA:
+                case XMLStreamConstants.SPACE:
+                    if (elementText != null) {
+                        elementText.append(reader.getText());
+                    } else if (target == Target.TEXT && matched == steps.size() && depth == matched) {
+                        return reader.getText();
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+        return "";
+    }
+
+    private @Nullable String getAttribute(XMLStreamReader reader) {
+        for (int i = 0; i < reader.getAttributeCount(); i++) {
+            if (reader.getAttributeLocalName(i).equals(attribute) && isEmpty(reader.getAttributeNamespace(i))) {
+                return reader.getAttributeValue(i);
+            }
+        }
+        return null;
+    }
+
+    private static boolean isEmpty(@Nullable String namespaceUri) {
+        return namespaceUri == null || namespaceUri.isEmpty();
+    }
+}
@@ -13,12 +13,20 @@
 package org.openhab.transform.xpath.internal;
 
 import java.io.StringReader;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
 import javax.xml.xpath.XPath;
 import javax.xml.xpath.XPathConstants;
 import javax.xml.xpath.XPathExpression;
+import javax.xml.xpath.XPathExpressionException;
 import javax.xml.xpath.XPathFactory;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -26,6 +34,7 @@ import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.transform.TransformationException;
 import org.openhab.core.transform.TransformationService;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.w3c.dom.Document;
@@ -35,14 +44,83 @@ import org.xml.sax.InputSource;
  * <p>
  * The implementation of {@link TransformationService} which transforms the input by XPath Expressions.
  *
+ * Parsers and compiled expressions are not thread safe, so they are kept in a small pool of contexts, each used by
+ * one transformation at a time. Simple absolute location paths
+ * are evaluated without building a DOM, see {@link SimpleLocationPath}.
+ *
  * @author Thomas.Eichstaedt-Engelen - Initial contribution
  */
 @NonNullByDefault
 @Component(property = { "openhab.transform=XPATH" })
 public class XPathTransformationService implements TransformationService {
 
+    // number of compiled expressions kept per context
+    private static final int MAX_CACHED_EXPRESSIONS = 64;
+    // number of idle contexts kept, further contexts needed by concurrent transformations are dropped afterwards
+    private static final int MAX_POOLED_CONTEXTS = 8;
+
     private final Logger logger = LoggerFactory.getLogger(XPathTransformationService.class);
 
+    private final BlockingQueue<Context> contexts = new ArrayBlockingQueue<>(MAX_POOLED_CONTEXTS);
+
+    private record CompiledExpression(XPathExpression expression, @Nullable SimpleLocationPath simplePath) {
+    }
+
+    /**
+     * Parsers and compiled expressions used by one transformation at a time.
+     */
+    private static class Context {
+        private final DocumentBuilder builder;
+        private final XPath xpath = XPathFactory.newInstance().newXPath();
+        private final XMLInputFactory inputFactory = XMLInputFactory.newFactory();
+        private final Map<String, CompiledExpression> expressions = new LinkedHashMap<>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.@Nullable Entry<String, CompiledExpression> eldest) {
+                return size() > MAX_CACHED_EXPRESSIONS;
+            }
+        };
+
+        Context() {
+            try {
+                DocumentBuilderFactory domFactory = DocumentBuilderFactory.newInstance();
+                // see https://cheatsheetseries.owasp.org/cheatsheets/XML_External_Entity_Prevention_Cheat_Sheet.html
+                domFactory.setFeature("http://xml.org/sax/features/external-general-entities", false);
+                domFactory.setFeature("http://xml.org/sax/features/external-parameter-entities", false);
+                domFactory.setFeature("http://apache.org/xml/features/nonvalidating/load-external-dtd", false);
+                domFactory.setXIncludeAware(false);
+                domFactory.setExpandEntityReferences(false);
+                domFactory.setNamespaceAware(true);
+                domFactory.setValidating(false);
+                builder = domFactory.newDocumentBuilder();
+            } catch (ParserConfigurationException e) {
+                throw new IllegalStateException("unable to create a document builder", e);
+            }
+
+            // documents with a DTD are always parsed into a DOM
+            inputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+            inputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+            inputFactory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, true);
+            inputFactory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        }
+
+        CompiledExpression compile(String xpathExpression) throws XPathExpressionException {
+            CompiledExpression compiled = expressions.get(xpathExpression);
+            if (compiled == null) {
+                compiled = new CompiledExpression(xpath.compile(xpathExpression),
+                        SimpleLocationPath.parse(xpathExpression));
+                expressions.put(xpathExpression, compiled);
+            }
+            return compiled;
+        }
+    }
+
+    @Deactivate
+    public void deactivate() {
+        contexts.clear();
+    }
+
     @Override
     public @Nullable String transform(String xpathExpression, String source) throws TransformationException {
         if (xpathExpression == null || source == null) {
@@ -51,30 +129,36 @@ public class XPathTransformationService implements TransformationService {
 
         logger.debug("about to transform '{}' by the function '{}'", source, xpathExpression);
 
-        StringReader stringReader = null;
-
+        Context context = contexts.poll();
+        if (context == null) {
+            context = new Context();
+        }
         try {
-            DocumentBuilderFactory domFactory = DocumentBuilderFactory.newInstance();
-            // see https://cheatsheetseries.owasp.org/cheatsheets/XML_External_Entity_Prevention_Cheat_Sheet.html
-            domFactory.setFeature("http://xml.org/sax/features/external-general-entities", false);
-            domFactory.setFeature("http://xml.org/sax/features/external-parameter-entities", false);
-            domFactory.setFeature("http://apache.org/xml/features/nonvalidating/load-external-dtd", false);
-            domFactory.setXIncludeAware(false);
-            domFactory.setExpandEntityReferences(false);
-            domFactory.setNamespaceAware(true);
-            domFactory.setValidating(false);
-            DocumentBuilder builder = domFactory.newDocumentBuilder();
-
-            stringReader = new StringReader(source);
-            InputSource inputSource = new InputSource(stringReader);
-            inputSource.setEncoding("UTF-8");
+            CompiledExpression compiled = context.compile(xpathExpression);
 
-            Document doc = builder.parse(inputSource);
+            SimpleLocationPath simplePath = compiled.simplePath();
+            if (simplePath != null && !source.contains("<!DOCTYPE")) {
+                try {
+                    String transformationResult = simplePath.evaluate(context.inputFactory, source);
+                    logger.debug("transformation resulted in '{}'", transformationResult);
+                    return transformationResult;
+                } catch (XMLStreamException e) {
+                    logger.trace("streaming evaluation of '{}' failed, parsing document: {}", xpathExpression,
+                            e.getMessage());
+                }
+            }
 
-            XPath xpath = XPathFactory.newInstance().newXPath();
-            XPathExpression expr = xpath.compile(xpathExpression);
+            DocumentBuilder builder = context.builder;
+            Document doc;
+            try (StringReader stringReader = new StringReader(source)) {
+                InputSource inputSource = new InputSource(stringReader);
+                inputSource.setEncoding("UTF-8");
+                doc = builder.parse(inputSource);
+            } finally {
+                builder.reset();
+            }
 
-            String transformationResult = (String) expr.evaluate(doc, XPathConstants.STRING);
+            String transformationResult = (String) compiled.expression().evaluate(doc, XPathConstants.STRING);
 
             logger.debug("transformation resulted in '{}'", transformationResult);
 
@@ -82,9 +166,8 @@ public class XPathTransformationService implements TransformationService {
         } catch (Exception e) {
             throw new TransformationException("transformation throws exceptions", e);
         } finally {
-            if (stringReader != null) {
-                stringReader.close();
-            }
+            // dropped if enough contexts are pooled already
+            contexts.offer(context);
         }
     }
 }
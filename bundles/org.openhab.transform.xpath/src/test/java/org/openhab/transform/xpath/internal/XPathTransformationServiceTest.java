@@ -38,4 +38,42 @@ public class XPathTransformationServiceTest extends AbstractTransformationServic
         // Asserts
         assertEquals("8", transformedResponse);
     }
+
+    @Test
+    public void testTransformBySimpleLocationPath() throws TransformationException {
+        assertEquals("8", processor.transform("/xml_api_reply/weather/current_conditions/temp_c/@data", source));
+        assertEquals("-1", processor.transform("/xml_api_reply/weather/forecast_conditions/low/@data", source));
+        assertEquals("", processor.transform("/xml_api_reply/weather/missing/@data", source));
+    }
+
+    @Test
+    public void testSimpleLocationPathMatchesXPathSemantics() throws TransformationException {
+        String xml = """
+                <?xml version="1.0" encoding="UTF-8"?>
+                <PTZStatus version="2.0">
+                    <AbsoluteHigh>
+                        <elevation>0</elevation>
+                        <azimuth>450</azimuth>
+                        <azimuth>90</azimuth>
+                    </AbsoluteHigh>
+                    <Note>a<b>b</b><![CDATA[&c]]></Note>
+                </PTZStatus>
+                """;
+        assertEquals("450", processor.transform("/PTZStatus/AbsoluteHigh/azimuth/text()", xml));
+        assertEquals("2.0", processor.transform("/PTZStatus/@version", xml));
+        assertEquals("ab&c", processor.transform("/PTZStatus/Note", xml));
+        assertEquals("a", processor.transform("/PTZStatus/Note/text()", xml));
+    }
+
+    @Test
+    public void testSimpleLocationPathDoesNotMatchNamespacedElements() throws TransformationException {
+        String xml = """
+                <?xml version="1.0" encoding="UTF-8"?>
+                <PTZStatus xmlns="http://www.hikvision.com/ver20/XMLSchema">
+                    <azimuth>450</azimuth>
+                </PTZStatus>
+                """;
+        assertEquals("", processor.transform("/PTZStatus/azimuth/text()", xml));
+        assertEquals("450", processor.transform("/*[local-name()='PTZStatus']/*[local-name()='azimuth']/text()", xml));
+    }
 }
@@ -13,11 +13,20 @@
 package org.openhab.transform.xslt.internal;
 
 import java.io.File;
+import java.io.IOException;
 import java.io.StringReader;
 import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
-import javax.xml.transform.Source;
+import javax.xml.transform.Templates;
 import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerConfigurationException;
+import javax.xml.transform.TransformerException;
 import javax.xml.transform.TransformerFactory;
 import javax.xml.transform.stream.StreamResult;
 import javax.xml.transform.stream.StreamSource;
@@ -28,6 +37,7 @@ import org.openhab.core.OpenHAB;
 import org.openhab.core.transform.TransformationException;
 import org.openhab.core.transform.TransformationService;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -43,6 +53,39 @@ public class XsltTransformationService implements TransformationService {
 
     private final Logger logger = LoggerFactory.getLogger(XsltTransformationService.class);
 
+    // compiled stylesheets by file name
+    private final Map<String, CompiledStylesheet> stylesheets = new ConcurrentHashMap<>();
+
+    /**
+     * A compiled stylesheet together with the state of the file it was compiled from. {@link Templates} are thread
+     * safe, the transformers created from them are not, so a cheap new transformer is created for every
+     * transformation.
+     */
+    private static class CompiledStylesheet {
+        private final Templates templates;
+        private final long lastModified;
+        private final long size;
+
+        CompiledStylesheet(Templates templates, BasicFileAttributes attributes) {
+            this.templates = templates;
+            this.lastModified = attributes.lastModifiedTime().toMillis();
+            this.size = attributes.size();
+        }
+
+        boolean isCurrent(BasicFileAttributes attributes) {
+            return lastModified == attributes.lastModifiedTime().toMillis() && size == attributes.size();
+        }
+
+        Transformer newTransformer() throws TransformerConfigurationException {
+            return templates.newTransformer();
+        }
+    }
+
+    @Deactivate
+    public void deactivate() {
+        stylesheets.clear();
+    }
+
     /**
      * Transforms the input <code>source</code> by XSLT.
      *
@@ -50,6 +93,8 @@ public class XsltTransformationService implements TransformationService {
      * is stored under the 'configurations/transform' folder. To organize the
      * various transformations one should use subfolders.
      *
+     * The compiled stylesheet is cached until the file is modified.
+     *
      * @param filename the name of the file which contains the XSLT transformation rule.
      *            The name may contain subfoldernames as well
      * @param source the input to transform
@@ -60,30 +105,17 @@ public class XsltTransformationService implements TransformationService {
             throw new TransformationException("the given parameters 'filename' and 'source' must not be null");
         }
 
-        Source xsl = null;
+        CompiledStylesheet stylesheet = getStylesheet(filename);
 
-        try {
-            String path = OpenHAB.getConfigFolder() + File.separator + TransformationService.TRANSFORM_FOLDER_NAME
-                    + File.separator + filename;
-            xsl = new StreamSource(new File(path));
-        } catch (Exception e) {
-            String message = "opening file '" + filename + "' throws exception";
-
-            logger.error("{}", message, e);
-            throw new TransformationException(message, e);
-        }
-
-        logger.debug("about to transform '{}' by the function '{}'", source, xsl);
+        logger.debug("about to transform '{}' by the function '{}'", source, filename);
 
         StringReader xml = new StringReader(source);
         StringWriter out = new StringWriter();
 
-        Transformer transformer;
-
         try {
-            transformer = TransformerFactory.newInstance().newTransformer(xsl);
+            Transformer transformer = stylesheet.newTransformer();
             transformer.transform(new StreamSource(xml), new StreamResult(out));
-        } catch (Exception e) {
+        } catch (TransformerException | RuntimeException e) {
             logger.error("transformation throws exception", e);
             throw new TransformationException("transformation throws exception", e);
         }
@@ -92,4 +124,36 @@ public class XsltTransformationService implements TransformationService {
 
         return out.toString();
     }
+
+    private CompiledStylesheet getStylesheet(String filename) throws TransformationException {
+        Path path = Paths.get(OpenHAB.getConfigFolder() + File.separator + TransformationService.TRANSFORM_FOLDER_NAME
+                + File.separator + filename);
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        } catch (IOException e) {
+            stylesheets.remove(filename);
+            String message = "opening file '" + filename + "' throws exception";
+
+            logger.error("{}", message, e);
+            throw new TransformationException(message, e);
+        }
+
+        CompiledStylesheet stylesheet = stylesheets.get(filename);
+        if (stylesheet != null && stylesheet.isCurrent(attributes)) {
+            return stylesheet;
+        }
+
+        logger.debug("compiling stylesheet '{}'", path);
+        try {
+            Templates templates = TransformerFactory.newInstance().newTemplates(new StreamSource(path.toFile()));
+            stylesheet = new CompiledStylesheet(templates, attributes);
+        } catch (TransformerConfigurationException e) {
+            stylesheets.remove(filename);
+            logger.error("transformation throws exception", e);
+            throw new TransformationException("transformation throws exception", e);
+        }
+        stylesheets.put(filename, stylesheet);
+        return stylesheet;
+    }
 }
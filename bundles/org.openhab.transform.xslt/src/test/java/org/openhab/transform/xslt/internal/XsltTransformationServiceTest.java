@@ -19,6 +19,12 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -54,4 +60,49 @@ public class XsltTransformationServiceTest extends AbstractTransformationService
         // Asserts
         assertEquals("8", transformedResponse);
     }
+
+    @Test
+    public void testModifiedStylesheetIsRecompiled() throws TransformationException, IOException {
+        Path xsl = transformHttpPath.resolve("google_weather_modified.xsl");
+        Files.copy(getClass().getResourceAsStream("google_weather.xsl"), xsl, StandardCopyOption.REPLACE_EXISTING);
+        assertEquals("8", processor.transform("http/google_weather_modified.xsl", source));
+        // the cached stylesheet is reused
+        assertEquals("8", processor.transform("http/google_weather_modified.xsl", source));
+
+        Files.writeString(xsl, Files.readString(xsl).replace("temp_c", "temp_f"));
+        Files.setLastModifiedTime(xsl, FileTime.fromMillis(Files.getLastModifiedTime(xsl).toMillis() + 2000));
+
+        assertEquals("46", processor.transform("http/google_weather_modified.xsl", source));
+    }
+
+    @Test
+    public void testConcurrentTransformations() throws Exception {
+        Files.copy(getClass().getResourceAsStream("google_weather.xsl"),
+                transformHttpPath.resolve("google_weather.xsl"), StandardCopyOption.REPLACE_EXISTING);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 40; i++) {
+                results.add(executor.submit(() -> processor.transform("http/google_weather.xsl", source)));
+            }
+            for (Future<String> result : results) {
+                assertEquals("8", result.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testTransformAfterDeactivate() throws TransformationException, IOException {
+        Files.copy(getClass().getResourceAsStream("google_weather.xsl"),
+                transformHttpPath.resolve("google_weather.xsl"), StandardCopyOption.REPLACE_EXISTING);
+        assertEquals("8", processor.transform("http/google_weather.xsl", source));
+
+        processor.deactivate();
+
+        // the stylesheet is compiled again
+        assertEquals("8", processor.transform("http/google_weather.xsl", source));
+    }
 }
@@ -29,6 +29,7 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Stream;
@@ -458,31 +459,14 @@ public class ModbusDataHandlerTest extends AbstractModbusOSGiTest {
     private ModbusDataThingHandler testReadHandlingGeneric(ModbusReadFunctionCode functionCode, String start,
             String transform, ValueType valueType, BitArray bits, ModbusRegisterArray registers, Exception error,
             BundleContext context, boolean autoCreateItemsAndLinkToChannels) {
-        ModbusSlaveEndpoint endpoint = new ModbusTCPSlaveEndpoint("thisishost", 502, false);
-
-        int pollLength = 3;
-
-        // Minimally mocked request
-        ModbusReadRequestBlueprint request = Mockito.mock(ModbusReadRequestBlueprint.class);
-        doReturn(pollLength).when(request).getDataLength();
-        doReturn(functionCode).when(request).getFunctionCode();
-
-        PollTask task = Mockito.mock(PollTask.class);
-        doReturn(endpoint).when(task).getEndpoint();
-        doReturn(request).when(task).getRequest();
-
-        Bridge poller = createPollerMock("poller1", task);
-
         Configuration dataConfig = new Configuration();
         dataConfig.put("readStart", start);
         dataConfig.put("readTransform", transform);
         dataConfig.put("readValueType", valueType.getConfigValue());
 
-        String thingId = "read1";
-        ModbusDataThingHandler dataHandler = createDataHandler(thingId, poller,
-                builder -> builder.withConfiguration(dataConfig), context, autoCreateItemsAndLinkToChannels);
-
-        assertThat(dataHandler.getThing().getStatus(), is(equalTo(ThingStatus.ONLINE)));
+        ModbusDataThingHandler dataHandler = createReadHandler(functionCode, dataConfig, context,
+                autoCreateItemsAndLinkToChannels);
+        ModbusReadRequestBlueprint request = Mockito.mock(ModbusReadRequestBlueprint.class);
 
         // call callbacks
         if (bits != null) {
@@ -505,6 +489,32 @@ public class ModbusDataHandlerTest extends AbstractModbusOSGiTest {
         return dataHandler;
     }
 
+    @SuppressWarnings({ "null" })
+    private ModbusDataThingHandler createReadHandler(ModbusReadFunctionCode functionCode, Configuration dataConfig,
+            BundleContext context, boolean autoCreateItemsAndLinkToChannels) {
+        ModbusSlaveEndpoint endpoint = new ModbusTCPSlaveEndpoint("thisishost", 502, false);
+
+        int pollLength = 3;
+
+        // Minimally mocked request
+        ModbusReadRequestBlueprint request = Mockito.mock(ModbusReadRequestBlueprint.class);
+        doReturn(pollLength).when(request).getDataLength();
+        doReturn(functionCode).when(request).getFunctionCode();
+
+        PollTask task = Mockito.mock(PollTask.class);
+        doReturn(endpoint).when(task).getEndpoint();
+        doReturn(request).when(task).getRequest();
+
+        Bridge poller = createPollerMock("poller1", task);
+
+        String thingId = "read1";
+        ModbusDataThingHandler dataHandler = createDataHandler(thingId, poller,
+                builder -> builder.withConfiguration(dataConfig), context, autoCreateItemsAndLinkToChannels);
+
+        assertThat(dataHandler.getThing().getStatus(), is(equalTo(ThingStatus.ONLINE)));
+        return dataHandler;
+    }
+
     private ModbusDataThingHandler testWriteHandlingGeneric(String start, String transform, ValueType valueType,
             String writeType, ModbusWriteFunctionCode successFC, String channel, Command command, Exception error,
             BundleContext context) {
@@ -659,6 +669,116 @@ public class ModbusDataHandlerTest extends AbstractModbusOSGiTest {
         assertSingleStateUpdate(dataHandler, CHANNEL_STRING, is(equalTo(new StringType("ON"))));
     }
 
+    private ModbusDataThingHandler createRegisterReadHandler(String start, String transform, String valueType,
+            long updateUnchangedValuesEveryMillis) {
+        Configuration dataConfig = new Configuration();
+        dataConfig.put("readStart", start);
+        dataConfig.put("readTransform", transform);
+        dataConfig.put("readValueType", valueType);
+        dataConfig.put("updateUnchangedValuesEveryMillis", updateUnchangedValuesEveryMillis);
+        return createReadHandler(ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, dataConfig, bundleContext, true);
+    }
+
+    private static void poll(ModbusDataThingHandler dataHandler, int... registers) {
+        dataHandler.onReadResult(new AsyncModbusReadResult(Mockito.mock(ModbusReadRequestBlueprint.class),
+                new ModbusRegisterArray(registers)));
+    }
+
+    private void assertStateUpdates(ModbusDataThingHandler handler, String channel, List<State> expected) {
+        String itemName = getItemName(new ChannelUID(handler.getThing().getUID(), channel));
+        waitForAssert(() -> assertEquals(expected, getStateUpdates(itemName)));
+    }
+
+    private void assertStateUpdateCount(ModbusDataThingHandler handler, String channel, int expected) {
+        String itemName = getItemName(new ChannelUID(handler.getThing().getUID(), channel));
+        waitForAssert(() -> {
+            List<State> updates = getStateUpdates(itemName);
+            assertEquals(expected, updates == null ? 0 : updates.size());
+        });
+    }
+
+    @Test
+    public void testOnRegistersUnchangedOnlyUpdatesLastReadSuccess() {
+        ModbusDataThingHandler dataHandler = createRegisterReadHandler("1", "default", "int16", 60_000L);
+
+        poll(dataHandler, 0, 5, 0);
+        assertStateUpdateCount(dataHandler, CHANNEL_LAST_READ_SUCCESS, 1);
+        poll(dataHandler, 0, 5, 0);
+        assertStateUpdateCount(dataHandler, CHANNEL_LAST_READ_SUCCESS, 2);
+        // registers not read by this thing changed
+        poll(dataHandler, 7, 5, 9);
+        assertStateUpdateCount(dataHandler, CHANNEL_LAST_READ_SUCCESS, 3);
+        poll(dataHandler, 7, 6, 9);
+        assertStateUpdateCount(dataHandler, CHANNEL_LAST_READ_SUCCESS, 4);
+
+        assertStateUpdates(dataHandler, CHANNEL_NUMBER, List.of(new DecimalType(5), new DecimalType(6)));
+        assertStateUpdates(dataHandler, CHANNEL_STRING, List.of(new StringType("5"), new StringType("6")));
+        assertStateUpdateCount(dataHandler, CHANNEL_LAST_READ_ERROR, 0);
+    }
+
+    @Test
+    public void testOnRegistersUnchangedUpdatedAfterExpiry() throws InterruptedException {
+        ModbusDataThingHandler dataHandler = createRegisterReadHandler("1", "default", "int16", 500L);
+
+        poll(dataHandler, 0, 5, 0);
+        poll(dataHandler, 0, 5, 0);
+        assertStateUpdateCount(dataHandler, CHANNEL_LAST_READ_SUCCESS, 2);
+        assertStateUpdates(dataHandler, CHANNEL_NUMBER, List.of(new DecimalType(5)));
+
+        Thread.sleep(700);
+        poll(dataHandler, 0, 5, 0);
+
+        assertStateUpdateCount(dataHandler, CHANNEL_LAST_READ_SUCCESS, 3);
+        assertStateUpdates(dataHandler, CHANNEL_NUMBER, List.of(new DecimalType(5), new DecimalType(5)));
+    }
+
+    @Test
+    public void testOnRegistersUnchangedWithTransformationAreProcessed() {
+        AtomicInteger offset = new AtomicInteger();
+        // the result does not depend on the polled data alone
+        mockTransformation("OFFSET", new TransformationService() {
+
+            @Override
+            public String transform(String function, String source) throws TransformationException {
+                return String.valueOf(Integer.parseInt(source) + offset.get());
+            }
+        });
+        ModbusDataThingHandler dataHandler = createRegisterReadHandler("1", "OFFSET(0)", "int16", 60_000L);
+
+        poll(dataHandler, 0, 5, 0);
+        assertStateUpdateCount(dataHandler, CHANNEL_LAST_READ_SUCCESS, 1);
+        offset.set(10);
+        poll(dataHandler, 0, 5, 0);
+        assertStateUpdateCount(dataHandler, CHANNEL_LAST_READ_SUCCESS, 2);
+
+        assertStateUpdates(dataHandler, CHANNEL_NUMBER, List.of(new DecimalType(5), new DecimalType(15)));
+    }
+
+    /**
+     * Values of less than 16 bits are picked from the register by the sub-index, bits counting from the least
+     * significant bit, and bytes with 0 as low byte and 1 as high byte
+     */
+    @ParameterizedTest
+    @CsvSource({ "0.0,bit,0", "0.1,bit,1", "1.2,bit,0", "1.3,bit,1", "1.15,bit,1", "2.0,bit,1", "2.15,bit,0",
+            "0.0,uint8,2", "0.1,uint8,1", "1.0,uint8,248", "1.1,uint8,128", "1.0,int8,-8", "1.1,int8,-128",
+            "2.1,int8,127" })
+    public void testOnRegistersSubIndex(String start, String valueType, int expected) {
+        ModbusDataThingHandler dataHandler = createRegisterReadHandler(start, "default", valueType, 60_000L);
+
+        poll(dataHandler, 0x0102, 0x80F8, 0x7F01);
+        assertStateUpdates(dataHandler, CHANNEL_NUMBER, List.of(new DecimalType(expected)));
+
+        // the other sub-elements of the register changed, the value did not
+        int unrelated = valueType.equals("bit") ? ~(1 << Integer.parseInt(start.substring(2))) & 0xFFFF
+                : start.endsWith(".0") ? 0xFF00 : 0x00FF;
+        int[] changed = { 0x0102, 0x80F8, 0x7F01 };
+        changed[start.charAt(0) - '0'] ^= unrelated;
+        poll(dataHandler, changed);
+        assertStateUpdateCount(dataHandler, CHANNEL_LAST_READ_SUCCESS, 2);
+
+        assertStateUpdates(dataHandler, CHANNEL_NUMBER, List.of(new DecimalType(expected)));
+    }
+
     @Test
     public void testWriteWithDataAsChildOfEndpoint() throws InvalidSyntaxException {
         captureModbusWrites();